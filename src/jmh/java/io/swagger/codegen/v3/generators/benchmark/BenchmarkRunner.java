@@ -0,0 +1,27 @@
+package io.swagger.codegen.v3.generators.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code target/benchmarks.jar}. Accepts the regular JMH command line options and
+ * always attaches the GC profiler, so every run reports ops/s together with allocation rate.
+ *
+ * <pre>
+ * mvn -Pbenchmarks package
+ * java -jar target/benchmarks.jar ConversionBenchmark -p generator=java,spring -p schemaCount=500
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        final Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
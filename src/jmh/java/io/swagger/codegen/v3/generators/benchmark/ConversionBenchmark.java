@@ -0,0 +1,86 @@
+package io.swagger.codegen.v3.generators.benchmark;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion hot paths of {@link io.swagger.codegen.v3.generators.DefaultCodegenConfig}
+ * and its subclasses: each benchmark converts the whole synthetic spec once per invocation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversionBenchmark {
+
+    @Benchmark
+    public void fromModel(GeneratorState state, Blackhole blackhole) {
+        for (Map.Entry<String, Schema> entry : state.schemas.entrySet()) {
+            blackhole.consume(state.config.fromModel(entry.getKey(), entry.getValue(), state.schemas));
+        }
+    }
+
+    @Benchmark
+    public void fromProperty(GeneratorState state, Blackhole blackhole) {
+        for (Schema schema : state.schemas.values()) {
+            final Map<String, Schema> properties = schema.getProperties();
+            if (properties == null) {
+                continue;
+            }
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                blackhole.consume(state.config.fromProperty(property.getKey(), property.getValue()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void fromOperation(GeneratorState state, Blackhole blackhole) {
+        for (int index = 0; index < state.operations.size(); index++) {
+            blackhole.consume(state.config.fromOperation(state.paths.get(index), state.methods.get(index),
+                    state.operations.get(index), state.schemas, state.openAPI));
+        }
+    }
+
+    @Benchmark
+    public void fromParameter(GeneratorState state, Blackhole blackhole) {
+        final Set<String> imports = new HashSet<>();
+        for (Operation operation : state.operations) {
+            if (operation.getParameters() == null) {
+                continue;
+            }
+            for (Parameter parameter : operation.getParameters()) {
+                blackhole.consume(state.config.fromParameter(parameter, imports));
+            }
+        }
+        blackhole.consume(imports);
+    }
+
+    @Benchmark
+    public void fromRequestBody(GeneratorState state, Blackhole blackhole) {
+        final Set<String> imports = new HashSet<>();
+        for (Operation operation : state.operations) {
+            final RequestBody requestBody = operation.getRequestBody();
+            if (requestBody == null) {
+                continue;
+            }
+            blackhole.consume(state.config.fromRequestBody(requestBody, state.schemas, imports));
+        }
+        blackhole.consume(imports);
+    }
+}
@@ -0,0 +1,102 @@
+package io.swagger.codegen.v3.generators.benchmark;
+
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Benchmark state holding one generator, discovered through META-INF/services exactly like the
+ * codegen CLI does, prepared against a synthetic spec of the requested size. The generator and the spec are created
+ * again before every invocation, so each invocation measures a first conversion.
+ */
+@State(Scope.Benchmark)
+public class GeneratorState {
+
+    @Param({"html", "html2", "dynamic-html", "kotlin-server", "kotlin-client", "jaxrs-di", "inflector", "jaxrs-cxf",
+            "jaxrs-spec", "jaxrs-cxf-client", "jaxrs-resteasy-eap", "spring", "jaxrs-resteasy", "java", "jaxrs-jersey",
+            "jaxrs-cxf-cdi", "openapi-yaml", "openapi", "typescript-angular", "php", "swift4", "swift3",
+            "scala-akka-http-server", "scala"})
+    public String generator;
+
+    @Param({"50", "500"})
+    public int schemaCount;
+
+    @Param({"100"})
+    public int operationCount;
+
+    public DefaultCodegenConfig config;
+    public OpenAPI openAPI;
+    public Map<String, Schema> schemas;
+    public List<String> paths = new ArrayList<>();
+    public List<String> methods = new ArrayList<>();
+    public List<Operation> operations = new ArrayList<>();
+
+    private Class<? extends DefaultCodegenConfig> generatorClass;
+    private String outputDir;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        generatorClass = loadGenerator(generator).getClass();
+        final File outputDir = Files.createTempDirectory("codegen-benchmark").toFile();
+        outputDir.deleteOnExit();
+        this.outputDir = outputDir.getAbsolutePath();
+    }
+
+    @Setup(Level.Invocation)
+    public void prepare() throws Exception {
+        // new generator and spec for every invocation: nothing memoized by an earlier one may turn this one into
+        // cache hits
+        config = generatorClass.getDeclaredConstructor().newInstance();
+        config.setOutputDir(outputDir);
+
+        openAPI = SyntheticSpec.create(schemaCount, operationCount);
+        config.processOpts();
+        config.preprocessOpenAPI(openAPI);
+        schemas = openAPI.getComponents().getSchemas();
+
+        paths.clear();
+        methods.clear();
+        operations.clear();
+        for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation : entry.getValue().readOperationsMap().entrySet()) {
+                paths.add(entry.getKey());
+                methods.add(operation.getKey().name().toLowerCase());
+                operations.add(operation.getValue());
+            }
+        }
+    }
+
+    public static DefaultCodegenConfig loadGenerator(String name) {
+        final Iterator<CodegenConfig> configs = ServiceLoader.load(CodegenConfig.class).iterator();
+        while (configs.hasNext()) {
+            final CodegenConfig config;
+            try {
+                config = configs.next();
+            } catch (ServiceConfigurationError e) {
+                // a broken registration must not hide the generators listed after it
+                continue;
+            }
+            if (config.getName().equals(name)) {
+                return (DefaultCodegenConfig) config;
+            }
+        }
+        throw new RuntimeException("Can't load config class with name " + name);
+    }
+}
@@ -0,0 +1,74 @@
+package io.swagger.codegen.v3.generators.benchmark;
+
+import io.swagger.codegen.v3.CodegenOperation;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DefaultCodegenConfig#addOperationToGroup} for a monolith spec putting all of its operations into a
+ * single tag, one in ten of them sharing its operation id with another one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OperationGroupingBenchmark {
+
+    @Param({"5000"})
+    public int operationCount;
+
+    private DefaultCodegenConfig config;
+    private List<String> operationIds;
+    private List<CodegenOperation> operations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        config = new JavaClientCodegen();
+        config.processOpts();
+        operationIds = new ArrayList<>();
+        for (int index = 0; index < operationCount; index++) {
+            operationIds.add("operation" + (index % 10 == 0 ? index / 10 : index));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createOperations() {
+        // addOperationToGroup renames duplicated operations, start from the original ids on every invocation
+        operations = new ArrayList<>(operationCount);
+        for (String operationId : operationIds) {
+            final CodegenOperation operation = new CodegenOperation();
+            operation.operationId = operationId;
+            operation.path = "/" + operationId;
+            operations.add(operation);
+        }
+    }
+
+    @Benchmark
+    public Map<String, List<CodegenOperation>> addOperationToGroup() {
+        final Map<String, List<CodegenOperation>> groups = new HashMap<>();
+        for (CodegenOperation operation : operations) {
+            config.addOperationToGroup("monolith", operation.path, null, operation, groups);
+        }
+        return groups;
+    }
+}
@@ -0,0 +1,141 @@
+package io.swagger.codegen.v3.generators.benchmark;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.BooleanSchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.DateTimeSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.media.UUIDSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds deterministic, in-memory OpenAPI documents of a given size for the benchmarks.
+ * Every schema mixes primitive, enum, array, map and $ref properties, and every fifth schema
+ * is an allOf composition, so the conversion code paths match what real specs exercise.
+ */
+public class SyntheticSpec {
+
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/";
+
+    public static OpenAPI create(int schemaCount, int operationCount) {
+        final OpenAPI openAPI = new OpenAPI();
+        openAPI.setInfo(new Info().title("Synthetic benchmark API").version("1.0.0").description("Generated for benchmarking."));
+
+        final Map<String, Schema> schemas = new LinkedHashMap<>();
+        for (int index = 0; index < schemaCount; index++) {
+            schemas.put(schemaName(index), createSchema(index));
+        }
+        openAPI.setComponents(new Components().schemas(schemas));
+
+        final Paths paths = new Paths();
+        for (int index = 0; index < operationCount; index++) {
+            final String resource = "resource" + (index % 10);
+            final String path = String.format("/%s/{%sId}/items%d", resource, resource, index);
+            paths.addPathItem(path, new PathItem().get(createGetOperation(index, resource, schemaCount))
+                    .post(createPostOperation(index, resource, schemaCount)));
+        }
+        openAPI.setPaths(paths);
+        return openAPI;
+    }
+
+    public static String schemaName(int index) {
+        return "Model_" + index;
+    }
+
+    private static Schema createSchema(int index) {
+        final ObjectSchema schema = new ObjectSchema();
+        schema.setDescription("Synthetic model number " + index + " with a \"quoted\" description.");
+        schema.addProperties("id", new IntegerSchema().format("int64"));
+        schema.addProperties("display_name", new StringSchema().maxLength(64));
+        schema.addProperties("amount", new NumberSchema());
+        schema.addProperties("active", new BooleanSchema());
+        schema.addProperties("created-at", new DateTimeSchema());
+        schema.addProperties("uuid", new UUIDSchema());
+        final StringSchema status = new StringSchema();
+        status.setEnum(Arrays.asList("available", "pending", "sold-out"));
+        schema.addProperties("status", status);
+        schema.addProperties("tags", new ArraySchema().items(new StringSchema()));
+        schema.addProperties("attributes", new MapSchema().additionalProperties(new IntegerSchema()));
+        schema.setRequired(Arrays.asList("id", "display_name"));
+
+        if (index == 0) {
+            return schema;
+        }
+        final String referenced = schemaName(index - 1);
+        schema.addProperties("related", new Schema().$ref(SCHEMA_REF_PREFIX + referenced));
+        schema.addProperties("relatedList", new ArraySchema().items(new Schema().$ref(SCHEMA_REF_PREFIX + referenced)));
+
+        if (index % 5 != 0) {
+            return schema;
+        }
+        final ComposedSchema composed = new ComposedSchema();
+        composed.setDescription(schema.getDescription());
+        composed.addAllOfItem(new Schema().$ref(SCHEMA_REF_PREFIX + referenced));
+        composed.addAllOfItem(schema);
+        return composed;
+    }
+
+    private static Operation createGetOperation(int index, String resource, int schemaCount) {
+        final Operation operation = new Operation()
+                .operationId("get" + resource + "Item" + index)
+                .summary("Fetch item " + index)
+                .addTagsItem(resource);
+        operation.addParametersItem(new PathParameter().name(resource + "Id").schema(new StringSchema()));
+        operation.addParametersItem(new QueryParameter().name("limit").schema(new IntegerSchema()));
+        operation.addParametersItem(new QueryParameter().name("filter-by").schema(new ArraySchema().items(new StringSchema())));
+        operation.setResponses(responses(schemaRef(index, schemaCount)));
+        return operation;
+    }
+
+    private static Operation createPostOperation(int index, String resource, int schemaCount) {
+        final Operation operation = new Operation()
+                .operationId("create" + resource + "Item" + index)
+                .summary("Create item " + index)
+                .addTagsItem(resource);
+        final Parameter pathParameter = new PathParameter().name(resource + "Id").schema(new StringSchema());
+        operation.addParametersItem(pathParameter);
+        operation.setRequestBody(new RequestBody()
+                .required(Boolean.TRUE)
+                .content(new Content().addMediaType("application/json", new MediaType().schema(schemaRef(index, schemaCount)))));
+        operation.setResponses(responses(schemaRef(index, schemaCount)));
+        return operation;
+    }
+
+    private static Schema schemaRef(int index, int schemaCount) {
+        if (schemaCount == 0) {
+            return new ObjectSchema();
+        }
+        return new Schema().$ref(SCHEMA_REF_PREFIX + schemaName(index % schemaCount));
+    }
+
+    private static ApiResponses responses(Schema schema) {
+        final ApiResponses responses = new ApiResponses();
+        responses.addApiResponse("200", new ApiResponse()
+                .description("successful operation")
+                .content(new Content().addMediaType("application/json", new MediaType().schema(schema))));
+        responses.addApiResponse("404", new ApiResponse().description("not found"));
+        return responses;
+    }
+}
@@ -10,6 +10,7 @@ import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenModelFactory;
 import io.swagger.codegen.v3.CodegenModelType;
+import io.swagger.codegen.v3.CodegenObject;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
@@ -17,6 +18,7 @@ import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenSecurity;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.handlebars.BaseItemsHelper;
+import io.swagger.codegen.v3.generators.handlebars.CachedHandlebarTemplateEngine;
 import io.swagger.codegen.v3.generators.handlebars.BracesHelper;
 import io.swagger.codegen.v3.generators.handlebars.HasHelper;
 import io.swagger.codegen.v3.generators.handlebars.HasNotHelper;
@@ -24,13 +26,29 @@ import io.swagger.codegen.v3.generators.handlebars.IsHelper;
 import io.swagger.codegen.v3.generators.handlebars.IsNotHelper;
 import io.swagger.codegen.v3.generators.handlebars.NotEmptyHelper;
 import io.swagger.codegen.v3.generators.handlebars.StringUtilHelper;
-import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
+import io.swagger.codegen.v3.generators.util.ConversionPrefetcher;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.generators.util.InlineSchemaDeduplicator;
+import io.swagger.codegen.v3.generators.util.InheritanceGraph;
+import io.swagger.codegen.v3.generators.util.NameCache;
+import io.swagger.codegen.v3.generators.util.NameCache.Transform;
+import io.swagger.codegen.v3.generators.util.SchemaTypeCache;
+import io.swagger.codegen.v3.generators.util.SchemaTypeCache.Resolution;
+import io.swagger.codegen.v3.generators.util.StringPool;
+import io.swagger.codegen.v3.generators.util.TextEscaper;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
+import io.swagger.codegen.v3.generators.util.NameFormatter;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.OperationIdIndex;
+import io.swagger.codegen.v3.generators.util.PropertyPrototypes;
+import io.swagger.codegen.v3.generators.util.VendorExtensions;
 import io.swagger.codegen.v3.templates.TemplateEngine;
 import io.swagger.codegen.v3.utils.ModelUtils;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BinarySchema;
@@ -64,7 +82,6 @@ import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ObjectUtils;
-import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -72,18 +89,26 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -99,14 +124,33 @@ import static io.swagger.codegen.v3.generators.CodegenHelper.getDefaultIncludes;
 import static io.swagger.codegen.v3.generators.CodegenHelper.getImportMappings;
 import static io.swagger.codegen.v3.generators.CodegenHelper.getTypeMappings;
 import static io.swagger.codegen.v3.generators.CodegenHelper.initalizeSpecialCharacterMapping;
-import static io.swagger.codegen.v3.utils.ModelUtils.processCodegenModels;
 
 public abstract class DefaultCodegenConfig implements CodegenConfig {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultCodegenConfig.class);
+    private static final Map<String, List<CodegenArgument>> LANGUAGE_ARGUMENTS = new ConcurrentHashMap<>();
+    // whether a generator class has its own escapeUnsafeCharacters, which escapeText must call
+    private static final ClassValue<Boolean> CUSTOM_UNSAFE_CHARACTERS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("escapeUnsafeCharacters", String.class).getDeclaringClass() != DefaultCodegenConfig.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
 
     public static final String DEFAULT_CONTENT_TYPE = "application/json";
     public static final String REQUEST_BODY_NAME = "body";
     public static final String DEFAULT_TEMPLATE_VERSION = "v2";
+    public static final String PARALLEL_MODELS = "parallelModels";
+    public static final String PARALLEL_OPERATIONS = "parallelOperations";
+    public static final String GENERATE_MODEL_JSON = "generateModelJson";
+    public static final String GENERATION_REPORT = "generationReport";
+    public static final String INCREMENTAL = "incremental";
+    public static final String SKIP_UNCHANGED_FILES = "skipUnchangedFiles";
+    public static final String STRING_POOL = "stringPool";
+    public static final String DEDUPLICATE_INLINE_SCHEMAS = "deduplicateInlineSchemas";
 
     protected String inputSpec;
     protected String outputFolder = StringUtils.EMPTY;
@@ -155,16 +199,37 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     // Then translated back during JSON encoding and decoding
     protected Map<String, String> specialCharReplacements = new HashMap<String, String>();
     // When a model is an alias for a simple type
-    protected Map<String, String> typeAliases = null;
+    protected volatile Map<String, String> typeAliases = null;
+    protected NameCache nameCache = new NameCache();
+    protected SchemaTypeCache schemaTypeCache = new SchemaTypeCache();
+    protected StringPool stringPool = new StringPool();
+    protected PropertyPrototypes propertyPrototypes = new PropertyPrototypes();
+    protected Integer parallelModels;
+    private final ConversionPrefetcher<Schema, CodegenModel> modelPrefetcher = new ConversionPrefetcher<>();
+    private final Map<Schema, ParentModel> parentModels = Collections.synchronizedMap(new IdentityHashMap<>());
+    private InheritanceGraph<Schema> inheritance;
+    private final Map<Schema, FlattenedProperties> flattenedProperties = new IdentityHashMap<>();
+    private Map<String, Schema> flattenedDefinitions;
+    private Map<String, Schema> inheritanceDefinitions;
+    private Map<String, List<CodegenOperation>> indexedOperations;
+    private final Map<String, OperationIdIndex> operationIdIndexes = new HashMap<>();
+    protected Integer parallelOperations;
+    private final ConversionPrefetcher<OperationInput, CodegenOperation> operationPrefetcher = new ConversionPrefetcher<>();
+
+    private volatile boolean configFrozen;
 
     protected String ignoreFilePathOverride;
     protected boolean useOas2 = false;
+    protected boolean generateModelJson = true;
+    protected volatile GenerationReport generationReport;
 
     public List<CliOption> cliOptions() {
         return cliOptions;
     }
 
     public void processOpts() {
+        thawConfig();
+
         if (additionalProperties.containsKey(CodegenConstants.TEMPLATE_DIR)) {
             this.setTemplateDir((String) additionalProperties.get(CodegenConstants.TEMPLATE_DIR));
         }
@@ -229,14 +294,177 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (additionalProperties.containsKey(CodegenConstants.USE_OAS2)) {
             this.setUseOas2(Boolean.valueOf(additionalProperties.get(CodegenConstants.USE_OAS2).toString()));
         }
+
+        if (additionalProperties.containsKey(GENERATE_MODEL_JSON)) {
+            this.setGenerateModelJson(Boolean.valueOf(additionalProperties.get(GENERATE_MODEL_JSON).toString()));
+        }
+
+        if (additionalProperties.get(GENERATION_REPORT) != null && generationReport == null) {
+            this.setGenerationReport(new GenerationReport(getName()));
+        }
+
+        if (additionalProperties.containsKey(STRING_POOL)) {
+            stringPool.setEnabled(Boolean.valueOf(additionalProperties.get(STRING_POOL).toString()));
+        }
+        // strings of the previous run aren't shared with this one
+        stringPool.clear();
+
+        // prefixes, suffixes and reserved words may have changed
+        clearConversionCaches();
+    }
+
+    /**
+     * Drop everything memoized from earlier conversions (names, schema types, properties, parent models, flattened
+     * properties, inheritance, type aliases, prefetched models and operations), to be called whenever an option
+     * affecting the conversion changes.
+     */
+    protected void clearConversionCaches() {
+        nameCache.clear();
+        schemaTypeCache.clear();
+        propertyPrototypes.clear();
+        parentModels.clear();
+        synchronized (flattenedProperties) {
+            flattenedProperties.clear();
+            flattenedDefinitions = null;
+        }
+        modelPrefetcher.clear();
+        operationPrefetcher.clear();
+        synchronized (this) {
+            typeAliases = null;
+            inheritance = null;
+            inheritanceDefinitions = null;
+            operationIdIndexes.clear();
+            indexedOperations = null;
+        }
+    }
+
+    /**
+     * Put the generator back to the state of a new instance, e.g. to use one instance for the runs of a long running
+     * service. Everything set by a run (options, additional properties, supporting files added by processOpts, ...) is
+     * dropped, what only depends on the generator class (compiled templates, language arguments) is kept. Options of
+     * the next run are set after the reset, like on a new instance.
+     *
+     * The state of a new instance is read from a new instance built with the constructor without arguments, which
+     * generator classes therefore need. Fields are then restored one by one:
+     * <ul>
+     * <li>fields which aren't final are set to the value of the new instance,</li>
+     * <li>final collections, maps and arrays keep their instance but get the content of the new instance back
+     * (unmodifiable ones are left alone, they can't have changed),</li>
+     * <li>any other final field (e.g. a builder or a custom cache) can't be restored and is kept as it is: generators
+     * with such state have to override this method and reset it after calling super.</li>
+     * </ul>
+     * Generators must not be reset while running.
+     */
+    public void reset() {
+        final DefaultCodegenConfig initial;
+        try {
+            final Constructor<? extends DefaultCodegenConfig> constructor = getClass().getDeclaredConstructor();
+            constructor.setAccessible(true);
+            initial = constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Could not reset " + getClass().getName(), e);
+        }
+        for (Class<?> type = getClass(); DefaultCodegenConfig.class.isAssignableFrom(type); type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                resetField(field, initial);
+            }
+        }
+        clearConversionCaches();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resetField(Field field, DefaultCodegenConfig initial) {
+        final int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || field.isSynthetic()) {
+            return;
+        }
+        try {
+            field.setAccessible(true);
+            final Object initialValue = field.get(initial);
+            if (!Modifier.isFinal(modifiers)) {
+                field.set(this, initialValue);
+                return;
+            }
+            // final collections, maps and arrays keep their instance
+            final Object value = field.get(this);
+            if (value == null || value == initialValue) {
+                return;
+            }
+            if (value instanceof Collection) {
+                ((Collection<Object>) value).clear();
+                ((Collection<Object>) value).addAll((Collection<Object>) initialValue);
+            } else if (value instanceof Map) {
+                ((Map<Object, Object>) value).clear();
+                ((Map<Object, Object>) value).putAll((Map<Object, Object>) initialValue);
+            } else if (value.getClass().isArray() && initialValue != null
+                    && Array.getLength(value) == Array.getLength(initialValue)) {
+                System.arraycopy(initialValue, 0, value, 0, Array.getLength(value));
+            }
+        } catch (UnsupportedOperationException e) {
+            // unmodifiable, nothing to restore
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Could not reset " + field, e);
+        }
+    }
+
+    /**
+     * Replace the mappings read while converting (type, import and instantiation mappings, reserved words, primitives)
+     * with read only copies, so they can be shared by concurrent conversions and a later change fails instead of
+     * affecting part of the output. Happens before the first model or operation is converted, {@link #processOpts()}
+     * makes them writable again.
+     */
+    public void freezeConfig() {
+        if (configFrozen) {
+            return;
+        }
+        synchronized (this) {
+            if (configFrozen) {
+                return;
+            }
+            typeMapping = Collections.unmodifiableMap(new HashMap<>(typeMapping));
+            instantiationTypes = Collections.unmodifiableMap(new HashMap<>(instantiationTypes));
+            importMapping = Collections.unmodifiableMap(new HashMap<>(importMapping));
+            reservedWordsMappings = Collections.unmodifiableMap(new HashMap<>(reservedWordsMappings));
+            specialCharReplacements = Collections.unmodifiableMap(new HashMap<>(specialCharReplacements));
+            reservedWords = Collections.unmodifiableSet(new HashSet<>(reservedWords));
+            languageSpecificPrimitives = Collections.unmodifiableSet(new HashSet<>(languageSpecificPrimitives));
+            defaultIncludes = Collections.unmodifiableSet(new HashSet<>(defaultIncludes));
+            configFrozen = true;
+        }
+    }
+
+    /**
+     * Make the mappings frozen by {@link #freezeConfig()} writable again.
+     */
+    protected synchronized void thawConfig() {
+        if (!configFrozen) {
+            return;
+        }
+        typeMapping = new HashMap<>(typeMapping);
+        instantiationTypes = new HashMap<>(instantiationTypes);
+        importMapping = new HashMap<>(importMapping);
+        reservedWordsMappings = new HashMap<>(reservedWordsMappings);
+        specialCharReplacements = new HashMap<>(specialCharReplacements);
+        reservedWords = new HashSet<>(reservedWords);
+        languageSpecificPrimitives = new HashSet<>(languageSpecificPrimitives);
+        defaultIncludes = new HashSet<>(defaultIncludes);
+        configFrozen = false;
+    }
+
+    public boolean isConfigFrozen() {
+        return configFrozen;
     }
 
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessAllModels(Map<String, Object> processedModels) {
-        if (supportsInheritance) {
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_ALL_MODELS, null)) {
+            if (!supportsInheritance) {
+                return processedModels;
+            }
             // Index all CodegenModels by model name.
             Map<String, CodegenModel> allModels = new HashMap<>();
             for (Map.Entry<String, Object> entry : processedModels.entrySet()) {
-                String modelName = toModelName(entry.getKey());
+                String modelName = nameCache.get(Transform.MODEL_NAME, entry.getKey(), this::toModelName);
                 Map<String, Object> inner = (Map<String, Object>) entry.getValue();
                 List<Map<String, Object>> models = (List<Map<String, Object>>) inner.get("models");
                 for (Map<String, Object> mo : models) {
@@ -244,15 +472,75 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                     allModels.put(modelName, cm);
                 }
             }
-            processCodegenModels(allModels);
+            linkModels(allModels);
+            return processedModels;
         }
-        return processedModels;
+    }
+
+    /**
+     * Link every model to its parent and interfaces, and to its subtypes as children: the models mapped by its
+     * discriminator, or all of its descendants if it has none. The hierarchy is indexed once instead of walked up again
+     * from every model.
+     *
+     * @param allModels all models by model name
+     */
+    protected void linkModels(Map<String, CodegenModel> allModels) {
+        final InheritanceGraph<CodegenModel> models = new InheritanceGraph<>(allModels, CodegenModel::getParent,
+                CodegenModel::getInterfaces, model -> model.getDiscriminator() != null);
+        for (CodegenModel model : allModels.values()) {
+            if (model.getParent() != null) {
+                model.setParentModel(allModels.get(model.getParent()));
+            }
+            if (model.getInterfaces() == null || model.getInterfaces().isEmpty()) {
+                continue;
+            }
+            model.setInterfaceModels(new ArrayList<>(model.getInterfaces().size()));
+            for (String interfaceName : model.getInterfaces()) {
+                final CodegenModel interfaceModel = allModels.get(interfaceName);
+                if (interfaceModel != null) {
+                    model.getInterfaceModels().add(interfaceModel);
+                }
+            }
+        }
+        for (Map.Entry<String, CodegenModel> entry : allModels.entrySet()) {
+            final List<String> subtypes = models.getSubtypes(entry.getKey());
+            if (subtypes.isEmpty()) {
+                continue;
+            }
+            final CodegenModel model = entry.getValue();
+            if (model.getChildren() == null) {
+                model.setChildren(new ArrayList<>());
+            }
+            for (String subtype : subtypes) {
+                model.getChildren().add(allModels.get(subtype));
+            }
+        }
+    }
+
+    /**
+     * Inheritance between the schemas of the spec (parents, interfaces, ancestors and discriminator mappings), indexed
+     * once per run.
+     *
+     * @param allDefinitions all schemas of the spec
+     * @return index of the inheritance between the schemas
+     */
+    protected synchronized InheritanceGraph<Schema> getInheritance(Map<String, Schema> allDefinitions) {
+        if (inheritance == null || inheritanceDefinitions != allDefinitions) {
+            inheritance = new InheritanceGraph<>(allDefinitions == null ? Collections.<String, Schema>emptyMap() : allDefinitions,
+                    schema -> schema instanceof ComposedSchema ? getParentName((ComposedSchema) schema) : null,
+                    schema -> schema instanceof ComposedSchema ? getInterfaceNames((ComposedSchema) schema) : null,
+                    schema -> schema.getDiscriminator() != null);
+            inheritanceDefinitions = allDefinitions;
+        }
+        return inheritance;
     }
 
     // override with any special post-processing
-    @SuppressWarnings("static-method")
+    @SuppressWarnings({"static-method", "try"})
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        return objs;
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            return objs;
+        }
     }
 
     /**
@@ -291,7 +579,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                             enumName = value.toString();
                         }
                     }
-                    enumVar.put("name", toEnumVarName(enumName, cm.dataType));
+                    enumVar.put("name", nameCache.get(Transform.ENUM_VAR_NAME, enumName, cm.dataType, this::toEnumVarName));
                     enumVar.put("value", toEnumValue(value.toString(), cm.dataType));
                     enumVars.add(enumVar);
                 }
@@ -363,21 +651,27 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     }
 
     // override with any special post-processing
-    @SuppressWarnings("static-method")
+    @SuppressWarnings({"static-method", "try"})
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        return objs;
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            return objs;
+        }
     }
 
     // override with any special post-processing
-    @SuppressWarnings("static-method")
+    @SuppressWarnings({"static-method", "try"})
     public Map<String, Object> postProcessOperationsWithModels(Map<String, Object> objs, List<Object> allModels) {
-        return objs;
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS_WITH_MODELS, null)) {
+            return objs;
+        }
     }
 
     // override with any special post-processing
-    @SuppressWarnings("static-method")
+    @SuppressWarnings({"static-method", "try"})
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
-        return objs;
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_SUPPORTING_FILE_DATA, null)) {
+            return objs;
+        }
     }
 
     // override to post-process any model properties
@@ -390,12 +684,48 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
     public void postProcessParameter(CodegenParameter parameter){
     }
 
+    /**
+     * Preprocess the spec before anything is converted. Generators overriding it call super first, since the spec is
+     * changed here on request (see {@link #deduplicateInlineSchemas(OpenAPI)}).
+     */
     @Override
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            deduplicateInlineSchemas(openAPI);
+        }
+    }
+
+    /**
+     * Replace the inline schemas of request bodies and responses which have the same structure by one model, and merge
+     * the schemas the parser generated for them when the spec has been flattened, if the "deduplicateInlineSchemas"
+     * option is true (see {@link InlineSchemaDeduplicator}). Run by {@link #preprocessOpenAPI(OpenAPI)}, generators
+     * not running the preprocessing of their parent class run it themselves. Measured as part of preprocessOpenAPI
+     * in the generation report.
+     *
+     * @param openAPI spec, changed in place
+     */
+    protected void deduplicateInlineSchemas(OpenAPI openAPI) {
+        final Object deduplicate = additionalProperties.get(DEDUPLICATE_INLINE_SCHEMAS);
+        if (openAPI == null || deduplicate == null || !Boolean.parseBoolean(deduplicate.toString())) {
+            return;
+        }
+        final InlineSchemaDeduplicator deduplicator = new InlineSchemaDeduplicator();
+        deduplicator.deduplicate(openAPI);
+        deduplicator.logSummary();
+        if (generationReport != null) {
+            generationReport.setCounter(GenerationReport.DEDUPLICATED_INLINE_SCHEMAS,
+                    deduplicator.getReplacedSchemas() + deduplicator.getMergedSchemas().size());
+            generationReport.setCounter(GenerationReport.INLINE_MODELS, deduplicator.getCreatedSchemas().size());
+            generationReport.setCounter(GenerationReport.INLINE_MODEL_NAME_COLLISIONS, deduplicator.getCollisionCount());
+        }
     }
 
     @Override
+    @SuppressWarnings("try")
     public void processOpenAPI(OpenAPI openAPI) {
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PROCESS_OPENAPI, null)) {
+        }
     }
 
     public Mustache.Compiler processCompiler(Mustache.Compiler compiler) {
@@ -404,11 +734,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     @Override
     public TemplateEngine getTemplateEngine() {
-        return new HandlebarTemplateEngine(this);
+        return new CachedHandlebarTemplateEngine(this);
     }
 
     // override with any special text escaping logic
-    @SuppressWarnings("static-method")
     public String escapeText(String input) {
         if (input == null) {
             return input;
@@ -417,15 +746,12 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         // remove \t, \n, \r
         // replace \ with \\
         // replace " with \"
-        // outter unescape to retain the original multi-byte characters
-        // finally escalate characters avoiding code injection
-        return escapeUnsafeCharacters(
-                StringEscapeUtils.unescapeJava(
-                        StringEscapeUtils.escapeJava(input)
-                                .replace("\\/", "/"))
-                        .replaceAll("[\\t\\n\\r]"," ")
-                        .replace("\\", "\\\\")
-                        .replace("\"", "\\\""));
+        // finally escalate characters avoiding code injection, in the same pass unless escapeUnsafeCharacters is
+        // overridden
+        if (CUSTOM_UNSAFE_CHARACTERS.get(getClass())) {
+            return escapeUnsafeCharacters(TextEscaper.escapeText(input, UnsafeCharacters.NONE));
+        }
+        return TextEscaper.escapeText(input, getUnsafeCharacters());
     }
 
     /**
@@ -435,13 +761,19 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return string with unsafe characters removed or escaped
      */
     public String escapeUnsafeCharacters(String input) {
-        LOGGER.warn("escapeUnsafeCharacters should be overridden in the code generator with proper logic to escape " +
-                "unsafe characters");
-        // doing nothing by default and code generator should implement
+        // escaping what getUnsafeCharacters() tells, nothing by default and code generator should implement
         // the logic to prevent code injection
-        // later we'll make this method abstract to make sure
-        // code generator implements this method
-        return input;
+        return TextEscaper.escapeUnsafeCharacters(input, getUnsafeCharacters());
+    }
+
+    /**
+     * Override to escape the unsafe characters of the generated language (e.g. comment delimiters) in the same pass as
+     * the rest of escapeText. Generators with other unsafe characters override escapeUnsafeCharacters instead.
+     *
+     * @return escaping of unsafe characters of the generator
+     */
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.NONE;
     }
 
     /**
@@ -450,8 +782,6 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return string with quotation mark removed or escaped
      */
     public String escapeQuotationMark(String input) {
-        LOGGER.warn("escapeQuotationMark should be overridden in the code generator with proper logic to escape " +
-                "single/double quote");
         return input.replace("\"", "\\\"");
     }
 
@@ -607,10 +937,12 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     public void setModelNamePrefix(String modelNamePrefix){
         this.modelNamePrefix = modelNamePrefix;
+        clearConversionCaches();
     }
 
     public void setModelNameSuffix(String modelNameSuffix){
         this.modelNameSuffix = modelNameSuffix;
+        clearConversionCaches();
     }
 
     public void setApiPackage(String apiPackage) {
@@ -631,6 +963,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
 
     public void setAllowUnicodeIdentifiers(Boolean allowUnicodeIdentifiers) {
         this.allowUnicodeIdentifiers = allowUnicodeIdentifiers;
+        clearConversionCaches();
     }
 
     /**
@@ -650,7 +983,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return the file name of the Api
      */
     public String toApiFilename(String name) {
-        return toApiName(name);
+        return nameCache.get(Transform.API_NAME, name, this::toApiName);
     }
 
     /**
@@ -660,7 +993,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return the file name of the Api
      */
     public String toApiDocFilename(String name) {
-        return toApiName(name);
+        return nameCache.get(Transform.API_NAME, name, this::toApiName);
     }
 
     /**
@@ -670,7 +1003,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return the file name of the Api
      */
     public String toApiTestFilename(String name) {
-        return toApiName(name) + "Test";
+        return nameCache.get(Transform.API_NAME, name, this::toApiName) + "Test";
     }
 
     /**
@@ -934,11 +1267,11 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 LOGGER.error("No Type defined for Additional Property " + additionalProperties + "\n" //
                         + "\tIn Property: " + property);
             }
-            String inner = getSchemaType(additionalProperties);
+            String inner = cachedSchemaType(additionalProperties);
             return instantiationTypes.get("map") + "<String, " + inner + ">";
         } else if (property instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema) property;
-            String inner = getSchemaType(arraySchema.getItems());
+            String inner = cachedSchemaType(arraySchema.getItems());
             return instantiationTypes.get("array") + "<" + inner + ">";
         } else {
             return null;
@@ -1103,13 +1436,54 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return a string presentation of the property type
      */
     public String getTypeDeclaration(Schema schema) {
-        String schemaType = getSchemaType(schema);
+        String schemaType = cachedSchemaType(schema);
         if (typeMapping.containsKey(schemaType)) {
             return typeMapping.get(schemaType);
         }
         return schemaType;
     }
 
+    /**
+     * Same as getSchemaType, memoized per schema object for the run. Overrides resolving nested schemas (items,
+     * additional properties) should use it rather than calling getSchemaType directly.
+     *
+     * @param schema schema to resolve
+     * @return schema type
+     */
+    protected String cachedSchemaType(Schema schema) {
+        return schemaTypeCache.get(Resolution.SCHEMA_TYPE, schema, this::getSchemaType);
+    }
+
+    /**
+     * Same as getTypeDeclaration, memoized per schema object for the run.
+     *
+     * @param schema schema to resolve
+     * @return type declaration
+     */
+    protected String cachedTypeDeclaration(Schema schema) {
+        return schemaTypeCache.get(Resolution.TYPE_DECLARATION, schema, this::getTypeDeclaration);
+    }
+
+    /**
+     * Same as toInstantiationType, memoized per schema object for the run.
+     *
+     * @param schema schema to resolve
+     * @return instantiation type
+     */
+    protected String cachedInstantiationType(Schema schema) {
+        return schemaTypeCache.get(Resolution.INSTANTIATION_TYPE, schema, this::toInstantiationType);
+    }
+
+    /**
+     * Same as toDefaultValue, memoized per schema object for the run.
+     *
+     * @param schema schema to resolve
+     * @return default value
+     */
+    protected String cachedDefaultValue(Schema schema) {
+        return schemaTypeCache.get(Resolution.DEFAULT_VALUE, schema, this::toDefaultValue);
+    }
+
     /**
      * Determine the type alias for the given type if it exists. This feature
      * is only used for Java, because the language does not have a aliasing
@@ -1197,23 +1571,123 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Model object
      */
     public CodegenModel fromModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        freezeConfig();
+        initTypeAliases(allDefinitions);
+        final int parallelism = getParallelModels();
+        if (parallelism > 1 && allDefinitions != null && allDefinitions.get(name) == schema) {
+            // convert all models of the spec in the background, the caller still gets them one by one in its own order
+            modelPrefetcher.start(allDefinitions, getConvertibleModels(allDefinitions), parallelism,
+                    (modelName, modelSchema) -> convertModel(modelName, modelSchema, allDefinitions));
+            final CodegenModel codegenModel = modelPrefetcher.take(allDefinitions, name, schema);
+            if (codegenModel != null) {
+                return codegenModel;
+            }
+        }
+        return convertModel(name, schema, allDefinitions);
+    }
+
+    /**
+     * Convert the parent of a model the way {@link DefaultCodegenConfig#fromModel(String, Schema, Map)} does, for
+     * generators which reconcile a model with its parents (enums, properties). Every parent is converted once per spec
+     * and shared by all of its children, so the returned model must not be modified.
+     *
+     * @param name name of the parent model
+     * @param schema schema of the parent model
+     * @param allDefinitions all schemas of the spec
+     * @return shared, read only parent model
+     */
+    protected CodegenModel fromParentModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        final ParentModel cached = schema == null ? null : parentModels.get(schema);
+        if (cached != null && cached.name.equals(name) && cached.allDefinitions == allDefinitions) {
+            return cached.codegenModel;
+        }
+        freezeConfig();
+        initTypeAliases(allDefinitions);
+        final CodegenModel codegenModel = convertModel(name, schema, allDefinitions);
+        if (schema != null && name != null) {
+            parentModels.put(schema, new ParentModel(name, allDefinitions, codegenModel));
+        }
+        return codegenModel;
+    }
+
+    private void initTypeAliases(Map<String, Schema> allDefinitions) {
         if (typeAliases == null) {
-            // Only do this once during first call
-            typeAliases = getAllAliases(allDefinitions);
+            synchronized (this) {
+                if (typeAliases == null) {
+                    // Only do this once during first call
+                    typeAliases = getAllAliases(allDefinitions);
+                    // types resolved so far didn't know about the aliases
+                    schemaTypeCache.clear();
+                    propertyPrototypes.clear();
+                }
+            }
+        }
+    }
+
+    private Map<String, Schema> getConvertibleModels(Map<String, Schema> allDefinitions) {
+        final Map<String, Schema> models = new LinkedHashMap<>();
+        for (Map.Entry<String, Schema> entry : allDefinitions.entrySet()) {
+            // imported models are never converted
+            if (!importMapping.containsKey(entry.getKey())) {
+                models.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return models;
+    }
+
+    /**
+     * Create the model instance, serializing modelJson lazily unless a custom model class is registered.
+     */
+    private CodegenModel newCodegenModel() {
+        final CodegenModel codegenModel = newCodegenObject(CodegenModelType.MODEL);
+        if (codegenModel.getClass() == CodegenModel.class) {
+            return withVendorExtensions(new LazyJsonCodegenModel());
+        }
+        return codegenModel;
+    }
+
+    /**
+     * Create an instance of the registered class, with vendor extensions keeping their flags in a bitset.
+     */
+    private static <T extends CodegenObject> T newCodegenObject(CodegenModelType type) {
+        return withVendorExtensions(CodegenModelFactory.<T>newInstance(type));
+    }
+
+    private static <T extends CodegenObject> T withVendorExtensions(T codegenObject) {
+        // custom map implementations of custom classes are kept
+        if (codegenObject.vendorExtensions != null && codegenObject.vendorExtensions.getClass() == HashMap.class) {
+            codegenObject.vendorExtensions = new VendorExtensions(codegenObject.vendorExtensions);
         }
-        final CodegenModel codegenModel = CodegenModelFactory.newInstance(CodegenModelType.MODEL);
+        return codegenObject;
+    }
+
+    @SuppressWarnings("try")
+    private CodegenModel convertModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.MODEL, name)) {
+            return buildModel(name, schema, allDefinitions);
+        }
+    }
+
+    private CodegenModel buildModel(String name, Schema schema, Map<String, Schema> allDefinitions) {
+        final CodegenModel codegenModel = newCodegenModel();
         if (reservedWords.contains(name)) {
-            codegenModel.name = escapeReservedWord(name);
+            codegenModel.name = nameCache.get(Transform.ESCAPE_RESERVED_WORD, name, this::escapeReservedWord);
         } else {
             codegenModel.name = name;
         }
         codegenModel.title = escapeText(schema.getTitle());
         codegenModel.description = escapeText(schema.getDescription());
         codegenModel.unescapedDescription = schema.getDescription();
-        codegenModel.classname = toModelName(name);
-        codegenModel.classVarName = toVarName(name);
-        codegenModel.classFilename = toModelFilename(name);
-        codegenModel.modelJson = Json.pretty(schema);
+        codegenModel.classname = nameCache.get(Transform.MODEL_NAME, name, this::toModelName);
+        codegenModel.classVarName = nameCache.get(Transform.VAR_NAME, name, this::toVarName);
+        codegenModel.classFilename = nameCache.get(Transform.MODEL_FILENAME, name, this::toModelFilename);
+        if (!generateModelJson) {
+            codegenModel.modelJson = null;
+        } else if (codegenModel instanceof LazyJsonCodegenModel) {
+            ((LazyJsonCodegenModel) codegenModel).setSchema(schema);
+        } else {
+            codegenModel.modelJson = Json.pretty(schema);
+        }
         codegenModel.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             codegenModel.getVendorExtensions().putAll(schema.getExtensions());
@@ -1296,7 +1770,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                     if (allDefinitions != null) {
                         refSchema = allDefinitions.get(ref);
                     }
-                    final String modelName = toModelName(ref);
+                    final String modelName = nameCache.get(Transform.MODEL_NAME, ref, this::toModelName);
                     codegenModel.interfaces.add(modelName);
                     addImport(codegenModel, modelName);
                     if (allDefinitions != null && refSchema != null) {
@@ -1311,7 +1785,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             }
             if (parent != null) {
                 codegenModel.parentSchema = parentName;
-                codegenModel.parent = toModelName(parentName);
+                codegenModel.parent = nameCache.get(Transform.MODEL_NAME, parentName, this::toModelName);
                 addImport(codegenModel, codegenModel.parent);
                 if (allDefinitions != null) {
                     if (supportsInheritance) {
@@ -1324,7 +1798,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             addProperties(properties, required, composed, allDefinitions);
             addVars(codegenModel, properties, required, allProperties, allRequired);
         } else {
-            codegenModel.dataType = getSchemaType(schema);
+            codegenModel.dataType = cachedSchemaType(schema);
             if(schema.getEnum() != null && !schema.getEnum().isEmpty()) {
                 codegenModel.getVendorExtensions().put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
                 // comment out below as allowableValues is not set in post processing model enum
@@ -1345,54 +1819,56 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return codegenModel;
     }
 
-    /**
-     * Recursively look for a discriminator in the interface tree
-     */
-    private boolean isDiscriminatorInInterfaceTree(ComposedSchema composedSchema, Map<String, Schema> allSchema) {
-        if (composedSchema == null || allSchema == null || allSchema.isEmpty()) {
-            return false;
-        }
-        if (composedSchema.getDiscriminator() != null) {
-            return true;
-        }
-        final List<Schema> interfaces = getInterfaces(composedSchema);
-        if(interfaces == null) {
-            return false;
-        }
-        for (Schema interfaceSchema : interfaces) {
-            if (interfaceSchema.getDiscriminator() != null) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     protected void addAdditionPropertiesToCodeGenModel(CodegenModel codegenModel, Schema schema) {
         addParentContainer(codegenModel, codegenModel.name, schema);
     }
 
     protected void addProperties(Map<String, Schema> properties, List<String> required, Schema schema, Map<String, Schema> allSchemas) {
-        if(schema instanceof ComposedSchema) {
-            ComposedSchema composedSchema = (ComposedSchema) schema;
-            if(composedSchema.getAllOf() == null || composedSchema.getAllOf().isEmpty() || composedSchema.getAllOf().size() == 1) {
-                return;
+        final FlattenedProperties flattened = getFlattenedProperties(schema, allSchemas);
+        properties.putAll(flattened.properties);
+        required.addAll(flattened.required);
+    }
+
+    /**
+     * Properties and required properties of a schema, including those of the schemas it is composed of (but its
+     * parent), resolved once per run and shared by every model including the schema.
+     */
+    private FlattenedProperties getFlattenedProperties(Schema schema, Map<String, Schema> allSchemas) {
+        synchronized (flattenedProperties) {
+            if (flattenedDefinitions != allSchemas) {
+                flattenedProperties.clear();
+                flattenedDefinitions = allSchemas;
             }
-            for (int i = 1; i < composedSchema.getAllOf().size(); i++) {
-                addProperties(properties, required, composedSchema.getAllOf().get(i), allSchemas);
+            final FlattenedProperties cached = flattenedProperties.get(schema);
+            if (cached != null) {
+                return cached;
             }
-            return;
         }
-        if(StringUtils.isNotBlank(schema.get$ref())) {
+        final FlattenedProperties flattened = new FlattenedProperties();
+        if(schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            if(composedSchema.getAllOf() != null && composedSchema.getAllOf().size() > 1) {
+                for (int i = 1; i < composedSchema.getAllOf().size(); i++) {
+                    flattened.add(getFlattenedProperties(composedSchema.getAllOf().get(i), allSchemas));
+                }
+            }
+        } else if(StringUtils.isNotBlank(schema.get$ref())) {
             Schema interfaceSchema = allSchemas.get(getSimpleRef(schema.get$ref()));
-            addProperties(properties, required, interfaceSchema, allSchemas);
-            return;
-        }
-        if(schema.getProperties() != null) {
-            properties.putAll(schema.getProperties());
+            flattened.add(getFlattenedProperties(interfaceSchema, allSchemas));
+        } else {
+            if(schema.getProperties() != null) {
+                flattened.properties.putAll(schema.getProperties());
+            }
+            if(schema.getRequired() != null) {
+                flattened.required.addAll(schema.getRequired());
+            }
         }
-        if(schema.getRequired() != null) {
-            required.addAll(schema.getRequired());
+        synchronized (flattenedProperties) {
+            if (flattenedDefinitions == allSchemas) {
+                flattenedProperties.put(schema, flattened);
+            }
         }
+        return flattened;
     }
 
     /**
@@ -1405,7 +1881,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (name == null || name.length() == 0) {
             return name;
         }
-        return camelize(toVarName(name));
+        return nameCache.get(Transform.CAMELIZE, nameCache.get(Transform.VAR_NAME, name, this::toVarName), DefaultCodegenConfig::camelize);
     }
 
     /**
@@ -1421,11 +1897,15 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             LOGGER.error("unexpected missing property for name " + name);
             return null;
         }
+        // properties repeated across the models are converted once
+        return propertyPrototypes.get(name, propertySchema, () -> convertProperty(name, propertySchema));
+    }
 
-        final CodegenProperty codegenProperty = CodegenModelFactory.newInstance(CodegenModelType.PROPERTY);
-        codegenProperty.name = toVarName(name);
+    private CodegenProperty convertProperty(String name, Schema propertySchema) {
+        final CodegenProperty codegenProperty = newCodegenObject(CodegenModelType.PROPERTY);
+        codegenProperty.name = nameCache.get(Transform.VAR_NAME, name, this::toVarName);
         codegenProperty.baseName = name;
-        codegenProperty.nameInCamelCase = camelize(codegenProperty.name, false);
+        codegenProperty.nameInCamelCase = nameCache.get(Transform.CAMELIZE, codegenProperty.name, DefaultCodegenConfig::camelize);
         codegenProperty.description = escapeText(propertySchema.getDescription());
         codegenProperty.unescapedDescription = propertySchema.getDescription();
         codegenProperty.title = propertySchema.getTitle();
@@ -1435,7 +1915,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if(!"null".equals(example)) {
             codegenProperty.example = example;
         }
-        codegenProperty.defaultValue = toDefaultValue(propertySchema);
+        codegenProperty.defaultValue = cachedDefaultValue(propertySchema);
         codegenProperty.defaultValueWithParam = toDefaultValueWithParam(name, propertySchema);
         codegenProperty.jsonSchema = Json.pretty(propertySchema);
         if (propertySchema.getReadOnly() != null) {
@@ -1450,10 +1930,10 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             codegenProperty.xmlNamespace = propertySchema.getXml().getNamespace();
         }
         if (propertySchema.getExtensions() != null && !propertySchema.getExtensions().isEmpty()) {
-            codegenProperty.getVendorExtensions().putAll(propertySchema.getExtensions());
+            putExtensions(codegenProperty.getVendorExtensions(), propertySchema.getExtensions());
         }
 
-        final String type = getSchemaType(propertySchema);
+        final String type = cachedSchemaType(propertySchema);
         if (propertySchema instanceof IntegerSchema) {
             codegenProperty.getVendorExtensions().put(CodegenConstants.IS_NUMERIC_EXT_NAME, Boolean.TRUE);
             if(SchemaTypeUtil.INTEGER64_FORMAT.equals(propertySchema.getFormat())) {
@@ -1610,7 +2090,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                 codegenProperty.allowableValues = allowableValues;
             }
         }
-        codegenProperty.datatype = getTypeDeclaration(propertySchema);
+        codegenProperty.datatype = cachedTypeDeclaration(propertySchema);
         codegenProperty.dataFormat = propertySchema.getFormat();
 
         // this can cause issues for clients which don't support enums
@@ -1622,13 +2102,13 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             codegenProperty.datatypeWithEnum = codegenProperty.datatype;
         }
 
-        codegenProperty.baseType = getSchemaType(propertySchema);
+        codegenProperty.baseType = type;
 
         if (propertySchema instanceof ArraySchema) {
             codegenProperty.getVendorExtensions().put(CodegenConstants.IS_CONTAINER_EXT_NAME, Boolean.TRUE);
             codegenProperty.getVendorExtensions().put(CodegenConstants.IS_LIST_CONTAINER_EXT_NAME, Boolean.TRUE);
             codegenProperty.containerType = "array";
-            codegenProperty.baseType = getSchemaType(propertySchema);
+            codegenProperty.baseType = type;
             if (propertySchema.getXml() != null) {
                 codegenProperty.getVendorExtensions().put(CodegenConstants.IS_XML_WRAPPED_EXT_NAME,
                         propertySchema.getXml().getWrapped() == null ? false : propertySchema.getXml().getWrapped());
@@ -1654,7 +2134,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             codegenProperty.getVendorExtensions().put(CodegenConstants.IS_CONTAINER_EXT_NAME, Boolean.TRUE);
             codegenProperty.getVendorExtensions().put(CodegenConstants.IS_MAP_CONTAINER_EXT_NAME, Boolean.TRUE);
             codegenProperty.containerType = "map";
-            codegenProperty.baseType = getSchemaType(propertySchema);
+            codegenProperty.baseType = type;
             codegenProperty.minItems = propertySchema.getMinProperties();
             codegenProperty.maxItems = propertySchema.getMaxProperties();
 
@@ -1664,9 +2144,75 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         } else {
             setNonArrayMapProperty(codegenProperty, type);
         }
+        poolStrings(codegenProperty);
         return codegenProperty;
     }
 
+    /**
+     * Replace the strings of the property by the instances of the string pool of the run.
+     *
+     * @param property converted property
+     */
+    protected void poolStrings(CodegenProperty property) {
+        property.baseName = stringPool.get(property.baseName);
+        property.name = stringPool.get(property.name);
+        property.nameInCamelCase = stringPool.get(property.nameInCamelCase);
+        property.getter = stringPool.get(property.getter);
+        property.setter = stringPool.get(property.setter);
+        property.datatype = stringPool.get(property.datatype);
+        property.datatypeWithEnum = stringPool.get(property.datatypeWithEnum);
+        property.dataFormat = stringPool.get(property.dataFormat);
+        property.baseType = stringPool.get(property.baseType);
+        property.complexType = stringPool.get(property.complexType);
+        property.containerType = stringPool.get(property.containerType);
+        property.defaultValue = stringPool.get(property.defaultValue);
+        property.description = stringPool.get(property.description);
+        property.unescapedDescription = stringPool.get(property.unescapedDescription);
+        property.example = stringPool.get(property.example);
+        property.jsonSchema = stringPool.get(property.jsonSchema);
+    }
+
+    /**
+     * Replace the strings of the parameter by the instances of the string pool of the run.
+     *
+     * @param parameter converted parameter
+     */
+    protected void poolStrings(CodegenParameter parameter) {
+        parameter.baseName = stringPool.get(parameter.baseName);
+        parameter.paramName = stringPool.get(parameter.paramName);
+        parameter.dataType = stringPool.get(parameter.dataType);
+        parameter.datatypeWithEnum = stringPool.get(parameter.datatypeWithEnum);
+        parameter.dataFormat = stringPool.get(parameter.dataFormat);
+        parameter.baseType = stringPool.get(parameter.baseType);
+        parameter.collectionFormat = stringPool.get(parameter.collectionFormat);
+        parameter.defaultValue = stringPool.get(parameter.defaultValue);
+        parameter.description = stringPool.get(parameter.description);
+        parameter.unescapedDescription = stringPool.get(parameter.unescapedDescription);
+        parameter.example = stringPool.get(parameter.example);
+        parameter.jsonSchema = stringPool.get(parameter.jsonSchema);
+    }
+
+    /**
+     * Replace the strings of the response by the instances of the string pool of the run.
+     *
+     * @param response converted response
+     */
+    protected void poolStrings(CodegenResponse response) {
+        response.code = stringPool.get(response.code);
+        response.message = stringPool.get(response.message);
+        response.dataType = stringPool.get(response.dataType);
+        response.baseType = stringPool.get(response.baseType);
+        response.containerType = stringPool.get(response.containerType);
+        response.jsonSchema = stringPool.get(response.jsonSchema);
+    }
+
+    private void putExtensions(Map<String, Object> vendorExtensions, Map<?, ?> extensions) {
+        for (Map.Entry<?, ?> extension : extensions.entrySet()) {
+            final Object value = extension.getValue();
+            vendorExtensions.put(stringPool.get((String) extension.getKey()), value instanceof String ? stringPool.get((String) value) : value);
+        }
+    }
+
     /**
      * Update property for array(list) container
      * @param property Codegen property
@@ -1843,7 +2389,56 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Operation object
      */
     public CodegenOperation fromOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
-        CodegenOperation codegenOperation = CodegenModelFactory.newInstance(CodegenModelType.OPERATION);
+        freezeConfig();
+        final int parallelism = getParallelOperations();
+        if (parallelism > 1 && openAPI != null && openAPI.getPaths() != null) {
+            // convert all operations of the spec in the background, the caller still gets them one by one (and
+            // groups them, de-duplicating operation ids) in its own order
+            operationPrefetcher.start(openAPI, getConvertibleOperations(openAPI, schemas), OperationInput::getConversions, parallelism,
+                    (key, input) -> convertOperation(input.path, input.httpMethod, input.operation, input.schemas, openAPI));
+            final CodegenOperation codegenOperation = operationPrefetcher.take(openAPI, httpMethod + " " + path,
+                    input -> input.matches(path, operation, schemas));
+            if (codegenOperation != null) {
+                return codegenOperation;
+            }
+        }
+        return convertOperation(path, httpMethod, operation, schemas, openAPI);
+    }
+
+    private Map<String, OperationInput> getConvertibleOperations(OpenAPI openAPI, Map<String, Schema> schemas) {
+        final Map<String, OperationInput> operations = new LinkedHashMap<>();
+        for (Map.Entry<String, PathItem> entry : openAPI.getPaths().entrySet()) {
+            final String path = entry.getKey();
+            final PathItem pathItem = entry.getValue();
+            if (pathItem == null) {
+                continue;
+            }
+            addConvertibleOperation(operations, path, "get", pathItem.getGet(), pathItem, schemas);
+            addConvertibleOperation(operations, path, "head", pathItem.getHead(), pathItem, schemas);
+            addConvertibleOperation(operations, path, "put", pathItem.getPut(), pathItem, schemas);
+            addConvertibleOperation(operations, path, "post", pathItem.getPost(), pathItem, schemas);
+            addConvertibleOperation(operations, path, "delete", pathItem.getDelete(), pathItem, schemas);
+            addConvertibleOperation(operations, path, "patch", pathItem.getPatch(), pathItem, schemas);
+            addConvertibleOperation(operations, path, "options", pathItem.getOptions(), pathItem, schemas);
+        }
+        return operations;
+    }
+
+    private void addConvertibleOperation(Map<String, OperationInput> operations, String path, String httpMethod, Operation operation, PathItem pathItem, Map<String, Schema> schemas) {
+        if (operation != null) {
+            operations.put(httpMethod + " " + path, new OperationInput(path, httpMethod, operation, pathItem, schemas));
+        }
+    }
+
+    @SuppressWarnings("try")
+    private CodegenOperation convertOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.OPERATION, httpMethod + " " + path)) {
+            return buildOperation(path, httpMethod, operation, schemas, openAPI);
+        }
+    }
+
+    private CodegenOperation buildOperation(String path, String httpMethod, Operation operation, Map<String, Schema> schemas, OpenAPI openAPI) {
+        CodegenOperation codegenOperation = newCodegenObject(CodegenModelType.OPERATION);
         Set<String> imports = new HashSet<String>();
         if (operation.getExtensions() != null && !operation.getExtensions().isEmpty()) {
             codegenOperation.vendorExtensions.putAll(operation.getExtensions());
@@ -1921,7 +2516,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                         }
                     }
                     //TODO: codegenOperation.examples = new ExampleGenerator(schemas).generate(methodResponse.getExamples(), operation.getProduces(), responseProperty);
-                    codegenOperation.defaultResponse = toDefaultValue(responseSchema);
+                    codegenOperation.defaultResponse = cachedDefaultValue(responseSchema);
                     codegenOperation.returnType = codegenProperty.datatype;
                     boolean hasReference = schemas != null && schemas.containsKey(codegenOperation.returnBaseType);
                     codegenOperation.getVendorExtensions().put(CodegenConstants.HAS_REFERENCE_EXT_NAME, hasReference);
@@ -2111,7 +2706,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Response object
      */
     public CodegenResponse fromResponse(String responseCode, ApiResponse response) {
-        final CodegenResponse codegenResponse = CodegenModelFactory.newInstance(CodegenModelType.RESPONSE);
+        final CodegenResponse codegenResponse = newCodegenObject(CodegenModelType.RESPONSE);
         if ("default".equals(responseCode)) {
             codegenResponse.code = "0";
         } else {
@@ -2123,7 +2718,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         // TODO: codegenResponse.examples = toExamples(response.getExamples());
         codegenResponse.jsonSchema = Json.pretty(response);
         if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
-            codegenResponse.vendorExtensions.putAll(response.getExtensions());
+            putExtensions(codegenResponse.vendorExtensions, response.getExtensions());
         }
         addHeaders(response, codegenResponse.headers);
         codegenResponse.getVendorExtensions().put(CodegenConstants.HAS_HEADERS_EXT_NAME, !codegenResponse.headers.isEmpty());
@@ -2198,6 +2793,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             codegenResponse.getVendorExtensions().put(CodegenConstants.IS_PRIMITIVE_TYPE_EXT_NAME, Boolean.TRUE);
             codegenResponse.getVendorExtensions().put(CodegenConstants.IS_SIMPLE_TYPE_EXT_NAME, Boolean.TRUE);
         }
+        poolStrings(codegenResponse);
         return codegenResponse;
     }
 
@@ -2209,7 +2805,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Codegen Parameter object
      */
     public CodegenParameter fromParameter(Parameter parameter, Set<String> imports) {
-        CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+        CodegenParameter codegenParameter = newCodegenObject(CodegenModelType.PARAMETER);
         codegenParameter.baseName = parameter.getName();
         codegenParameter.description = escapeText(parameter.getDescription());
         codegenParameter.unescapedDescription = parameter.getDescription();
@@ -2223,7 +2819,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
 
         if (parameter.getExtensions() != null && !parameter.getExtensions().isEmpty()) {
-            codegenParameter.vendorExtensions.putAll(parameter.getExtensions());
+            putExtensions(codegenParameter.vendorExtensions, parameter.getExtensions());
         }
 
         if (parameter.getSchema() != null) {
@@ -2299,7 +2895,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             if(collectionFormat != null && collectionFormat.equals("multi")) {
                 codegenParameter.getVendorExtensions().put(CodegenConstants.IS_COLLECTION_FORMAT_MULTI_EXT_NAME, Boolean.TRUE);
             }
-            codegenParameter.paramName = toParamName(parameter.getName());
+            codegenParameter.paramName = nameCache.get(Transform.PARAM_NAME, parameter.getName(), this::toParamName);
 
             // import
             if (codegenProperty.complexType != null) {
@@ -2400,11 +2996,12 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         setParameterExampleValue(codegenParameter);
 
         postProcessParameter(codegenParameter);
+        poolStrings(codegenParameter);
         return codegenParameter;
     }
 
     public CodegenParameter fromRequestBody(RequestBody body, Map<String, Schema> schemas, Set<String> imports) {
-        CodegenParameter codegenParameter = CodegenModelFactory.newInstance(CodegenModelType.PARAMETER);
+        CodegenParameter codegenParameter = newCodegenObject(CodegenModelType.PARAMETER);
         codegenParameter.baseName = REQUEST_BODY_NAME;
         codegenParameter.paramName = REQUEST_BODY_NAME;
         codegenParameter.description = body.getDescription();
@@ -2499,6 +3096,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             }
         }
         setParameterExampleValue(codegenParameter);
+        poolStrings(codegenParameter);
         return codegenParameter;
     }
 
@@ -2534,7 +3132,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         for (String key : securitySchemeMap.keySet()) {
             final SecurityScheme schemeDefinition = securitySchemeMap.get(key);
 
-            CodegenSecurity codegenSecurity = CodegenModelFactory.newInstance(CodegenModelType.SECURITY);
+            CodegenSecurity codegenSecurity = newCodegenObject(CodegenModelType.SECURITY);
             codegenSecurity.name = key;
             codegenSecurity.type = schemeDefinition.getType().toString();
 
@@ -2730,14 +3328,12 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             operations.put(tag, opList);
         }
         // check for operationId uniqueness
-
-        String uniqueName = co.operationId;
-        int counter = 0;
-        for(CodegenOperation op : opList) {
-            if(uniqueName.equals(op.operationId)) {
-                uniqueName = co.operationId + "_" + counter;
-                counter ++;
-            }
+        OperationIdIndex operationIdIndex = getOperationIdIndex(tag, opList, operations);
+        String uniqueName = operationIdIndex.uniqueName(co.operationId);
+        if (uniqueName == null) {
+            // the group has been changed since it was indexed
+            operationIdIndex = getOperationIdIndex(tag, opList, null);
+            uniqueName = operationIdIndex.uniqueName(co.operationId);
         }
         if(!co.operationId.equals(uniqueName)) {
             LOGGER.warn("generated unique operationId `" + uniqueName + "`");
@@ -2747,13 +3343,33 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         co.operationIdCamelCase = camelize(uniqueName);
         co.operationIdSnakeCase = underscore(uniqueName);
         opList.add(co);
+        operationIdIndex.add(co);
         co.baseName = tag;
     }
 
+    /**
+     * @param tag tag of the group
+     * @param opList operations of the group
+     * @param operations all groups, null to index the group again
+     * @return index of the operation ids of the group
+     */
+    private synchronized OperationIdIndex getOperationIdIndex(String tag, List<CodegenOperation> opList, Map<String, List<CodegenOperation>> operations) {
+        if (operations != indexedOperations) {
+            operationIdIndexes.clear();
+            indexedOperations = operations;
+        }
+        OperationIdIndex operationIdIndex = operationIdIndexes.get(tag);
+        if (operationIdIndex == null || operations == null || !operationIdIndex.isIndexOf(opList)) {
+            operationIdIndex = new OperationIdIndex(opList);
+            operationIdIndexes.put(tag, operationIdIndex);
+        }
+        return operationIdIndex;
+    }
+
     private void addParentContainer(CodegenModel codegenModel, String name, Schema property) {
         final CodegenProperty codegenProperty = fromProperty(name, property);
         addImport(codegenModel, codegenProperty.complexType);
-        codegenModel.parent = toInstantiationType(property);
+        codegenModel.parent = cachedInstantiationType(property);
         final String containerType = codegenProperty.containerType;
         final String instantiationType = instantiationTypes.get(containerType);
         if (instantiationType != null) {
@@ -2774,21 +3390,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return The underscored version of the word
      */
     public static String underscore(String word) {
-        String firstPattern = "([A-Z]+)([A-Z][a-z])";
-        String secondPattern = "([a-z\\d])([A-Z])";
-        String replacementPattern = "$1_$2";
-        // Replace package separator with slash.
-        word = word.replaceAll("\\.", "/"); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-        // Replace $ with two underscores for inner classes.
-        word = word.replaceAll("\\$", "__");
-        // Replace capital letter with _ plus lowercase letter.
-        word = word.replaceAll(firstPattern, replacementPattern);
-        word = word.replaceAll(secondPattern, replacementPattern);
-        word = word.replace('-', '_');
-        // replace space with underscore
-        word = word.replace(' ', '_');
-        word = word.toLowerCase();
-        return word;
+        return NameFormatter.underscore(word);
     }
 
     /**
@@ -2799,7 +3401,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     protected String dashize(String word) {
-        return underscore(word).replaceAll("[_ ]", "-");
+        return NameFormatter.dashize(word);
     }
 
     /**
@@ -3006,66 +3608,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return camelized string
      */
     public static String camelize(String word, boolean lowercaseFirstLetter) {
-        // Replace all slashes with dots (package separator)
-        Pattern p = Pattern.compile("\\/(.?)");
-        Matcher m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("." + m.group(1)/*.toUpperCase()*/); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-            m = p.matcher(word);
-        }
-
-        // case out dots
-        String[] parts = word.split("\\.");
-        StringBuilder f = new StringBuilder();
-        for (String z : parts) {
-            if (z.length() > 0) {
-                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
-            }
-        }
-        word = f.toString();
-
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1)/*.toUpperCase()*/);
-            m = p.matcher(word);
-        }
-
-        // Uppercase the class name.
-        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
-        m = p.matcher(word);
-        if (m.find()) {
-            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
-            rep = rep.replaceAll("\\$", "\\\\\\$");
-            word = m.replaceAll(rep);
-        }
-
-        // Remove all underscores (underscore_case to camelCase)
-        p = Pattern.compile("(_)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            String original = m.group(2);
-            String upperCase = original.toUpperCase();
-            if (original.equals(upperCase)) {
-                word = word.replaceFirst("_", "");
-            } else {
-                word = m.replaceFirst(upperCase);
-            }
-            m = p.matcher(word);
-        }
-
-        // Remove all hyphens (hyphen-case to camelCase)
-        p = Pattern.compile("(-)(.)");
-        m = p.matcher(word);
-        while (m.find()) {
-            word = m.replaceFirst(m.group(2).toUpperCase());
-            m = p.matcher(word);
-        }
-
-        if (lowercaseFirstLetter && word.length() > 0) {
-            word = word.substring(0, 1).toLowerCase() + word.substring(1);
-        }
-
-        return word;
+        return NameFormatter.camelize(word, lowercaseFirstLetter);
     }
 
     public String apiFilename(String templateName, String tag) {
@@ -3264,11 +3807,6 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      */
     @SuppressWarnings("static-method")
     public String sanitizeName(String name) {
-        // NOTE: performance wise, we should have written with 2 replaceAll to replace desired
-        // character with _ or empty character. Below aims to spell out different cases we've
-        // encountered so far and hopefully make it easier for others to add more special
-        // cases in the future.
-
         // better error handling when map/array type is invalid
         if (name == null) {
             LOGGER.warn("String to be sanitized is null. Default to " + Object.class.getSimpleName());
@@ -3280,36 +3818,9 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
             return "value";
         }
 
-        // input[] => input
-        name = name.replaceAll("\\[\\]", ""); // FIXME: a parameter should not be assigned. Also declare the methods parameters as 'final'.
-
-        // input[a][b] => input_a_b
-        name = name.replaceAll("\\[", "_");
-        name = name.replaceAll("\\]", "");
-
-        // input(a)(b) => input_a_b
-        name = name.replaceAll("\\(", "_");
-        name = name.replaceAll("\\)", "");
-
-        // input.name => input_name
-        name = name.replaceAll("\\.", "_");
-
-        // input-name => input_name
-        name = name.replaceAll("-", "_");
-
-        // input name and age => input_name_and_age
-        name = name.replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
-        }
-        else {
-            name = name.replaceAll("\\W", "");
-        }
-
-        return name;
+        // input[] => input, input[a][b] => input_a_b, input(a)(b) => input_a_b, input.name => input_name,
+        // input-name => input_name, input name and age => input_name_and_age, $php_variable => php_variable
+        return NameSanitizer.sanitizeName(name, allowUnicodeIdentifiers);
     }
 
     /**
@@ -3319,7 +3830,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
      * @return Sanitized tag
      */
     public String sanitizeTag(String tag) {
-        tag = camelize(sanitizeName(tag));
+        tag = nameCache.get(Transform.SANITIZE_TAG, tag, value -> camelize(sanitizeName(value)));
 
         // tag starts with numbers
         if (tag.matches("^\\d.*")) {
@@ -3347,12 +3858,35 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         if (StringUtils.isBlank(argumentsLocation)) {
             return null;
         }
-        final InputStream inputStream = getClass().getResourceAsStream(argumentsLocation);
-        if (inputStream == null) {
+        final URL argumentsUrl = getClass().getResource(argumentsLocation);
+        if (argumentsUrl == null) {
             return null;
         }
+        // parsed once per file, every caller gets its own copy since arguments are extended and given values
+        final String key = argumentsUrl.toString();
+        List<CodegenArgument> arguments = LANGUAGE_ARGUMENTS.get(key);
+        if (arguments == null) {
+            arguments = parseLanguageArguments(argumentsUrl);
+            if (arguments == null) {
+                return null;
+            }
+            LANGUAGE_ARGUMENTS.putIfAbsent(key, arguments);
+        }
+        final List<CodegenArgument> languageArguments = new ArrayList<>(arguments.size());
+        for (CodegenArgument argument : arguments) {
+            languageArguments.add(new CodegenArgument()
+                    .option(argument.getOption())
+                    .shortOption(argument.getShortOption())
+                    .description(argument.getDescription())
+                    .type(argument.getType())
+                    .isArray(argument.getArray()));
+        }
+        return languageArguments;
+    }
+
+    private static List<CodegenArgument> parseLanguageArguments(URL argumentsUrl) {
         final String content;
-        try {
+        try (InputStream inputStream = argumentsUrl.openStream()) {
             content = IOUtils.toString(inputStream);
             if (StringUtils.isBlank(content)) {
                 return null;
@@ -3377,22 +3911,22 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         }
         List<CodegenArgument> languageArguments = new ArrayList<>();
         for (JsonNode argument : arguments) {
-            String option = argument.findValue("option") != null ? argument.findValue("option").textValue() : null;
-            String description = argument.findValue("description") != null ? argument.findValue("description").textValue() : null;
-            String shortOption = argument.findValue("shortOption") != null ? argument.findValue("shortOption").textValue() : null;
-            String type = argument.findValue("type") != null ? argument.findValue("type").textValue() : "string";
-            boolean isArray = argument.findValue("isArray") != null ? argument.findValue("isArray").booleanValue() : false;
-            if (StringUtils.isBlank(option)) {
+            final JsonNode option = argument.findValue("option");
+            if (option == null || StringUtils.isBlank(option.textValue())) {
                 continue;
             }
+            final JsonNode description = argument.findValue("description");
+            final JsonNode shortOption = argument.findValue("shortOption");
+            final JsonNode type = argument.findValue("type");
+            final JsonNode isArray = argument.findValue("isArray");
             languageArguments.add(new CodegenArgument()
-                    .option(option)
-                    .shortOption(shortOption)
-                    .description(description)
-                    .type(type)
-                    .isArray(isArray));
+                    .option(option.textValue())
+                    .shortOption(shortOption != null ? shortOption.textValue() : null)
+                    .description(description != null ? description.textValue() : null)
+                    .type(type != null ? type.textValue() : "string")
+                    .isArray(isArray != null ? isArray.booleanValue() : false));
         }
-        return languageArguments;
+        return Collections.unmodifiableList(languageArguments);
     }
 
     @Override
@@ -3524,7 +4058,7 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
                     enumName = value.toString();
                 }
             }
-            enumVar.put("name", toEnumVarName(enumName, var.datatype));
+            enumVar.put("name", nameCache.get(Transform.ENUM_VAR_NAME, enumName, var.datatype, this::toEnumVarName));
             enumVar.put("value", toEnumValue(value.toString(), var.datatype));
             enumVars.add(enumVar);
         }
@@ -3594,6 +4128,36 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return ignoreFilePathOverride;
     }
 
+    /**
+     * Memoized results of the identifier transforms (toModelName, toVarName, ...) and their hit/miss counters.
+     * Cleared by processOpts; code changing naming options afterwards has to clear it as well.
+     *
+     * @return name cache of this generator
+     */
+    public NameCache getNameCache() {
+        return nameCache;
+    }
+
+    /**
+     * Pool of the strings of the properties, parameters and responses of the run, with the number of duplicates it
+     * replaced. Cleared by processOpts, disabled with the "stringPool" option set to false.
+     *
+     * @return string pool of this generator
+     */
+    public StringPool getStringPool() {
+        return stringPool;
+    }
+
+    /**
+     * Prototypes of the properties converted so far, copied for properties with the same name and schema. Cleared
+     * with the other conversion caches.
+     *
+     * @return property prototypes of this generator
+     */
+    public PropertyPrototypes getPropertyPrototypes() {
+        return propertyPrototypes;
+    }
+
     /**
      * Sets an override location for the .swagger-codegen.ignore location for the first code generation.
      *
@@ -3607,6 +4171,77 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         this.useOas2 = useOas2;
     }
 
+    public boolean isGenerateModelJson() {
+        return generateModelJson;
+    }
+
+    /**
+     * @param generateModelJson false for generators (or templates) which never render the json of a model
+     */
+    public void setGenerateModelJson(boolean generateModelJson) {
+        this.generateModelJson = generateModelJson;
+    }
+
+    /**
+     * @return report of the phases of the generation, null unless requested with the "generationReport" option
+     */
+    public GenerationReport getGenerationReport() {
+        return generationReport;
+    }
+
+    public void setGenerationReport(GenerationReport generationReport) {
+        this.generationReport = generationReport;
+    }
+
+    /**
+     * Start measuring a phase of the generation in the generation report, e.g. to add the own phases of a generator.
+     * Nothing is measured when no report has been requested.
+     *
+     * The conversion of models and operations and the phases run by the generator (preprocessOpenAPI,
+     * postProcessAllModels, postProcessModels, postProcessOperations, ...) are measured by this class. Generators
+     * overriding one of these phases measure their override with this timer, using the phase names of
+     * {@link GenerationReport}: an override calling super is still measured once.
+     *
+     * @param phase name of the phase
+     * @param item what the phase is run for (e.g. the model name), or null
+     * @return the running timer, to be closed at the end of the phase
+     */
+    protected GenerationReport.Timer startTimer(String phase, String item) {
+        return GenerationReport.start(generationReport, phase, item);
+    }
+
+    /**
+     * Number of threads converting models, defaults to the "parallelModels" system property or 1 (sequential).
+     *
+     * @return number of model conversion threads
+     */
+    public int getParallelModels() {
+        if (parallelModels != null) {
+            return parallelModels;
+        }
+        return Integer.getInteger(PARALLEL_MODELS, 1);
+    }
+
+    public void setParallelModels(Integer parallelModels) {
+        this.parallelModels = parallelModels;
+    }
+
+    /**
+     * Number of threads converting operations, defaults to the "parallelOperations" system property or 1 (sequential).
+     *
+     * @return number of operation conversion threads
+     */
+    public int getParallelOperations() {
+        if (parallelOperations != null) {
+            return parallelOperations;
+        }
+        return Integer.getInteger(PARALLEL_OPERATIONS, 1);
+    }
+
+    public void setParallelOperations(Integer parallelOperations) {
+        this.parallelOperations = parallelOperations;
+    }
+
     public boolean convertPropertyToBoolean(String propertyKey) {
         boolean booleanValue = false;
         if (additionalProperties.containsKey(propertyKey)) {
@@ -3657,6 +4292,20 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         codegenSecurity.scopes = flow.getScopes();
     }
 
+    private List<String> getInterfaceNames(ComposedSchema composed) {
+        final List<Schema> interfaces = getInterfaces(composed);
+        if (interfaces == null) {
+            return null;
+        }
+        final List<String> names = new ArrayList<>(interfaces.size());
+        for (Schema interfaceSchema : interfaces) {
+            if (StringUtils.isNotBlank(interfaceSchema.get$ref())) {
+                names.add(getSimpleRef(interfaceSchema.get$ref()));
+            }
+        }
+        return names;
+    }
+
     private List<Schema> getInterfaces(ComposedSchema composed) {
         if(composed.getAllOf() != null && composed.getAllOf().size() > 1) {
             return composed.getAllOf().subList(1, composed.getAllOf().size());
@@ -3813,4 +4462,110 @@ public abstract class DefaultCodegenConfig implements CodegenConfig {
         return additionalProperties != null && additionalProperties instanceof Schema;
     }
 
+    private static class FlattenedProperties {
+
+        private final Map<String, Schema> properties = new LinkedHashMap<>();
+        private final List<String> required = new ArrayList<>();
+
+        private void add(FlattenedProperties flattened) {
+            properties.putAll(flattened.properties);
+            required.addAll(flattened.required);
+        }
+    }
+
+    private static class ParentModel {
+
+        private final String name;
+        private final Map<String, Schema> allDefinitions;
+        private final CodegenModel codegenModel;
+
+        private ParentModel(String name, Map<String, Schema> allDefinitions, CodegenModel codegenModel) {
+            this.name = name;
+            this.allDefinitions = allDefinitions;
+            this.codegenModel = codegenModel;
+        }
+    }
+
+    /**
+     * An operation as the generator is going to pass it to {@link #fromOperation(String, String, Operation, Map, OpenAPI)}:
+     * by then the parameters of its path item have been added to the operation parameters (unless they are
+     * overridden) and it is converted once per tag.
+     */
+    private static class OperationInput {
+
+        private final String path;
+        private final String httpMethod;
+        private final Operation source;
+        private final Operation operation;
+        private final List<Parameter> parameters;
+        private final Map<String, Schema> schemas;
+
+        private OperationInput(String path, String httpMethod, Operation source, PathItem pathItem, Map<String, Schema> schemas) {
+            this.path = path;
+            this.httpMethod = httpMethod;
+            this.source = source;
+            this.schemas = schemas;
+            this.parameters = source.getParameters() == null ? null : new ArrayList<>(source.getParameters());
+            if (parameters != null && pathItem.getParameters() != null) {
+                final Set<String> operationParameters = new HashSet<>();
+                for (Parameter parameter : parameters) {
+                    operationParameters.add(getParameterId(parameter));
+                }
+                for (Parameter parameter : pathItem.getParameters()) {
+                    if (!operationParameters.contains(getParameterId(parameter))) {
+                        parameters.add(parameter);
+                    }
+                }
+            }
+            if (parameters == null || parameters.size() == source.getParameters().size()) {
+                this.operation = source;
+            } else {
+                // leave the spec alone, the generator is going to add the path item parameters itself
+                this.operation = new Operation()
+                        .tags(source.getTags())
+                        .summary(source.getSummary())
+                        .description(source.getDescription())
+                        .externalDocs(source.getExternalDocs())
+                        .operationId(source.getOperationId())
+                        .parameters(parameters)
+                        .requestBody(source.getRequestBody())
+                        .responses(source.getResponses())
+                        .callbacks(source.getCallbacks())
+                        .deprecated(source.getDeprecated())
+                        .security(source.getSecurity())
+                        .servers(source.getServers());
+                operation.setExtensions(source.getExtensions());
+            }
+        }
+
+        private static String getParameterId(Parameter parameter) {
+            return parameter.getName() + ":" + parameter.getIn();
+        }
+
+        /**
+         * @return number of times the operation gets converted, once per tag
+         */
+        private int getConversions() {
+            return source.getTags() == null || source.getTags().isEmpty() ? 1 : source.getTags().size();
+        }
+
+        private boolean matches(String path, Operation operation, Map<String, Schema> schemas) {
+            if (operation != source || schemas != this.schemas || !this.path.equals(path)) {
+                return false;
+            }
+            final List<Parameter> current = operation.getParameters();
+            if (current == null || parameters == null) {
+                return current == parameters;
+            }
+            if (current.size() != parameters.size()) {
+                return false;
+            }
+            for (int index = 0; index < current.size(); index++) {
+                if (current.get(index) != parameters.get(index)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
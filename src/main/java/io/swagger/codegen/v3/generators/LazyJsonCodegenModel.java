@@ -0,0 +1,35 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.CodegenModel;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.Schema;
+
+/**
+ * Model which serializes its schema to {@link #modelJson} only when it is read through {@link #getModelJson()}, which
+ * is what templates do. Most templates never render the model json, pretty printing every (possibly deeply composed)
+ * schema up front is wasted for them.
+ */
+public class LazyJsonCodegenModel extends CodegenModel {
+
+    private Schema schema;
+
+    public void setSchema(Schema schema) {
+        this.schema = schema;
+        this.modelJson = null;
+    }
+
+    @Override
+    public String getModelJson() {
+        if (modelJson == null && schema != null) {
+            modelJson = Json.pretty(schema);
+            schema = null;
+        }
+        return modelJson;
+    }
+
+    @Override
+    public void setModelJson(String modelJson) {
+        this.schema = null;
+        this.modelJson = modelJson;
+    }
+}
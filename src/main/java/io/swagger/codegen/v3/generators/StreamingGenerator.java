@@ -0,0 +1,326 @@
+package io.swagger.codegen.v3.generators;
+
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.DefaultGenerator;
+import io.swagger.codegen.v3.Generator;
+import io.swagger.codegen.v3.generators.handlebars.DeferredRendering;
+import io.swagger.codegen.v3.generators.util.ComparingFileOutputStream;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.generators.util.IncrementalManifest;
+import io.swagger.codegen.v3.generators.util.InputHashes;
+import io.swagger.codegen.v3.generators.util.StringPool;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generator writing the output of Handlebars templates straight to the generated files, instead of rendering every
+ * file to a String first. Files are the same as the ones of {@link DefaultGenerator}, driven by the same template
+ * file maps of the generator (apiTemplateFiles, modelTemplateFiles, supportingFiles, ...), but peak heap no longer
+ * grows with the size of the largest generated file (e.g. the single page of htmlDocs2).
+ *
+ * Generators using other template engines (e.g. Mustache) are written like before.
+ *
+ * When the "generationReport" option of a {@link DefaultCodegenConfig} is set to a file, the phases of the generation
+ * are measured and written to that file as JSON, see {@link GenerationReport}: the preprocessing and post processing
+ * phases of the generator, the conversion of every model and operation, the phases generators add themselves (see
+ * {@link DefaultCodegenConfig#startTimer(String, String)}), and the rendering and writing of every file.
+ * The report also counts the strings of the run shared through the string pool of the generator, with an estimate
+ * of the heap it saved (see {@link StringPool}).
+ *
+ * When the "incremental" option is true, model and API files (with their docs and tests) are only rendered and written
+ * when the parts of the spec they depend on, the options (versions of the generator included) or the templates have
+ * changed since the previous run, see {@link IncrementalManifest}. Models and operations are still converted, since
+ * supporting files depend on all of them.
+ *
+ * When the "skipUnchangedFiles" option is true, files rendered with the same content as they already have are left
+ * alone, keeping their modification time for incremental builds of the generated code.
+ */
+public class StreamingGenerator extends DefaultGenerator {
+
+    public static final String INCREMENTAL_MANIFEST = ".swagger-codegen" + File.separator + "incremental.json";
+
+    private static final Pattern PARTIAL = Pattern.compile("\\{\\{>\\s*([^\\s}]+)");
+    private static final String TEMPLATE_EXTENSION = ".mustache";
+
+    private GenerationReport generationReport;
+    private File generationReportFile;
+    private StringPool stringPool;
+    private IncrementalManifest incrementalManifest;
+    private InputHashes inputHashes;
+    private Map<String, String> modelFiles;
+    private Map<String, String> apiFiles;
+    private boolean skipUnchangedFiles;
+    private int writtenFiles;
+    private int unchangedFiles;
+    private int skippedFiles;
+
+    @Override
+    public Generator opts(ClientOptInput opts) {
+        super.opts(opts);
+        generationReport = null;
+        generationReportFile = null;
+        stringPool = null;
+        incrementalManifest = null;
+        inputHashes = null;
+        modelFiles = apiFiles = null;
+        final Object skipUnchanged = config.additionalProperties().get(DefaultCodegenConfig.SKIP_UNCHANGED_FILES);
+        skipUnchangedFiles = skipUnchanged != null && Boolean.parseBoolean(skipUnchanged.toString());
+        final Object reportFile = config.additionalProperties().get(DefaultCodegenConfig.GENERATION_REPORT);
+        if (reportFile != null && config instanceof DefaultCodegenConfig) {
+            final DefaultCodegenConfig codegenConfig = (DefaultCodegenConfig) config;
+            codegenConfig.setGenerationReport(new GenerationReport(config.getName()));
+            generationReport = codegenConfig.getGenerationReport();
+            generationReportFile = new File(reportFile.toString());
+            stringPool = codegenConfig.getStringPool();
+        }
+        final Object incremental = config.additionalProperties().get(DefaultCodegenConfig.INCREMENTAL);
+        if (incremental != null && Boolean.parseBoolean(incremental.toString())) {
+            incrementalManifest = new IncrementalManifest(new File(config.getOutputDir(), INCREMENTAL_MANIFEST), new File(config.getOutputDir()));
+            final Map<String, Object> options = new HashMap<>(config.additionalProperties());
+            options.remove(DefaultCodegenConfig.GENERATION_REPORT);
+            options.put("generator", config.getClass().getName());
+            options.put("library", config.getLibrary());
+            for (Class<?> type : Arrays.asList(config.getClass(), DefaultCodegenConfig.class, DefaultGenerator.class)) {
+                options.put("version:" + type.getName(), IncrementalManifest.getVersion(type));
+            }
+            incrementalManifest.setOptions(options);
+        }
+        return this;
+    }
+
+    @Override
+    public List<File> generate() {
+        final boolean started = DeferredRendering.start();
+        writtenFiles = unchangedFiles = skippedFiles = 0;
+        try {
+            final List<File> files = super.generate();
+            LOGGER.info(String.format("%d files written, %d unchanged, %d skipped", writtenFiles, unchangedFiles, skippedFiles));
+            if (incrementalManifest != null) {
+                try {
+                    incrementalManifest.write();
+                } catch (IOException e) {
+                    throw new RuntimeException("Could not write incremental manifest", e);
+                }
+            }
+            if (generationReport != null) {
+                generationReport.setCounter(GenerationReport.WRITTEN_FILES, writtenFiles);
+                generationReport.setCounter(GenerationReport.UNCHANGED_FILES, unchangedFiles);
+                generationReport.setCounter(GenerationReport.SKIPPED_FILES, skippedFiles);
+                if (stringPool.isEnabled()) {
+                    generationReport.setCounter(GenerationReport.POOLED_STRINGS, stringPool.size());
+                    generationReport.setCounter(GenerationReport.DUPLICATE_STRINGS, stringPool.getDuplicates());
+                    generationReport.setCounter(GenerationReport.SAVED_STRING_BYTES, stringPool.getSavedBytes());
+                }
+                try {
+                    generationReport.write(generationReportFile);
+                } catch (IOException e) {
+                    throw new RuntimeException("Could not write generation report to " + generationReportFile, e);
+                }
+            }
+            return files;
+        } finally {
+            if (started) {
+                DeferredRendering.stop();
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public File writeToFile(String filename, String contents) throws IOException {
+        try (GenerationReport.Timer timer = GenerationReport.start(generationReport, GenerationReport.WRITE_FILE, filename)) {
+            final String inputHash = getInputHash(filename);
+            if (inputHash != null) {
+                final boolean upToDate = incrementalManifest.isUpToDate(filename, inputHash);
+                incrementalManifest.record(filename, inputHash);
+                if (upToDate) {
+                    LOGGER.info("skipped file " + filename);
+                    DeferredRendering.discard(contents);
+                    skippedFiles++;
+                    return new File(filename);
+                }
+            }
+            if (skipUnchangedFiles) {
+                return writeIfChanged(filename, contents);
+            }
+            writtenFiles++;
+            if (!DeferredRendering.isDeferred(contents)) {
+                return super.writeToFile(filename, contents);
+            }
+            LOGGER.info("writing file " + filename);
+            final File output = createParent(filename);
+            try (Writer writer = Files.newBufferedWriter(output.toPath(), StandardCharsets.UTF_8)) {
+                DeferredRendering.render(contents, writer);
+            }
+            return output;
+        }
+    }
+
+    /**
+     * @return number of files written by the last run
+     */
+    public int getWrittenFiles() {
+        return writtenFiles;
+    }
+
+    /**
+     * @return number of files left alone by the last run because they had the same content already
+     */
+    public int getUnchangedFiles() {
+        return unchangedFiles;
+    }
+
+    /**
+     * @return number of files left alone by the last (incremental) run because their inputs didn't change
+     */
+    public int getSkippedFiles() {
+        return skippedFiles;
+    }
+
+    private File writeIfChanged(String filename, String contents) throws IOException {
+        final File output = createParent(filename);
+        final boolean changed;
+        if (DeferredRendering.isDeferred(contents)) {
+            final ComparingFileOutputStream stream = new ComparingFileOutputStream(output);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8))) {
+                DeferredRendering.render(contents, writer);
+            }
+            changed = stream.isChanged();
+        } else {
+            final byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+            if (output.isFile() && output.length() == bytes.length) {
+                final ComparingFileOutputStream stream = new ComparingFileOutputStream(output);
+                try (OutputStream out = stream) {
+                    out.write(bytes);
+                }
+                changed = stream.isChanged();
+            } else {
+                try (OutputStream out = new FileOutputStream(output)) {
+                    out.write(bytes);
+                }
+                changed = true;
+            }
+        }
+        if (changed) {
+            LOGGER.info("writing file " + filename);
+            writtenFiles++;
+        } else {
+            LOGGER.info("unchanged file " + filename);
+            unchangedFiles++;
+        }
+        return output;
+    }
+
+    private static File createParent(String filename) {
+        final File output = new File(filename);
+        final File parent = output.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        return output;
+    }
+
+    /**
+     * @return hash of the spec inputs of a model or API file, null for other files or when not incremental
+     */
+    private String getInputHash(String filename) {
+        if (incrementalManifest == null) {
+            return null;
+        }
+        if (inputHashes == null) {
+            inputHashes = new InputHashes(openAPI, config::sanitizeTag);
+            indexFiles();
+        }
+        final String path = normalize(filename);
+        final String model = modelFiles.get(path);
+        final String tag = model == null ? apiFiles.get(path) : null;
+        if (model == null && tag == null) {
+            return null;
+        }
+        if (!incrementalManifest.hasTemplates()) {
+            addTemplates();
+        }
+        return model != null ? inputHashes.getModelHash(model) : inputHashes.getApiHash(tag);
+    }
+
+    /**
+     * Index the model and API files (with their docs and tests) by the model or tag they're written for, with the
+     * same paths as {@link DefaultGenerator}.
+     */
+    private void indexFiles() {
+        modelFiles = new HashMap<>();
+        apiFiles = new HashMap<>();
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            for (String name : openAPI.getComponents().getSchemas().keySet()) {
+                for (String suffix : config.modelTemplateFiles().values()) {
+                    modelFiles.put(normalize(config.modelFileFolder() + File.separator + config.toModelFilename(name) + suffix), name);
+                }
+                for (String suffix : config.modelDocTemplateFiles().values()) {
+                    modelFiles.put(normalize(config.modelDocFileFolder() + File.separator + config.toModelDocFilename(name) + suffix), name);
+                }
+                for (String suffix : config.modelTestTemplateFiles().values()) {
+                    modelFiles.put(normalize(config.modelTestFileFolder() + File.separator + config.toModelTestFilename(name) + suffix), name);
+                }
+            }
+        }
+        for (String tag : inputHashes.getTags()) {
+            for (String templateName : config.apiTemplateFiles().keySet()) {
+                apiFiles.put(normalize(config.apiFilename(templateName, tag)), tag);
+            }
+            for (String templateName : config.apiDocTemplateFiles().keySet()) {
+                apiFiles.put(normalize(config.apiDocFilename(templateName, tag)), tag);
+            }
+            for (String templateName : config.apiTestTemplateFiles().keySet()) {
+                apiFiles.put(normalize(config.apiTestFilename(templateName, tag)), tag);
+            }
+        }
+    }
+
+    private static String normalize(String filename) {
+        return filename.replace(File.separatorChar, '/').replaceAll("/+", "/");
+    }
+
+    private void addTemplates() {
+        final List<Map<String, String>> templateFiles = Arrays.asList(config.modelTemplateFiles(), config.apiTemplateFiles(),
+                config.modelDocTemplateFiles(), config.apiDocTemplateFiles(), config.modelTestTemplateFiles(), config.apiTestTemplateFiles());
+        for (Map<String, String> templates : templateFiles) {
+            for (String templateName : templates.keySet()) {
+                incrementalManifest.addTemplate(templateName, readTemplateWithPartials(templateName, new HashSet<>()));
+            }
+        }
+    }
+
+    private String readTemplateWithPartials(String templateName, Set<String> read) {
+        if (!read.add(templateName)) {
+            return templateName;
+        }
+        final String templateFile = getFullTemplateFile(config, templateName);
+        if (!new File(templateFile).exists() && !embeddedTemplateExists(templateFile)) {
+            return templateName;
+        }
+        final String template = readTemplate(templateFile);
+        final StringBuilder content = new StringBuilder(template);
+        final Matcher partials = PARTIAL.matcher(template);
+        while (partials.find()) {
+            final String partial = partials.group(1);
+            content.append('\n').append(readTemplateWithPartials(partial.endsWith(TEMPLATE_EXTENSION) ? partial : partial + TEMPLATE_EXTENSION, read));
+        }
+        return content.toString();
+    }
+}
@@ -0,0 +1,125 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
+import com.github.jknack.handlebars.io.FileTemplateLoader;
+import com.github.jknack.handlebars.io.TemplateLoader;
+import io.swagger.codegen.v3.CodegenConfig;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.templates.TemplateEngine;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Handlebars template engine rendering like {@link io.swagger.codegen.v3.templates.HandlebarTemplateEngine}, but
+ * compiling every template and partial once per process instead of once per rendered file.
+ *
+ * The Handlebars instances (with their helpers and compiled templates) are shared by all instances of a generator
+ * class using the same template dir, so the helpers registered by
+ * {@link CodegenConfig#addHandlebarHelpers(Handlebars)} must not depend on the state of a generator instance.
+ * Generators which need that can return a {@link io.swagger.codegen.v3.templates.HandlebarTemplateEngine} from
+ * getTemplateEngine() instead.
+ *
+ * Output can also be streamed to a writer, see {@link #render(String, Map, Writer)} and {@link DeferredRendering}.
+ */
+public class CachedHandlebarTemplateEngine implements TemplateEngine {
+
+    private static final String TEMPLATE_EXTENSION = ".mustache";
+    private static final Map<List<Object>, Handlebars> HANDLEBARS = new ConcurrentHashMap<>();
+
+    private final CodegenConfig config;
+
+    public CachedHandlebarTemplateEngine(CodegenConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    @SuppressWarnings("try")
+    public String getRendered(String templateFile, Map<String, Object> templateData) throws IOException {
+        final Template template = getTemplate(templateFile);
+        final GenerationReport report = getGenerationReport();
+        final String deferred = DeferredRendering.defer(template, templateData, report, templateFile);
+        if (deferred != null) {
+            return deferred;
+        }
+        try (GenerationReport.Timer timer = GenerationReport.start(report, GenerationReport.RENDER_TEMPLATE, templateFile)) {
+            return template.apply(templateData);
+        }
+    }
+
+    /**
+     * Render a template straight to a writer, without building the output as a String.
+     *
+     * @param templateFile template file, as resolved by the generator
+     * @param templateData data to render
+     * @param writer writer of the output
+     */
+    @SuppressWarnings("try")
+    public void render(String templateFile, Map<String, Object> templateData, Writer writer) throws IOException {
+        final Template template = getTemplate(templateFile);
+        try (GenerationReport.Timer timer = GenerationReport.start(getGenerationReport(), GenerationReport.RENDER_TEMPLATE, templateFile)) {
+            template.apply(templateData, writer);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "handlebars";
+    }
+
+    /**
+     * @param templateFile template file, as resolved by the generator
+     * @return the compiled template
+     */
+    public Template getTemplate(String templateFile) throws IOException {
+        String templateName = templateFile.replace(TEMPLATE_EXTENSION, StringUtils.EMPTY).replace("\\", "/");
+        final String templateDir = config.templateDir().replace(TEMPLATE_EXTENSION, StringUtils.EMPTY).replace("\\", "/");
+        if (templateName.startsWith(templateDir)) {
+            templateName = StringUtils.replaceOnce(templateName, templateDir, StringUtils.EMPTY);
+        }
+        final boolean customTemplateDir = config.additionalProperties().get(CodegenConstants.TEMPLATE_DIR) != null;
+        final List<Object> key = Arrays.asList(config.getClass(), customTemplateDir, templateDir);
+        Handlebars handlebars = HANDLEBARS.get(key);
+        if (handlebars == null) {
+            handlebars = HANDLEBARS.computeIfAbsent(key, k -> createHandlebars(templateDir, customTemplateDir));
+        }
+        return handlebars.compile(templateName);
+    }
+
+    /**
+     * Drop all compiled templates, e.g. after the helpers of a generator class have been changed.
+     */
+    public static void clearCache() {
+        HANDLEBARS.clear();
+    }
+
+    private GenerationReport getGenerationReport() {
+        if (config instanceof DefaultCodegenConfig) {
+            return ((DefaultCodegenConfig) config).getGenerationReport();
+        }
+        return null;
+    }
+
+    private Handlebars createHandlebars(String templateDir, boolean customTemplateDir) {
+        final TemplateLoader templateLoader;
+        if (customTemplateDir) {
+            templateLoader = new FileTemplateLoader(templateDir, TEMPLATE_EXTENSION);
+        } else {
+            templateLoader = new ClassPathTemplateLoader("/" + templateDir, TEMPLATE_EXTENSION);
+        }
+        final Handlebars handlebars = new Handlebars(templateLoader);
+        handlebars.prettyPrint(true);
+        handlebars.with(new ContentHashTemplateCache());
+        config.addHandlebarHelpers(handlebars);
+        return handlebars;
+    }
+}
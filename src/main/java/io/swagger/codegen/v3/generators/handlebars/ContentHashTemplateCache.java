@@ -0,0 +1,88 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Parser;
+import com.github.jknack.handlebars.Template;
+import com.github.jknack.handlebars.cache.TemplateCache;
+import com.github.jknack.handlebars.io.StringTemplateSource;
+import com.github.jknack.handlebars.io.TemplateSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compiled templates (and partials) by file name, reused as long as the content of the file has the same hash. Edited
+ * custom templates are compiled again, everything else is parsed once per process.
+ */
+public class ContentHashTemplateCache implements TemplateCache {
+
+    private final ConcurrentMap<String, Compiled> templates = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    @Override
+    public void clear() {
+        templates.clear();
+    }
+
+    @Override
+    public void evict(TemplateSource source) {
+        templates.remove(source.filename());
+    }
+
+    @Override
+    public Template get(TemplateSource source, Parser parser) throws IOException {
+        final String content = source.content();
+        final byte[] hash = hash(content);
+        final Compiled compiled = templates.get(source.filename());
+        if (compiled != null && Arrays.equals(compiled.hash, hash)) {
+            hits.incrementAndGet();
+            return compiled.template;
+        }
+        misses.incrementAndGet();
+        // parse the content which has been hashed, the file may have changed in the meantime
+        final Template template = parser.parse(new StringTemplateSource(source.filename(), content));
+        templates.put(source.filename(), new Compiled(hash, template));
+        return template;
+    }
+
+    /**
+     * Content is hashed on every lookup, reloading is always on.
+     */
+    @Override
+    public TemplateCache setReload(boolean reload) {
+        return this;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static byte[] hash(String content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class Compiled {
+
+        private final byte[] hash;
+        private final Template template;
+
+        private Compiled(byte[] hash, Template template) {
+            this.hash = hash;
+            this.template = template;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Defers the rendering of templates from {@link CachedHandlebarTemplateEngine#getRendered} to the moment the output is
+ * written, so it can be streamed to the file instead of being built as a String first.
+ *
+ * While active on the current thread, getRendered returns a short placeholder instead of the output. The caller
+ * writing the file turns the placeholder into the actual output with {@link #render(String, Writer)}. Only callers
+ * doing that (e.g. {@link io.swagger.codegen.v3.generators.StreamingGenerator}) may activate it.
+ */
+public class DeferredRendering {
+
+    private static final String PLACEHOLDER_PREFIX = "\u0000deferred-template-";
+    private static final ThreadLocal<Placeholders> PENDING = new ThreadLocal<>();
+
+    private DeferredRendering() {
+    }
+
+    /**
+     * Start deferring the rendering on the current thread.
+     *
+     * @return true if started by this call, false if it was active already
+     */
+    public static boolean start() {
+        if (PENDING.get() != null) {
+            return false;
+        }
+        PENDING.set(new Placeholders());
+        return true;
+    }
+
+    /**
+     * Stop deferring the rendering on the current thread, dropping placeholders which haven't been rendered.
+     */
+    public static void stop() {
+        PENDING.remove();
+    }
+
+    /**
+     * @param rendered output returned by getRendered
+     * @return true if it's a placeholder of output still to be rendered
+     */
+    public static boolean isDeferred(String rendered) {
+        final Placeholders pending = PENDING.get();
+        return pending != null && rendered != null && rendered.startsWith(PLACEHOLDER_PREFIX) && pending.templates.containsKey(rendered);
+    }
+
+    /**
+     * Render the output of a placeholder.
+     *
+     * @param rendered placeholder returned by getRendered
+     * @param writer writer of the output file
+     */
+    @SuppressWarnings("try")
+    public static void render(String rendered, Writer writer) throws IOException {
+        final Placeholders pending = PENDING.get();
+        final Pending template = pending == null ? null : pending.templates.remove(rendered);
+        if (template == null) {
+            throw new IllegalStateException("No deferred template for " + rendered);
+        }
+        try (GenerationReport.Timer timer = GenerationReport.start(template.report, GenerationReport.RENDER_TEMPLATE, template.templateFile)) {
+            template.template.apply(template.templateData, writer);
+        }
+    }
+
+    /**
+     * Drop the output of a placeholder which doesn't need to be rendered after all.
+     *
+     * @param rendered placeholder returned by getRendered, or any other output which is then ignored
+     */
+    public static void discard(String rendered) {
+        final Placeholders pending = PENDING.get();
+        if (pending != null && rendered != null) {
+            pending.templates.remove(rendered);
+        }
+    }
+
+    /**
+     * @return a placeholder for the output of the template, or null if rendering isn't deferred on this thread
+     */
+    static String defer(Template template, Map<String, Object> templateData, GenerationReport report, String templateFile) {
+        final Placeholders pending = PENDING.get();
+        if (pending == null) {
+            return null;
+        }
+        final String placeholder = PLACEHOLDER_PREFIX + pending.count++;
+        pending.templates.put(placeholder, new Pending(template, templateData, report, templateFile));
+        return placeholder;
+    }
+
+    private static class Placeholders {
+
+        private final Map<String, Pending> templates = new HashMap<>();
+        private long count;
+    }
+
+    private static class Pending {
+
+        private final Template template;
+        private final Map<String, Object> templateData;
+        private final GenerationReport report;
+        private final String templateFile;
+
+        private Pending(Template template, Map<String, Object> templateData, GenerationReport report, String templateFile) {
+            this.template = template;
+            this.templateData = templateData;
+            this.report = report;
+            this.templateFile = templateFile;
+        }
+    }
+}
@@ -4,12 +4,17 @@ import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
 import com.github.jknack.handlebars.Options.Buffer;
 import io.swagger.codegen.v3.VendorExtendable;
+import io.swagger.codegen.v3.generators.util.VendorExtensions;
+import io.swagger.codegen.v3.generators.util.VendorExtensions.Flag;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ExtensionHelper implements Helper<VendorExtendable> {
 
+    private final Map<String, Flag> flags = new ConcurrentHashMap<>();
+
     public abstract String getPreffix();
 
     @Override
@@ -21,9 +26,8 @@ public abstract class ExtensionHelper implements Helper<VendorExtendable> {
             return buffer;
         }
         final String param = options.param(0);
-        String extension = getPreffix() + param;
 
-        if (!getBooleanValue(vendor, extension)) {
+        if (!getBooleanValue(vendor, getFlag(flags, getPreffix(), param))) {
             buffer.append(options.inverse());
         } else {
             buffer.append(options.fn());
@@ -36,9 +40,35 @@ public abstract class ExtensionHelper implements Helper<VendorExtendable> {
             return false;
         }
         Map<String, Object> vendorExtensions = vendorExtendable.getVendorExtensions();
-        if (vendorExtensions.get(extensionKey) == null) {
+        if (vendorExtensions instanceof VendorExtensions) {
+            return ((VendorExtensions) vendorExtensions).getBooleanValue(extensionKey);
+        }
+        return VendorExtensions.toBoolean(vendorExtensions.get(extensionKey));
+    }
+
+    public static boolean getBooleanValue(VendorExtendable vendorExtendable, Flag flag) {
+        if (vendorExtendable == null) {
             return false;
         }
-        return Boolean.parseBoolean(vendorExtensions.get(extensionKey).toString());
+        Map<String, Object> vendorExtensions = vendorExtendable.getVendorExtensions();
+        if (vendorExtensions instanceof VendorExtensions) {
+            return ((VendorExtensions) vendorExtensions).getBooleanValue(flag);
+        }
+        return VendorExtensions.toBoolean(vendorExtensions.get(flag.getName()));
+    }
+
+    /**
+     * Look the flag of a template parameter up, so the extension name is only built once per parameter.
+     */
+    static Flag getFlag(Map<String, Flag> flags, String prefix, String param) {
+        if (param == null) {
+            return VendorExtensions.flag(prefix + param);
+        }
+        Flag flag = flags.get(param);
+        if (flag == null) {
+            flag = VendorExtensions.flag(prefix + param);
+            flags.put(param, flag);
+        }
+        return flag;
     }
 }
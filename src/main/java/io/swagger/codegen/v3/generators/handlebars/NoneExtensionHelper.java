@@ -3,13 +3,18 @@ package io.swagger.codegen.v3.generators.handlebars;
 import com.github.jknack.handlebars.Helper;
 import com.github.jknack.handlebars.Options;
 import io.swagger.codegen.v3.VendorExtendable;
+import io.swagger.codegen.v3.generators.util.VendorExtensions.Flag;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
 public abstract class NoneExtensionHelper implements Helper<VendorExtendable> {
 
+    private final Map<String, Flag> flags = new ConcurrentHashMap<>();
+
     public abstract String getPreffix();
 
     @Override
@@ -20,9 +25,8 @@ public abstract class NoneExtensionHelper implements Helper<VendorExtendable> {
             return buffer;
         }
         final String param = options.param(0);
-        String extension = getPreffix() + param;
 
-        if (!getBooleanValue(vendor, extension)) {
+        if (!getBooleanValue(vendor, ExtensionHelper.getFlag(flags, getPreffix(), param))) {
             buffer.append(options.fn());
         } else {
             buffer.append(options.inverse());
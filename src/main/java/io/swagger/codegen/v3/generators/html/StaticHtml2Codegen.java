@@ -9,6 +9,7 @@ import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.codegen.v3.utils.Markdown;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -115,29 +116,32 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
     public String getTypeDeclaration(Schema propertySchema) {
         if (propertySchema instanceof ArraySchema) {
             Schema inner = ((ArraySchema) propertySchema).getItems();
-            return String.format("%s[%s]", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s[%s]", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
         }
         else if (propertySchema instanceof MapSchema && propertySchema.getAdditionalProperties() instanceof Schema) {
             Schema inner = (Schema) propertySchema.getAdditionalProperties();
-            return String.format("%s[String, %s]", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s[String, %s]", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
         }
         return super.getTypeDeclaration(propertySchema);
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
-        List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
-        for (CodegenOperation op : operationList) {
-            op.httpMethod = op.httpMethod.toLowerCase();
-            for (CodegenResponse response : op.responses) {
-                if ("0".equals(response.code)) {
-                    response.code = "default";
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            for (CodegenOperation op : operationList) {
+                op.httpMethod = op.httpMethod.toLowerCase();
+                for (CodegenResponse response : op.responses) {
+                    if ("0".equals(response.code)) {
+                        response.code = "default";
+                    }
                 }
+                op.formParams = postProcessParameterEnum(op.formParams);
             }
-            op.formParams = postProcessParameterEnum(op.formParams);
+            return objs;
         }
-        return objs;
     }
 
     @Override
@@ -154,29 +158,32 @@ public class StaticHtml2Codegen extends DefaultCodegenConfig implements CodegenC
     }
 
     @Override
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        super.preprocessOpenAPI(openAPI);
-
-        if (openAPI.getInfo() != null) {
-            Info info = openAPI.getInfo();
-            if (StringUtils.isBlank(jsProjectName) && info.getTitle() != null) {
-                // when jsProjectName is not specified, generate it from info.title
-                jsProjectName = sanitizeName(dashize(info.getTitle()));
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            super.preprocessOpenAPI(openAPI);
+
+            if (openAPI.getInfo() != null) {
+                Info info = openAPI.getInfo();
+                if (StringUtils.isBlank(jsProjectName) && info.getTitle() != null) {
+                    // when jsProjectName is not specified, generate it from info.title
+                    jsProjectName = sanitizeName(dashize(info.getTitle()));
+                }
             }
-        }
 
-        // default values
-        if (StringUtils.isBlank(jsProjectName)) {
-            jsProjectName = "swagger-js-client";
-        }
-        if (StringUtils.isBlank(jsModuleName)) {
-            jsModuleName = camelize(underscore(jsProjectName));
-        }
+            // default values
+            if (StringUtils.isBlank(jsProjectName)) {
+                jsProjectName = "swagger-js-client";
+            }
+            if (StringUtils.isBlank(jsModuleName)) {
+                jsModuleName = camelize(underscore(jsProjectName));
+            }
 
-        additionalProperties.put("jsProjectName", jsProjectName);
-        additionalProperties.put("jsModuleName", jsModuleName);
+            additionalProperties.put("jsProjectName", jsProjectName);
+            additionalProperties.put("jsModuleName", jsModuleName);
 
-        preparHtmlForGlobalDescription(openAPI);
+            preparHtmlForGlobalDescription(openAPI);
+        }
     }
 
     @Override
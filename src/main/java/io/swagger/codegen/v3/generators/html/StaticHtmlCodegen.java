@@ -11,6 +11,7 @@ import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.codegen.v3.utils.Markdown;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
@@ -98,28 +99,31 @@ public class StaticHtmlCodegen extends DefaultCodegenConfig implements CodegenCo
     public String getTypeDeclaration(Schema propertySchema) {
         if (propertySchema instanceof ArraySchema) {
             Schema inner = ((ArraySchema) propertySchema).getItems();
-            return String.format("%s[%s]", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s[%s]", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
         }
         else if (propertySchema instanceof MapSchema) {
             Schema inner = (Schema) propertySchema.getAdditionalProperties();
-            return String.format("%s[String, %s]", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s[String, %s]", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
         }
         return super.getTypeDeclaration(propertySchema);
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
-        List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
-        for (CodegenOperation op : operationList) {
-            op.httpMethod = op.httpMethod.toLowerCase();
-            for (CodegenResponse response : op.responses) {
-                if ("0".equals(response.code)) {
-                    response.code = "default";
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            for (CodegenOperation op : operationList) {
+                op.httpMethod = op.httpMethod.toLowerCase();
+                for (CodegenResponse response : op.responses) {
+                    if ("0".equals(response.code)) {
+                        response.code = "default";
+                    }
                 }
             }
+            return objs;
         }
-        return objs;
     }
 
     @Override
@@ -170,17 +174,21 @@ public class StaticHtmlCodegen extends DefaultCodegenConfig implements CodegenCo
         return name;
     }
 
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        Info info = openAPI.getInfo();
-        info.setDescription(toHtml(info.getDescription()));
-        info.setTitle(toHtml(info.getTitle()));
-        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
-            return;
-        }
-        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
-        for (Schema schema : schemas.values()) {
-            schema.setDescription(toHtml(schema.getDescription()));
-            schema.setTitle(toHtml(schema.getTitle()));
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            super.preprocessOpenAPI(openAPI);
+            Info info = openAPI.getInfo();
+            info.setDescription(toHtml(info.getDescription()));
+            info.setTitle(toHtml(info.getTitle()));
+            if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+                return;
+            }
+            Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+            for (Schema schema : schemas.values()) {
+                schema.setDescription(toHtml(schema.getDescription()));
+                schema.setTitle(toHtml(schema.getTitle()));
+            }
         }
     }
 
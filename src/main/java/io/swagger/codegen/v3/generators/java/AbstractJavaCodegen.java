@@ -10,6 +10,10 @@ import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.handlebars.java.JavaHelper;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.generators.util.NameCache;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -650,7 +654,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                 // TODO maybe better defaulting to StringProperty than returning null
                 return null;
             }
-            return String.format("%s<%s>", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s<%s>", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
             // return getSwaggerType(propertySchema) + "<" + getTypeDeclaration(inner) + ">";
         } else if (propertySchema instanceof MapSchema || propertySchema.getAdditionalProperties() != null) {
             Schema inner = (Schema) propertySchema.getAdditionalProperties();
@@ -659,7 +663,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                 // TODO maybe better defaulting to StringProperty than returning null
                 return null;
             }
-            return getSchemaType(propertySchema) + "<String, " + getTypeDeclaration(inner) + ">";
+            return cachedSchemaType(propertySchema) + "<String, " + cachedTypeDeclaration(inner) + ">";
         }
         return super.getTypeDeclaration(propertySchema);
     }
@@ -686,7 +690,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                 return null;
             }
 
-            String typeDeclaration = getTypeDeclaration(arraySchema.getItems());
+            String typeDeclaration = cachedTypeDeclaration(arraySchema.getItems());
             Object java8obj = additionalProperties.get("java8");
             if (java8obj != null) {
                 Boolean java8 = Boolean.valueOf(java8obj.toString());
@@ -707,7 +711,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                 return null;
             }
 
-            String typeDeclaration = String.format("String, %s", getTypeDeclaration((Schema) schema.getAdditionalProperties()));
+            String typeDeclaration = String.format("String, %s", cachedTypeDeclaration((Schema) schema.getAdditionalProperties()));
             Object java8obj = additionalProperties.get("java8");
             if (java8obj != null) {
                 Boolean java8 = Boolean.valueOf(java8obj.toString());
@@ -834,7 +838,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
                 // LOGGER.error("No Type defined.", new Exception());
             }
         }
-        return toModelName(schemaType);
+        return nameCache.get(NameCache.Transform.MODEL_NAME, schemaType, this::toModelName);
     }
 
     @Override
@@ -873,7 +877,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         boolean hasEnums = getBooleanValue(codegenModel, HAS_ENUMS_EXT_NAME);
         if (allSchemas != null && codegenModel.parentSchema != null && hasEnums) {
             final Schema parentModel = allSchemas.get(codegenModel.parentSchema);
-            final CodegenModel parentCodegenModel = super.fromModel(codegenModel.parent, parentModel, allSchemas);
+            final CodegenModel parentCodegenModel = fromParentModel(codegenModel.parent, parentModel, allSchemas);
             codegenModel = AbstractJavaCodegen.reconcileInlineEnums(codegenModel, parentCodegenModel);
         }
         return codegenModel;
@@ -916,64 +920,74 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     public void postProcessParameter(CodegenParameter parameter) { }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        // recursively add import for mapping one type to multiple imports
-        List<Map<String, String>> recursiveImports = (List<Map<String, String>>) objs.get("imports");
-        if (recursiveImports == null)
-            return objs;
-
-        ListIterator<Map<String, String>> listIterator = recursiveImports.listIterator();
-        while (listIterator.hasNext()) {
-            String _import = listIterator.next().get("import");
-            // if the import package happens to be found in the importMapping (key)
-            // add the corresponding import package to the list
-            if (importMapping.containsKey(_import)) {
-                Map<String, String> newImportMap= new HashMap<String, String>();
-                newImportMap.put("import", importMapping.get(_import));
-                listIterator.add(newImportMap);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            // recursively add import for mapping one type to multiple imports
+            List<Map<String, String>> recursiveImports = (List<Map<String, String>>) objs.get("imports");
+            if (recursiveImports == null)
+                return objs;
+
+            ListIterator<Map<String, String>> listIterator = recursiveImports.listIterator();
+            while (listIterator.hasNext()) {
+                String _import = listIterator.next().get("import");
+                // if the import package happens to be found in the importMapping (key)
+                // add the corresponding import package to the list
+                if (importMapping.containsKey(_import)) {
+                    Map<String, String> newImportMap= new HashMap<String, String>();
+                    newImportMap.put("import", importMapping.get(_import));
+                    listIterator.add(newImportMap);
+                }
             }
-        }
 
-        return postProcessModelsEnum(objs);
+            return postProcessModelsEnum(objs);
+        }
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        // Remove imports of List, ArrayList, Map and HashMap as they are
-        // imported in the template already.
-        List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
-        Pattern pattern = Pattern.compile("java\\.util\\.(List|ArrayList|Map|HashMap)");
-        for (Iterator<Map<String, String>> itr = imports.iterator(); itr.hasNext();) {
-            String _import = itr.next().get("import");
-            if (pattern.matcher(_import).matches()) {
-                itr.remove();
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            // Remove imports of List, ArrayList, Map and HashMap as they are
+            // imported in the template already.
+            List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
+            Pattern pattern = Pattern.compile("java\\.util\\.(List|ArrayList|Map|HashMap)");
+            for (Iterator<Map<String, String>> itr = imports.iterator(); itr.hasNext();) {
+                String _import = itr.next().get("import");
+                if (pattern.matcher(_import).matches()) {
+                    itr.remove();
+                }
             }
+            return objs;
         }
-        return objs;
     }
 
     @Override
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        if (openAPI == null || openAPI.getPaths() == null){
-            return;
-        }
-        for (String pathname : openAPI.getPaths().keySet()) {
-            PathItem pathItem = openAPI.getPaths().get(pathname);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            super.preprocessOpenAPI(openAPI);
+            if (openAPI == null || openAPI.getPaths() == null){
+                return;
+            }
+            for (String pathname : openAPI.getPaths().keySet()) {
+                PathItem pathItem = openAPI.getPaths().get(pathname);
 
-            for (Operation operation : pathItem.readOperations()) {
-                if (operation == null) {
-                    continue;
-                }
-                //only add content-Type if its no a GET-Method
-                if (!operation.equals(pathItem.getGet())) {
-                    String contentType = getContentType(operation.getRequestBody());
-                    if (StringUtils.isBlank(contentType)) {
-                        contentType = DEFAULT_CONTENT_TYPE;
+                for (Operation operation : pathItem.readOperations()) {
+                    if (operation == null) {
+                        continue;
+                    }
+                    //only add content-Type if its no a GET-Method
+                    if (!operation.equals(pathItem.getGet())) {
+                        String contentType = getContentType(operation.getRequestBody());
+                        if (StringUtils.isBlank(contentType)) {
+                            contentType = DEFAULT_CONTENT_TYPE;
+                        }
+                        operation.addExtension("x-contentType", contentType);
                     }
-                    operation.addExtension("x-contentType", contentType);
+                    String accepts = getAccept(operation);
+                    operation.addExtension("x-accepts", accepts);
                 }
-                String accepts = getAccept(operation);
-                operation.addExtension("x-accepts", accepts);
             }
         }
     }
@@ -1090,24 +1104,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
         if ("$".equals(name)) {
             return "value";
         }
-        name = name.replaceAll("\\[\\]", StringUtils.EMPTY);
-        name = name.replaceAll("\\[", "_")
-                .replaceAll("\\]", "")
-                .replaceAll("\\(", "_")
-                .replaceAll("\\)", StringUtils.EMPTY)
-                .replaceAll("\\.", "_")
-                .replaceAll("-", "_")
-                .replaceAll(" ", "_");
-
-        // remove everything else other than word, number and _
-        // $php_variable => php_variable
-        if (allowUnicodeIdentifiers) { //could be converted to a single line with ?: operator
-            name = Pattern.compile("\\W-[\\$]", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll(StringUtils.EMPTY);
-        }
-        else {
-            name = name.replaceAll("\\W-[\\$]", StringUtils.EMPTY);
-        }
-        return name;
+        return NameSanitizer.sanitizeVarName(name);
     }
 
     private static CodegenModel reconcileInlineEnums(CodegenModel codegenModel, CodegenModel parentCodegenModel) {
@@ -1278,8 +1275,8 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
     }
 
     @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.COMMENT_DELIMITERS;
     }
 
     /*
@@ -1334,7 +1331,7 @@ public abstract class AbstractJavaCodegen extends DefaultCodegenConfig {
 
     @Override
     public String sanitizeTag(String tag) {
-        tag = camelize(underscore(sanitizeName(tag)));
+        tag = nameCache.get(NameCache.Transform.SANITIZE_TAG, tag, value -> camelize(underscore(sanitizeName(value))));
 
         // tag starts with numbers
         if (tag.matches("^\\d.*")) {
@@ -7,6 +7,7 @@ import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenResponse;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.generators.features.BeanValidationFeatures;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.codegen.v3.utils.ModelUtils;
 import io.swagger.codegen.v3.utils.URLPathUtil;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -89,37 +90,42 @@ public abstract class AbstractJavaJAXRSServerCodegen extends AbstractJavaCodegen
     }
 
     @Override
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        if (!this.additionalProperties.containsKey("serverPort")) {
-            final URL urlInfo = URLPathUtil.getServerURL(openAPI);
-            String port = "8080"; // Default value for a JEE Server
-            if ( urlInfo != null && urlInfo.getPort() != 0) {
-                port = String.valueOf(urlInfo.getPort());
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            // the preprocessing of AbstractJavaCodegen isn't run for these servers
+            deduplicateInlineSchemas(openAPI);
+            if (!this.additionalProperties.containsKey("serverPort")) {
+                final URL urlInfo = URLPathUtil.getServerURL(openAPI);
+                String port = "8080"; // Default value for a JEE Server
+                if ( urlInfo != null && urlInfo.getPort() != 0) {
+                    port = String.valueOf(urlInfo.getPort());
+                }
+                this.additionalProperties.put("serverPort", port);
             }
-            this.additionalProperties.put("serverPort", port);
-        }
 
-        if (openAPI.getPaths() != null) {
-            for (String pathname : openAPI.getPaths().keySet()) {
-                PathItem pathItem = openAPI.getPaths().get(pathname);
-                final Operation[] operations = ModelUtils.createOperationArray(pathItem);
-                for (Operation operation : operations) {
-                    if (operation != null && operation.getTags() != null) {
-                        List<Map<String, String>> tags = new ArrayList<Map<String, String>>();
-                        for (String tag : operation.getTags()) {
-                            Map<String, String> value = new HashMap<String, String>();
-                            value.put("tag", tag);
-                            value.put("hasMore", "true");
-                            tags.add(value);
-                        }
-                        if (tags.size() > 0) {
-                            tags.get(tags.size() - 1).remove("hasMore");
-                        }
-                        if (operation.getTags().size() > 0) {
-                            String tag = operation.getTags().get(0);
-                            operation.setTags(Arrays.asList(tag));
+            if (openAPI.getPaths() != null) {
+                for (String pathname : openAPI.getPaths().keySet()) {
+                    PathItem pathItem = openAPI.getPaths().get(pathname);
+                    final Operation[] operations = ModelUtils.createOperationArray(pathItem);
+                    for (Operation operation : operations) {
+                        if (operation != null && operation.getTags() != null) {
+                            List<Map<String, String>> tags = new ArrayList<Map<String, String>>();
+                            for (String tag : operation.getTags()) {
+                                Map<String, String> value = new HashMap<String, String>();
+                                value.put("tag", tag);
+                                value.put("hasMore", "true");
+                                tags.add(value);
+                            }
+                            if (tags.size() > 0) {
+                                tags.get(tags.size() - 1).remove("hasMore");
+                            }
+                            if (operation.getTags().size() > 0) {
+                                String tag = operation.getTags().get(0);
+                                operation.setTags(Arrays.asList(tag));
+                            }
+                            operation.addExtension("x-tags", tags);
                         }
-                        operation.addExtension("x-tags", tags);
                     }
                 }
             }
@@ -127,8 +133,11 @@ public abstract class AbstractJavaJAXRSServerCodegen extends AbstractJavaCodegen
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        return jaxrsPostProcessOperations(objs);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            return jaxrsPostProcessOperations(objs);
+        }
     }
 
     static Map<String, Object> jaxrsPostProcessOperations(Map<String, Object> objs) {
@@ -10,6 +10,7 @@ import io.swagger.codegen.v3.generators.features.BeanValidationFeatures;
 import io.swagger.codegen.v3.generators.features.GzipTestFeatures;
 import io.swagger.codegen.v3.generators.features.LoggingTestFeatures;
 import io.swagger.codegen.v3.generators.features.UseGenericResponseFeatures;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.v3.oas.models.Operation;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -134,9 +135,12 @@ public class JavaCXFClientCodegen extends AbstractJavaCodegen implements BeanVal
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        objs = super.postProcessOperations(objs);
-        return AbstractJavaJAXRSServerCodegen.jaxrsPostProcessOperations(objs);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            objs = super.postProcessOperations(objs);
+            return AbstractJavaJAXRSServerCodegen.jaxrsPostProcessOperations(objs);
+        }
     }
 
     @Override
@@ -11,6 +11,7 @@ import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.features.BeanValidationFeatures;
 import io.swagger.codegen.v3.generators.features.GzipFeatures;
 import io.swagger.codegen.v3.generators.features.PerformBeanValidationFeatures;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
@@ -323,79 +324,81 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         return getLibrary() != null && getLibrary().contains(RETROFIT_2);
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"unchecked", "try"})
     @Override
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        super.postProcessOperations(objs);
-        if (usesAnyRetrofitLibrary()) {
-            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
-            if (operations != null) {
-                List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
-                for (CodegenOperation operation : ops) {
-                    boolean hasConsumes = getBooleanValue(operation, CodegenConstants.HAS_CONSUMES_EXT_NAME);
-                    if (hasConsumes) {
-
-                        if (isMultipartType(operation.consumes)) {
-                            operation.getVendorExtensions().put(CodegenConstants.IS_MULTIPART_EXT_NAME, Boolean.TRUE);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            super.postProcessOperations(objs);
+            if (usesAnyRetrofitLibrary()) {
+                Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+                if (operations != null) {
+                    List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+                    for (CodegenOperation operation : ops) {
+                        boolean hasConsumes = getBooleanValue(operation, CodegenConstants.HAS_CONSUMES_EXT_NAME);
+                        if (hasConsumes) {
+
+                            if (isMultipartType(operation.consumes)) {
+                                operation.getVendorExtensions().put(CodegenConstants.IS_MULTIPART_EXT_NAME, Boolean.TRUE);
+                            }
+                            else {
+                                operation.prioritizedContentTypes = prioritizeContentTypes(operation.consumes);
+                            }
                         }
-                        else {
-                            operation.prioritizedContentTypes = prioritizeContentTypes(operation.consumes);
+                        if (operation.returnType == null) {
+                            operation.returnType = "Void";
+                        }
+                        if (usesRetrofit2Library() && StringUtils.isNotEmpty(operation.path) && operation.path.startsWith("/")){
+                            operation.path = operation.path.substring(1);
                         }
-                    }
-                    if (operation.returnType == null) {
-                        operation.returnType = "Void";
-                    }
-                    if (usesRetrofit2Library() && StringUtils.isNotEmpty(operation.path) && operation.path.startsWith("/")){
-                        operation.path = operation.path.substring(1);
-                    }
 
-                    // sorting operation parameters to make sure path params are parsed before query params
-                    if (operation.allParams != null) {
-                        sort(operation.allParams, new Comparator<CodegenParameter>() {
-                            @Override
-                            public int compare(CodegenParameter one, CodegenParameter another) {
-                                if (getBooleanValue(one, CodegenConstants.IS_PATH_PARAM_EXT_NAME)
-                                        && getBooleanValue(another, CodegenConstants.IS_QUERY_PARAM_EXT_NAME)) {
-                                    return -1;
-                                }
-                                if (getBooleanValue(one, CodegenConstants.IS_QUERY_PARAM_EXT_NAME)
-                                        && getBooleanValue(another, CodegenConstants.IS_PATH_PARAM_EXT_NAME)){
-                                    return 1;
+                        // sorting operation parameters to make sure path params are parsed before query params
+                        if (operation.allParams != null) {
+                            sort(operation.allParams, new Comparator<CodegenParameter>() {
+                                @Override
+                                public int compare(CodegenParameter one, CodegenParameter another) {
+                                    if (getBooleanValue(one, CodegenConstants.IS_PATH_PARAM_EXT_NAME)
+                                            && getBooleanValue(another, CodegenConstants.IS_QUERY_PARAM_EXT_NAME)) {
+                                        return -1;
+                                    }
+                                    if (getBooleanValue(one, CodegenConstants.IS_QUERY_PARAM_EXT_NAME)
+                                            && getBooleanValue(another, CodegenConstants.IS_PATH_PARAM_EXT_NAME)){
+                                        return 1;
+                                    }
+
+                                    return 0;
                                 }
-
-                                return 0;
+                            });
+                            Iterator<CodegenParameter> iterator = operation.allParams.iterator();
+                            while (iterator.hasNext()){
+                                CodegenParameter param = iterator.next();
+                                param.getVendorExtensions().put(CodegenConstants.HAS_MORE_EXT_NAME, iterator.hasNext());
                             }
-                        });
-                        Iterator<CodegenParameter> iterator = operation.allParams.iterator();
-                        while (iterator.hasNext()){
-                            CodegenParameter param = iterator.next();
-                            param.getVendorExtensions().put(CodegenConstants.HAS_MORE_EXT_NAME, iterator.hasNext());
                         }
                     }
                 }
-            }
 
-        }
+            }
 
-        // camelize path variables for Feign client
-        if ("feign".equals(getLibrary())) {
-            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
-            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
-            for (CodegenOperation op : operationList) {
-                String path = op.path;
-                String[] items = path.split("/", -1);
-
-                for (int i = 0; i < items.length; ++i) {
-                    if (items[i].matches("^\\{(.*)\\}$")) { // wrap in {}
-                        // camelize path variable
-                        items[i] = "{" + camelize(items[i].substring(1, items[i].length()-1), true) + "}";
+            // camelize path variables for Feign client
+            if ("feign".equals(getLibrary())) {
+                Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+                List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+                for (CodegenOperation op : operationList) {
+                    String path = op.path;
+                    String[] items = path.split("/", -1);
+
+                    for (int i = 0; i < items.length; ++i) {
+                        if (items[i].matches("^\\{(.*)\\}$")) { // wrap in {}
+                            // camelize path variable
+                            items[i] = "{" + camelize(items[i].substring(1, items[i].length()-1), true) + "}";
+                        }
                     }
+                    op.path = StringUtils.join(items, "/");
                 }
-                op.path = StringUtils.join(items, "/");
             }
-        }
 
-        return objs;
+            return objs;
+        }
     }
 
     @Override
@@ -488,23 +491,25 @@ public class JavaClientCodegen extends AbstractJavaCodegen implements BeanValida
         }
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({"unchecked", "try"})
     @Override
     public Map<String, Object> postProcessAllModels(Map<String, Object> objs) {
-        Map<String, Object> allProcessedModels = super.postProcessAllModels(objs);
-        if(!additionalProperties.containsKey("gsonFactoryMethod")) {
-            List<Object> allModels = new ArrayList<Object>();
-            for (String name: allProcessedModels.keySet()) {
-                Map<String, Object> models = (Map<String, Object>)allProcessedModels.get(name);
-                try {
-                    allModels.add(((List<Object>) models.get("models")).get(0));
-                } catch (Exception e){
-                    e.printStackTrace();
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_ALL_MODELS, null)) {
+            Map<String, Object> allProcessedModels = super.postProcessAllModels(objs);
+            if(!additionalProperties.containsKey("gsonFactoryMethod")) {
+                List<Object> allModels = new ArrayList<Object>();
+                for (String name: allProcessedModels.keySet()) {
+                    Map<String, Object> models = (Map<String, Object>)allProcessedModels.get(name);
+                    try {
+                        allModels.add(((List<Object>) models.get("models")).get(0));
+                    } catch (Exception e){
+                        e.printStackTrace();
+                    }
                 }
+                additionalProperties.put("parent", modelInheritanceSupportInGson(allModels));
             }
-            additionalProperties.put("parent", modelInheritanceSupportInGson(allModels));
+            return allProcessedModels;
         }
-        return allProcessedModels;
     }
 
     @Override
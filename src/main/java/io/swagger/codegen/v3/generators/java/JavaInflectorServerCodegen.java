@@ -8,6 +8,7 @@ import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -122,38 +123,41 @@ public class JavaInflectorServerCodegen extends AbstractJavaCodegen {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
-        if (operations != null) {
-            List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
-            for (CodegenOperation operation : ops) {
-                if (operation.returnType == null) {
-                    operation.returnType = "Void";
-                } else if (operation.returnType.startsWith("List")) {
-                    String rt = operation.returnType;
-                    int end = rt.lastIndexOf(">");
-                    if (end > 0) {
-                        operation.returnType = rt.substring("List<".length(), end);
-                        operation.returnContainer = "List";
-                    }
-                } else if (operation.returnType.startsWith("Map")) {
-                    String rt = operation.returnType;
-                    int end = rt.lastIndexOf(">");
-                    if (end > 0) {
-                        operation.returnType = rt.substring("Map<".length(), end);
-                        operation.returnContainer = "Map";
-                    }
-                } else if (operation.returnType.startsWith("Set")) {
-                    String rt = operation.returnType;
-                    int end = rt.lastIndexOf(">");
-                    if (end > 0) {
-                        operation.returnType = rt.substring("Set<".length(), end);
-                        operation.returnContainer = "Set";
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            if (operations != null) {
+                List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+                for (CodegenOperation operation : ops) {
+                    if (operation.returnType == null) {
+                        operation.returnType = "Void";
+                    } else if (operation.returnType.startsWith("List")) {
+                        String rt = operation.returnType;
+                        int end = rt.lastIndexOf(">");
+                        if (end > 0) {
+                            operation.returnType = rt.substring("List<".length(), end);
+                            operation.returnContainer = "List";
+                        }
+                    } else if (operation.returnType.startsWith("Map")) {
+                        String rt = operation.returnType;
+                        int end = rt.lastIndexOf(">");
+                        if (end > 0) {
+                            operation.returnType = rt.substring("Map<".length(), end);
+                            operation.returnContainer = "Map";
+                        }
+                    } else if (operation.returnType.startsWith("Set")) {
+                        String rt = operation.returnType;
+                        int end = rt.lastIndexOf(">");
+                        if (end > 0) {
+                            operation.returnType = rt.substring("Set<".length(), end);
+                            operation.returnContainer = "Set";
+                        }
                     }
                 }
             }
+            return objs;
         }
-        return objs;
     }
 
     @Override
@@ -249,16 +253,19 @@ public class JavaInflectorServerCodegen extends AbstractJavaCodegen {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
-        OpenAPI openAPI = (OpenAPI) objs.get("openAPI");
-        if(openAPI != null) {
-            try {
-                objs.put("openapi3-yaml", Yaml.mapper().writeValueAsString(openAPI));
-            } catch (JsonProcessingException e) {
-                LOGGER.error(e.getMessage(), e);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_SUPPORTING_FILE_DATA, null)) {
+            OpenAPI openAPI = (OpenAPI) objs.get("openAPI");
+            if(openAPI != null) {
+                try {
+                    objs.put("openapi3-yaml", Yaml.mapper().writeValueAsString(openAPI));
+                } catch (JsonProcessingException e) {
+                    LOGGER.error(e.getMessage(), e);
+                }
             }
+            return super.postProcessSupportingFileData(objs);
         }
-        return super.postProcessSupportingFileData(objs);
     }
 
     @Override
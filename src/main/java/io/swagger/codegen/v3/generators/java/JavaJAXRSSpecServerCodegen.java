@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -162,17 +163,20 @@ public class JavaJAXRSSpecServerCodegen extends AbstractJavaJAXRSServerCodegen {
     }
 
     @Override
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        // copy input swagger to output folder
-        try {
-            String swaggerJson = Json.pretty(openAPI);
-            FileUtils.writeStringToFile(new File(outputFolder + File.separator + "swagger.json"), swaggerJson);
-        }
-        catch (IOException e) {
-            throw new RuntimeException(e.getMessage(), e.getCause());
-        }
-        super.preprocessOpenAPI(openAPI);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            // copy input swagger to output folder
+            try {
+                String swaggerJson = Json.pretty(openAPI);
+                FileUtils.writeStringToFile(new File(outputFolder + File.separator + "swagger.json"), swaggerJson);
+            }
+            catch (IOException e) {
+                throw new RuntimeException(e.getMessage(), e.getCause());
+            }
+            super.preprocessOpenAPI(openAPI);
 
+        }
     }
 
     @Override
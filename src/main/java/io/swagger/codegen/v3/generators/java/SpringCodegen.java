@@ -14,6 +14,7 @@ import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.features.BeanValidationFeatures;
 import io.swagger.codegen.v3.generators.features.OptionalFeatures;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.codegen.v3.templates.MustacheTemplateEngine;
 import io.swagger.codegen.v3.templates.TemplateEngine;
 import io.swagger.codegen.v3.utils.URLPathUtil;
@@ -406,53 +407,56 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
     }
 
     @Override
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        super.preprocessOpenAPI(openAPI);
-
-        if(!additionalProperties.containsKey(TITLE)) {
-            // From the title, compute a reasonable name for the package and the API
-            String title = openAPI.getInfo().getTitle();
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            super.preprocessOpenAPI(openAPI);
+
+            if(!additionalProperties.containsKey(TITLE)) {
+                // From the title, compute a reasonable name for the package and the API
+                String title = openAPI.getInfo().getTitle();
+
+                // Drop any API suffix
+                if (title != null) {
+                    title = title.trim().replace(" ", "-");
+                    if (title.toUpperCase().endsWith("API")) {
+                        title = title.substring(0, title.length() - 3);
+                    }
 
-            // Drop any API suffix
-            if (title != null) {
-                title = title.trim().replace(" ", "-");
-                if (title.toUpperCase().endsWith("API")) {
-                    title = title.substring(0, title.length() - 3);
+                    this.title = camelize(sanitizeName(title), true);
                 }
+                additionalProperties.put(TITLE, this.title);
+            }
 
-                this.title = camelize(sanitizeName(title), true);
+            final URL urlInfo = URLPathUtil.getServerURL(openAPI);
+            String port = "8080"; // Default value for a JEE Server
+            if ( urlInfo != null && urlInfo.getPort() != 0) {
+                port = String.valueOf(urlInfo.getPort());
             }
-            additionalProperties.put(TITLE, this.title);
-        }
-
-        final URL urlInfo = URLPathUtil.getServerURL(openAPI);
-        String port = "8080"; // Default value for a JEE Server
-        if ( urlInfo != null && urlInfo.getPort() != 0) {
-            port = String.valueOf(urlInfo.getPort());
-        }
-
-        this.additionalProperties.put("serverPort", port);
-        if (openAPI.getPaths() != null) {
-            for (String pathname : openAPI.getPaths().keySet()) {
-                PathItem pathItem = openAPI.getPaths().get(pathname);
-                final List<Operation> operations = pathItem.readOperations();
-                for (Operation operation : operations) {
-                    if (operation.getTags() != null) {
-                        List<Map<String, String>> tags = new ArrayList<>();
-                        for (String tag : operation.getTags()) {
-                            Map<String, String> value = new HashMap<>();
-                            value.put("tag", tag);
-                            value.put("hasMore", "true");
-                            tags.add(value);
-                        }
-                        if (tags.size() > 0) {
-                            tags.get(tags.size() - 1).remove("hasMore");
-                        }
-                        if (operation.getTags().size() > 0) {
-                            String tag = operation.getTags().get(0);
-                            operation.setTags(Arrays.asList(tag));
+
+            this.additionalProperties.put("serverPort", port);
+            if (openAPI.getPaths() != null) {
+                for (String pathname : openAPI.getPaths().keySet()) {
+                    PathItem pathItem = openAPI.getPaths().get(pathname);
+                    final List<Operation> operations = pathItem.readOperations();
+                    for (Operation operation : operations) {
+                        if (operation.getTags() != null) {
+                            List<Map<String, String>> tags = new ArrayList<>();
+                            for (String tag : operation.getTags()) {
+                                Map<String, String> value = new HashMap<>();
+                                value.put("tag", tag);
+                                value.put("hasMore", "true");
+                                tags.add(value);
+                            }
+                            if (tags.size() > 0) {
+                                tags.get(tags.size() - 1).remove("hasMore");
+                            }
+                            if (operation.getTags().size() > 0) {
+                                String tag = operation.getTags().get(0);
+                                operation.setTags(Arrays.asList(tag));
+                            }
+                            operation.addExtension("x-tags", tags);
                         }
-                        operation.addExtension("x-tags", tags);
                     }
                 }
             }
@@ -460,51 +464,54 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
-        if (operations != null) {
-            List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
-            for (final CodegenOperation operation : ops) {
-                List<CodegenResponse> responses = operation.responses;
-                if (responses != null) {
-                    for (final CodegenResponse resp : responses) {
-                        if ("0".equals(resp.code)) {
-                            resp.code = "200";
-                        }
-                        doDataTypeAssignment(resp.dataType, new DataTypeAssigner() {
-                            @Override
-                            public void setReturnType(final String returnType) {
-                                resp.dataType = returnType;
-                            }
-
-                            @Override
-                            public void setReturnContainer(final String returnContainer) {
-                                resp.containerType = returnContainer;
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            if (operations != null) {
+                List<CodegenOperation> ops = (List<CodegenOperation>) operations.get("operation");
+                for (final CodegenOperation operation : ops) {
+                    List<CodegenResponse> responses = operation.responses;
+                    if (responses != null) {
+                        for (final CodegenResponse resp : responses) {
+                            if ("0".equals(resp.code)) {
+                                resp.code = "200";
                             }
-                        });
+                            doDataTypeAssignment(resp.dataType, new DataTypeAssigner() {
+                                @Override
+                                public void setReturnType(final String returnType) {
+                                    resp.dataType = returnType;
+                                }
+
+                                @Override
+                                public void setReturnContainer(final String returnContainer) {
+                                    resp.containerType = returnContainer;
+                                }
+                            });
+                        }
                     }
-                }
 
-                doDataTypeAssignment(operation.returnType, new DataTypeAssigner() {
+                    doDataTypeAssignment(operation.returnType, new DataTypeAssigner() {
 
-                    @Override
-                    public void setReturnType(final String returnType) {
-                        operation.returnType = returnType;
-                    }
+                        @Override
+                        public void setReturnType(final String returnType) {
+                            operation.returnType = returnType;
+                        }
 
-                    @Override
-                    public void setReturnContainer(final String returnContainer) {
-                        operation.returnContainer = returnContainer;
-                    }
-                });
+                        @Override
+                        public void setReturnContainer(final String returnContainer) {
+                            operation.returnContainer = returnContainer;
+                        }
+                    });
 
-                if(implicitHeaders){
-                    removeHeadersFromAllParams(operation.allParams);
+                    if(implicitHeaders){
+                        removeHeadersFromAllParams(operation.allParams);
+                    }
                 }
             }
-        }
 
-        return objs;
+            return objs;
+        }
     }
 
     private interface DataTypeAssigner {
@@ -563,16 +570,19 @@ public class SpringCodegen extends AbstractJavaCodegen implements BeanValidation
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessSupportingFileData(Map<String, Object> objs) {
-        if(library.equals(SPRING_CLOUD_LIBRARY)) {
-            List<CodegenSecurity> authMethods = (List<CodegenSecurity>) objs.get("authMethods");
-            if (authMethods != null) {
-                for (CodegenSecurity authMethod : authMethods) {
-                    authMethod.name = camelize(sanitizeName(authMethod.name), true);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_SUPPORTING_FILE_DATA, null)) {
+            if(library.equals(SPRING_CLOUD_LIBRARY)) {
+                List<CodegenSecurity> authMethods = (List<CodegenSecurity>) objs.get("authMethods");
+                if (authMethods != null) {
+                    for (CodegenSecurity authMethod : authMethods) {
+                        authMethod.name = camelize(sanitizeName(authMethod.name), true);
+                    }
                 }
             }
+            return objs;
         }
-        return objs;
     }
 
     @Override
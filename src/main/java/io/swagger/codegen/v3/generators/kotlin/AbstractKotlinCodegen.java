@@ -3,6 +3,9 @@ package io.swagger.codegen.v3.generators.kotlin;
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -236,8 +239,8 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
     }
 
     @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.COMMENT_DELIMITERS;
     }
 
     public CodegenConstants.ENUM_PROPERTY_NAMING_TYPE getEnumPropertyNaming() {
@@ -279,7 +282,7 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
                 return null;
             }
             // Maps will be keyed only by primitive Kotlin string
-            return String.format("%s<kotlin.String, %s>", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s<kotlin.String, %s>", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
         }
         return super.getTypeDeclaration(propertySchema);
     }
@@ -323,8 +326,11 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        return postProcessModelsEnum(super.postProcessModels(objs));
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            return postProcessModelsEnum(super.postProcessModels(objs));
+        }
     }
 
     @Override
@@ -518,7 +524,7 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
         String arrayType = typeMapping.get("array");
         StringBuilder instantiationType = new StringBuilder(arrayType);
         Schema items = arraySchema.getItems();
-        String nestedType = getTypeDeclaration(items);
+        String nestedType = cachedTypeDeclaration(items);
         // TODO: We may want to differentiate here between generics and primitive arrays.
         instantiationType.append("<").append(nestedType).append(">");
         return instantiationType.toString();
@@ -542,7 +548,7 @@ public abstract class AbstractKotlinCodegen extends DefaultCodegenConfig  {
 
         // Fallback, replace unknowns with underscore.
         word = word.replaceAll("\\W+", "_");
-        if (word.matches("\\d.*")) {
+        if (NameSanitizer.startsWithDigit(word)) {
             word = "_" + word;
         }
 
@@ -138,7 +138,7 @@ public class KotlinServerCodegen extends AbstractKotlinCodegen {
         CodegenModel codegenModel = super.fromModel(name, schema, allDefinitions);
 
         if (schema instanceof ArraySchema) {
-            codegenModel.dataType = getTypeDeclaration(schema);
+            codegenModel.dataType = cachedTypeDeclaration(schema);
         }
         return codegenModel;
     }
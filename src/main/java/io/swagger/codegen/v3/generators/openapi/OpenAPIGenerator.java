@@ -4,6 +4,7 @@ import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.io.FileUtils;
@@ -50,15 +51,19 @@ public class OpenAPIGenerator extends DefaultCodegenConfig {
     }
 
     @Override
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        String outputString = Json.pretty(openAPI);
-
-        try {
-            String outputFile = outputFolder + File.separator + this.outputFile;
-            FileUtils.writeStringToFile(new File(outputFile), outputString);
-            LOGGER.debug("wrote file to " + outputFile);
-        } catch (Exception e) {
-            LOGGER.error(e.getMessage(), e);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            super.preprocessOpenAPI(openAPI);
+            String outputString = Json.pretty(openAPI);
+
+            try {
+                String outputFile = outputFolder + File.separator + this.outputFile;
+                FileUtils.writeStringToFile(new File(outputFile), outputString);
+                LOGGER.debug("wrote file to " + outputFile);
+            } catch (Exception e) {
+                LOGGER.error(e.getMessage(), e);
+            }
         }
     }
 
@@ -11,6 +11,7 @@ import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.v3.core.util.DeserializationModule;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.io.FileUtils;
@@ -71,18 +72,22 @@ public class OpenAPIYamlGenerator extends DefaultCodegenConfig {
     }
 
     @Override
+    @SuppressWarnings("try")
     public void preprocessOpenAPI(OpenAPI openAPI) {
-        try {
-            final ObjectMapper mapper = new ObjectMapper(new YAMLFactory()
-                    .configure(YAMLGenerator.Feature.MINIMIZE_QUOTES, true)
-                    .configure(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS, true));
-            configureMapper(mapper);
-            String valueAsString = mapper.writeValueAsString(openAPI);
-            String outputFile = outputFolder + File.separator + this.outputFile;
-            FileUtils.writeStringToFile(new File(outputFile), valueAsString);
-            LOGGER.debug("wrote file to " + outputFile);
-        } catch (Exception e) {
-            LOGGER.error(e.getMessage(), e);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.PREPROCESS_OPENAPI, null)) {
+            super.preprocessOpenAPI(openAPI);
+            try {
+                final ObjectMapper mapper = new ObjectMapper(new YAMLFactory()
+                        .configure(YAMLGenerator.Feature.MINIMIZE_QUOTES, true)
+                        .configure(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS, true));
+                configureMapper(mapper);
+                String valueAsString = mapper.writeValueAsString(openAPI);
+                String outputFile = outputFolder + File.separator + this.outputFile;
+                FileUtils.writeStringToFile(new File(outputFile), valueAsString);
+                LOGGER.debug("wrote file to " + outputFile);
+            } catch (Exception e) {
+                LOGGER.error(e.getMessage(), e);
+            }
         }
     }
 
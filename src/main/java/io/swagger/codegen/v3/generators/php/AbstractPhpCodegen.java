@@ -6,6 +6,9 @@ import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
 
 import java.io.File;
 import java.util.Arrays;
@@ -307,7 +310,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
                 LOGGER.warn(arraySchema.getName() + "(array property) does not have a proper inner type defined");
                 return "";
             }
-            return getTypeDeclaration(inner) + "[]";
+            return cachedTypeDeclaration(inner) + "[]";
         } else if (propertySchema instanceof MapSchema) {
             MapSchema mapSchema = (MapSchema) propertySchema;
             Schema inner = (Schema) mapSchema.getAdditionalProperties();
@@ -315,7 +318,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
                 LOGGER.warn(propertySchema.getName() + "(map property) does not have a proper inner type defined");
                 return "";
             }
-            return getSchemaType(propertySchema) + "[string," + getTypeDeclaration(inner) + "]";
+            return cachedSchemaType(propertySchema) + "[string," + cachedTypeDeclaration(inner) + "]";
         }
 
         return super.getTypeDeclaration(propertySchema);
@@ -394,7 +397,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
 
         // parameter name starting with number won't compile
         // need to escape it by appending _ at the beginning
-        if (name.matches("^\\d.*")) {
+        if (NameSanitizer.startsWithDigit(name)) {
             name = "_" + name;
         }
 
@@ -425,7 +428,7 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
         }
 
         // model name starts with number
-        if (name.matches("^\\d.*")) {
+        if (NameSanitizer.startsWithDigit(name)) {
             LOGGER.warn(name + " (model name starts with number) cannot be used as model name. Renamed to " + camelize("model_" + name));
             name = "model_" + name; // e.g. 200Response => Model200Response (after camelize)
         }
@@ -634,19 +637,25 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        // process enum in models
-        return postProcessModelsEnum(objs);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            // process enum in models
+            return postProcessModelsEnum(objs);
+        }
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
-        List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
-        for (CodegenOperation op : operationList) {
-            op.vendorExtensions.put("x-testOperationId", camelize(op.operationId));
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            for (CodegenOperation op : operationList) {
+                op.vendorExtensions.put("x-testOperationId", camelize(op.operationId));
+            }
+            return objs;
         }
-        return objs;
     }
 
     @Override
@@ -656,8 +665,8 @@ public abstract class AbstractPhpCodegen extends DefaultCodegenConfig {
     }
 
     @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "");
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.COMMENT_END;
     }
 
     protected String extractSimpleName(String phpClassName) {
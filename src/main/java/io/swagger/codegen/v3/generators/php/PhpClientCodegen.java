@@ -8,6 +8,9 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
 
 import java.io.File;
 import java.util.Arrays;
@@ -374,7 +377,7 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
                 LOGGER.warn(arraySchema.getName() + "(array property) does not have a proper inner type defined");
                 return "";
             }
-            return getTypeDeclaration(inner) + "[]";
+            return cachedTypeDeclaration(inner) + "[]";
         } else if (propertySchema instanceof MapSchema) {
             MapSchema mapSchema = (MapSchema) propertySchema;
             Schema inner = (Schema) mapSchema.getAdditionalProperties();
@@ -382,7 +385,7 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
                 LOGGER.warn(propertySchema.getName() + "(map property) does not have a proper inner type defined");
                 return "";
             }
-            return getSchemaType(propertySchema) + "[string," + getTypeDeclaration(inner) + "]";
+            return cachedSchemaType(propertySchema) + "[string," + cachedTypeDeclaration(inner) + "]";
         } else if (StringUtils.isNotBlank(propertySchema.get$ref())) {
             String type = super.getTypeDeclaration(propertySchema);
             return (!languageSpecificPrimitives.contains(type))
@@ -465,7 +468,7 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
 
         // parameter name starting with number won't compile
         // need to escape it by appending _ at the beginning
-        if (name.matches("^\\d.*")) {
+        if (NameSanitizer.startsWithDigit(name)) {
             name = "_" + name;
         }
 
@@ -496,7 +499,7 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
         }
 
         // model name starts with number
-        if (name.matches("^\\d.*")) {
+        if (NameSanitizer.startsWithDigit(name)) {
             LOGGER.warn(name + " (model name starts with number) cannot be used as model name. Renamed to " + camelize("model_" + name));
             name = "model_" + name; // e.g. 200Response => Model200Response (after camelize)
         }
@@ -719,21 +722,27 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        // process enum in models
-        return postProcessModelsEnum(objs);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            // process enum in models
+            return postProcessModelsEnum(objs);
+        }
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
-        List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
-        for (CodegenOperation op : operationList) {
-            // for API test method name
-            // e.g. public function test{{vendorExtensions.x-testOperationId}}()
-            op.vendorExtensions.put("x-testOperationId", camelize(op.operationId));
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            Map<String, Object> operations = (Map<String, Object>) objs.get("operations");
+            List<CodegenOperation> operationList = (List<CodegenOperation>) operations.get("operation");
+            for (CodegenOperation op : operationList) {
+                // for API test method name
+                // e.g. public function test{{vendorExtensions.x-testOperationId}}()
+                op.vendorExtensions.put("x-testOperationId", camelize(op.operationId));
+            }
+            return objs;
         }
-        return objs;
     }
 
     @Override
@@ -743,8 +752,8 @@ public class PhpClientCodegen extends DefaultCodegenConfig {
     }
 
     @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.COMMENT_DELIMITERS;
     }
 
 }
@@ -8,6 +8,9 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
 
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
@@ -175,10 +178,10 @@ public abstract class AbstractRustCodegen extends DefaultCodegenConfig {
     @Override
     public String toVarName(String name) {
         // replace - with _ e.g. created-at => created_at
-        name = sanitizeName(name.replaceAll("-", "_"));
+        name = sanitizeName(name);
 
         // if it's all uppper case, do nothing
-        if (name.matches("^[A-Z_]*$"))
+        if (NameSanitizer.isUpperCaseName(name))
             return name;
 
         // snake_case, e.g. PetId => pet_id
@@ -189,7 +192,7 @@ public abstract class AbstractRustCodegen extends DefaultCodegenConfig {
             name = escapeReservedWord(name);
 
         // for reserved word or word starting with number, append _
-        if (name.matches("^\\d.*"))
+        if (NameSanitizer.startsWithDigit(name))
             name = "var_" + name;
 
         return name;
@@ -226,7 +229,7 @@ public abstract class AbstractRustCodegen extends DefaultCodegenConfig {
         }
 
         // model name starts with number
-        if (name.matches("^\\d.*")) {
+        if (NameSanitizer.startsWithDigit(name)) {
             LOGGER.warn(name + " (model name starts with number) cannot be used as model name. Renamed to " + ("model_" + name));
             name = "model_" + name; // e.g. 200Response => Model200Response (after camelize)
         }
@@ -277,66 +280,69 @@ public abstract class AbstractRustCodegen extends DefaultCodegenConfig {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        @SuppressWarnings("unchecked")
-        Map<String, Object> objectMap = (Map<String, Object>) objs.get("operations");
-        @SuppressWarnings("unchecked")
-        List<CodegenOperation> operations = (List<CodegenOperation>) objectMap.get("operation");
-        for (CodegenOperation operation : operations) {
-            // http method verb conversion (e.g. PUT => Put)
-            operation.httpMethod = camelize(operation.httpMethod.toLowerCase());
-            // update return type to conform to rust standard
-            /*
-            if (operation.returnType != null) {
-                if ( operation.returnType.startsWith("Vec") && !languageSpecificPrimitives.contains(operation.returnBaseType)) {
-                    // array of model
-                    String rt = operation.returnType;
-                    int end = rt.lastIndexOf(">");
-                    if ( end > 0 ) {
-                        operation.vendorExtensions.put("x-returnTypeInMethod", "Vec<super::" + rt.substring("Vec<".length(), end).trim() + ">");
-                        operation.returnContainer = "List";
-                    }
-                } else if (operation.returnType.startsWith("::std::collections::HashMap<String, ") && !languageSpecificPrimitives.contains(operation.returnBaseType)) {
-                    LOGGER.info("return base type:" + operation.returnBaseType);
-                    // map of model
-                    String rt = operation.returnType;
-                    int end = rt.lastIndexOf(">");
-                    if ( end > 0 ) {
-                        operation.vendorExtensions.put("x-returnTypeInMethod", "::std::collections::HashMap<String, super::" + rt.substring("::std::collections::HashMap<String, ".length(), end).trim() + ">");
-                        operation.returnContainer = "Map";
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> objectMap = (Map<String, Object>) objs.get("operations");
+            @SuppressWarnings("unchecked")
+            List<CodegenOperation> operations = (List<CodegenOperation>) objectMap.get("operation");
+            for (CodegenOperation operation : operations) {
+                // http method verb conversion (e.g. PUT => Put)
+                operation.httpMethod = camelize(operation.httpMethod.toLowerCase());
+                // update return type to conform to rust standard
+                /*
+                if (operation.returnType != null) {
+                    if ( operation.returnType.startsWith("Vec") && !languageSpecificPrimitives.contains(operation.returnBaseType)) {
+                        // array of model
+                        String rt = operation.returnType;
+                        int end = rt.lastIndexOf(">");
+                        if ( end > 0 ) {
+                            operation.vendorExtensions.put("x-returnTypeInMethod", "Vec<super::" + rt.substring("Vec<".length(), end).trim() + ">");
+                            operation.returnContainer = "List";
+                        }
+                    } else if (operation.returnType.startsWith("::std::collections::HashMap<String, ") && !languageSpecificPrimitives.contains(operation.returnBaseType)) {
+                        LOGGER.info("return base type:" + operation.returnBaseType);
+                        // map of model
+                        String rt = operation.returnType;
+                        int end = rt.lastIndexOf(">");
+                        if ( end > 0 ) {
+                            operation.vendorExtensions.put("x-returnTypeInMethod", "::std::collections::HashMap<String, super::" + rt.substring("::std::collections::HashMap<String, ".length(), end).trim() + ">");
+                            operation.returnContainer = "Map";
+                        }
+                    } else if (!languageSpecificPrimitives.contains(operation.returnType)) {
+                        // add super:: to model, e.g. super::pet
+                        operation.vendorExtensions.put("x-returnTypeInMethod", "super::" + operation.returnType);
+                    } else {
+                        // primitive type or array/map of primitive type
+                        operation.vendorExtensions.put("x-returnTypeInMethod", operation.returnType);
                     }
-                } else if (!languageSpecificPrimitives.contains(operation.returnType)) {
-                    // add super:: to model, e.g. super::pet
-                    operation.vendorExtensions.put("x-returnTypeInMethod", "super::" + operation.returnType);
-                } else {
-                    // primitive type or array/map of primitive type
-                    operation.vendorExtensions.put("x-returnTypeInMethod", operation.returnType);
                 }
-            }
 
-            for (CodegenParameter p : operation.allParams) {
-                if (p.isListContainer && !languageSpecificPrimitives.contains(p.dataType)) {
-                    // array of model
-                    String rt = p.dataType;
-                    int end = rt.lastIndexOf(">");
-                    if ( end > 0 ) {
-                        p.dataType = "Vec<" + rt.substring("Vec<".length(), end).trim() + ">";
-                    }
-                } else if (p.isMapContainer && !languageSpecificPrimitives.contains(p.dataType)) {
-                    // map of model
-                    String rt = p.dataType;
-                    int end = rt.lastIndexOf(">");
-                    if ( end > 0 ) {
-                        p.dataType = "::std::collections::HashMap<String, super::" + rt.substring("::std::collections::HashMap<String, ".length(), end).trim() + ">";
+                for (CodegenParameter p : operation.allParams) {
+                    if (p.isListContainer && !languageSpecificPrimitives.contains(p.dataType)) {
+                        // array of model
+                        String rt = p.dataType;
+                        int end = rt.lastIndexOf(">");
+                        if ( end > 0 ) {
+                            p.dataType = "Vec<" + rt.substring("Vec<".length(), end).trim() + ">";
+                        }
+                    } else if (p.isMapContainer && !languageSpecificPrimitives.contains(p.dataType)) {
+                        // map of model
+                        String rt = p.dataType;
+                        int end = rt.lastIndexOf(">");
+                        if ( end > 0 ) {
+                            p.dataType = "::std::collections::HashMap<String, super::" + rt.substring("::std::collections::HashMap<String, ".length(), end).trim() + ">";
+                        }
+                    } else if (!languageSpecificPrimitives.contains(p.dataType)) {
+                        // add super:: to model, e.g. super::pet
+                        p.dataType = "super::" + p.dataType;
                     }
-                } else if (!languageSpecificPrimitives.contains(p.dataType)) {
-                    // add super:: to model, e.g. super::pet
-                    p.dataType = "super::" + p.dataType;
-                }
-            }*/
-        }
+                }*/
+            }
 
-        return objs;
+            return objs;
+        }
     }
 
     @Override
@@ -360,8 +366,8 @@ public abstract class AbstractRustCodegen extends DefaultCodegenConfig {
     }
 
     @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.COMMENT_DELIMITERS;
     }
 
 
@@ -1,5 +1,6 @@
 package io.swagger.codegen.v3.generators.scala;
 
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -13,6 +14,7 @@ import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.codegen.v3.templates.MustacheTemplateEngine;
 import io.swagger.codegen.v3.templates.TemplateEngine;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -153,10 +155,10 @@ public abstract class AbstractScalaCodegen extends DefaultCodegenConfig {
     public String getTypeDeclaration(Schema propertySchema) {
         if (propertySchema instanceof ArraySchema) {
             Schema inner = ((ArraySchema) propertySchema).getItems();
-            return String.format("%s[%s]", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s[%s]", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
         } else if (propertySchema instanceof MapSchema && hasSchemaProperties(propertySchema)) {
             Schema inner = (Schema) propertySchema.getAdditionalProperties();
-            return String.format("%s[String, %s]", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s[String, %s]", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
         }
         return super.getTypeDeclaration(propertySchema);
     }
@@ -177,11 +179,11 @@ public abstract class AbstractScalaCodegen extends DefaultCodegenConfig {
     @Override
     public String toInstantiationType(Schema schemaProperty) {
         if (schemaProperty instanceof MapSchema && hasSchemaProperties(schemaProperty)) {
-            String inner = getSchemaType((Schema) schemaProperty.getAdditionalProperties());
+            String inner = cachedSchemaType((Schema) schemaProperty.getAdditionalProperties());
             return String.format("%s[%s]", instantiationTypes.get("map"), inner);
         } else if (schemaProperty instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema) schemaProperty;
-            String inner = getSchemaType(arraySchema.getItems());
+            String inner = cachedSchemaType(arraySchema.getItems());
             return String.format("%s[%s]", instantiationTypes.get("array"), inner);
         } else {
             return null;
@@ -191,11 +193,11 @@ public abstract class AbstractScalaCodegen extends DefaultCodegenConfig {
     @Override
     public String toDefaultValue(Schema propertySchema) {
         if (propertySchema instanceof MapSchema && hasSchemaProperties(propertySchema)) {
-            String inner = getSchemaType((Schema) propertySchema.getAdditionalProperties());
+            String inner = cachedSchemaType((Schema) propertySchema.getAdditionalProperties());
             return String.format("new HashMap[String, %s]()", inner);
         } else if(propertySchema instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema) propertySchema;
-            String inner = getSchemaType(arraySchema.getItems());
+            String inner = cachedSchemaType(arraySchema.getItems());
             return String.format("new ListBuffer[%s]()", inner);
         } else {
             return "null";
@@ -203,16 +205,19 @@ public abstract class AbstractScalaCodegen extends DefaultCodegenConfig {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        // remove model imports to avoid warnings for importing class in the same package in Scala
-        List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
-        final String prefix = modelPackage() + ".";
-        Iterator<Map<String, String>> iterator = imports.iterator();
-        while (iterator.hasNext()) {
-            String _import = iterator.next().get("import");
-            if (_import.startsWith(prefix)) iterator.remove();
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            // remove model imports to avoid warnings for importing class in the same package in Scala
+            List<Map<String, String>> imports = (List<Map<String, String>>) objs.get("imports");
+            final String prefix = modelPackage() + ".";
+            Iterator<Map<String, String>> iterator = imports.iterator();
+            while (iterator.hasNext()) {
+                String _import = iterator.next().get("import");
+                if (_import.startsWith(prefix)) iterator.remove();
+            }
+            return objs;
         }
-        return objs;
     }
 
     @Override
@@ -222,8 +227,8 @@ public abstract class AbstractScalaCodegen extends DefaultCodegenConfig {
     }
 
     @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.COMMENT_DELIMITERS;
     }
 
     @Override
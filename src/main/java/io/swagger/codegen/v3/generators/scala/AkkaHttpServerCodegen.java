@@ -1,6 +1,7 @@
 package io.swagger.codegen.v3.generators.scala;
 
 import io.swagger.codegen.v3.*;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Schema;
@@ -59,8 +60,11 @@ public class AkkaHttpServerCodegen extends AbstractScalaCodegen  {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> objs) {
-        return setComplexTypes(objs);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            return setComplexTypes(objs);
+        }
     }
 
     public static Map<String, Object> setComplexTypes(Map<String, Object> objs) {
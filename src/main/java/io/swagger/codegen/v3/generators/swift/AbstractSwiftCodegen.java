@@ -7,6 +7,9 @@ import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.NameCache;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.MapSchema;
 import io.swagger.v3.oas.models.media.Schema;
@@ -134,9 +137,9 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
         // TODO - not sure that this is the correct implementation...
         if (additionalProperties != null) {
             if (additionalProperties instanceof Schema) {
-                codegenModel.additionalPropertiesType = getSchemaType((Schema) additionalProperties);
+                codegenModel.additionalPropertiesType = cachedSchemaType((Schema) additionalProperties);
             } else {
-                codegenModel.additionalPropertiesType = getSchemaType(schema);
+                codegenModel.additionalPropertiesType = cachedSchemaType(schema);
             }
         }
     }
@@ -265,11 +268,11 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
         if (propertySchema instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema) propertySchema;
             Schema inner = arraySchema.getItems();
-            return "[" + getTypeDeclaration(inner) + "]";
+            return "[" + cachedTypeDeclaration(inner) + "]";
         } else if (propertySchema instanceof MapSchema) {
             MapSchema mapSchema = (MapSchema) propertySchema;
             Schema inner = (Schema) mapSchema.getAdditionalProperties();
-            return "[String:" + getTypeDeclaration(inner) + "]";
+            return "[String:" + cachedTypeDeclaration(inner) + "]";
         }
         return super.getTypeDeclaration(propertySchema);
     }
@@ -332,7 +335,7 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
         }
 
         // model name starts with number
-        if (name.matches("^\\d.*")) {
+        if (NameSanitizer.startsWithDigit(name)) {
             // e.g. 200Response => Model200Response (after camelize)
             String modelName = "Model" + name;
             LOGGER.warn(name
@@ -367,11 +370,11 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
     public String toInstantiationType(Schema schema) {
         if (schema instanceof MapSchema) {
             MapSchema mapSchema = (MapSchema) schema;
-            String inner = getSchemaType((Schema) mapSchema.getAdditionalProperties());
+            String inner = cachedSchemaType((Schema) mapSchema.getAdditionalProperties());
             return inner;
         } else if (schema instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema) schema;
-            String inner = getSchemaType(arraySchema.getItems());
+            String inner = cachedSchemaType(arraySchema.getItems());
             return "[" + inner + "]";
         }
         return null;
@@ -412,7 +415,7 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
         name = sanitizeName(name);
 
         // if it's all uppper case, do nothing
-        if (name.matches("^[A-Z_]*$")) {
+        if (NameSanitizer.isUpperCaseName(name)) {
             return name;
         }
 
@@ -421,7 +424,7 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
         name = camelize(name, true);
 
         // for reserved word or word starting with number, append _
-        if (isReservedWord(name) || name.matches("^\\d.*")) {
+        if (isReservedWord(name) || NameSanitizer.startsWithDigit(name)) {
             name = escapeReservedWord(name);
         }
 
@@ -437,7 +440,7 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
         name = name.replaceAll("-", "_");
 
         // if it's all uppper case, do nothing
-        if (name.matches("^[A-Z_]*$")) {
+        if (NameSanitizer.isUpperCaseName(name)) {
             return name;
         }
 
@@ -446,7 +449,7 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
         name = camelize(name, true);
 
         // for reserved word or word starting with number, append _
-        if (isReservedWord(name) || name.matches("^\\d.*")) {
+        if (isReservedWord(name) || NameSanitizer.startsWithDigit(name)) {
             name = escapeReservedWord(name);
         }
 
@@ -463,19 +466,19 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
                 codegenModel.imports.add("Schema");
             }
         }
-        if (allDefinitions != null) {
-            String parentSchema = codegenModel.parentSchema;
+        if (allDefinitions != null && codegenModel.parentSchema != null) {
+            final List<String> parentSchemas = new ArrayList<>();
+            parentSchemas.add(codegenModel.parentSchema);
+            parentSchemas.addAll(getInheritance(allDefinitions).getAncestors(codegenModel.parentSchema));
 
             // multilevel inheritance: reconcile properties of all the parents
-            while (parentSchema != null) {
+            for (String parentSchema : parentSchemas) {
                 final Schema parentSchemaFromAllDefinitions = allDefinitions.get(parentSchema);
-                final CodegenModel parentCodegenModel = super.fromModel(codegenModel.parent,
+                final CodegenModel parentCodegenModel = fromParentModel(
+                        nameCache.get(NameCache.Transform.MODEL_NAME, parentSchema, this::toModelName),
                         parentSchemaFromAllDefinitions,
                         allDefinitions);
                 codegenModel = reconcileProperties(codegenModel, parentCodegenModel);
-
-                // get the next parent
-                parentSchema = parentCodegenModel.parentSchema;
             }
         }
 
@@ -631,8 +634,8 @@ public abstract class AbstractSwiftCodegen extends DefaultCodegenConfig {
     }
 
     @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.COMMENT_DELIMITERS;
     }
 
     private static CodegenModel reconcileProperties(CodegenModel codegenModel,
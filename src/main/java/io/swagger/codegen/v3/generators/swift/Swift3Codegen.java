@@ -3,6 +3,7 @@ package io.swagger.codegen.v3.generators.swift;
 import io.swagger.codegen.v3.CliOption;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.generators.swift.AbstractSwiftCodegen;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
@@ -84,9 +85,12 @@ public class Swift3Codegen extends AbstractSwiftCodegen {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        // process enum in models
-        return postProcessModelsEnum(objs);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            // process enum in models
+            return postProcessModelsEnum(objs);
+        }
     }
 
 }
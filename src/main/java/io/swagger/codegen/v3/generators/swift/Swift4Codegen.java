@@ -6,6 +6,7 @@ import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.SupportingFile;
 import io.swagger.codegen.v3.generators.swift.AbstractSwiftCodegen;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
@@ -153,39 +154,42 @@ public class Swift4Codegen extends AbstractSwiftCodegen {
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        Map<String, Object> postProcessedModelsEnum = postProcessModelsEnum(objs);
-
-        // We iterate through the list of models, and also iterate through each of the
-        // properties for each model. For each property, if:
-        //
-        // CodegenProperty.name != CodegenProperty.baseName
-        //
-        // then we set
-        //
-        // CodegenProperty.vendorExtensions["x-codegen-escaped-property-name"] = true
-        //
-        // Also, if any property in the model has x-codegen-escaped-property-name=true, then we mark:
-        //
-        // CodegenModel.vendorExtensions["x-codegen-has-escaped-property-names"] = true
-        //
-        List<Object> models = (List<Object>) postProcessedModelsEnum.get("models");
-        for (Object _mo : models) {
-            Map<String, Object> mo = (Map<String, Object>) _mo;
-            CodegenModel cm = (CodegenModel) mo.get("model");
-            boolean modelHasPropertyWithEscapedName = false;
-            for (CodegenProperty prop : cm.allVars) {
-                if (!prop.name.equals(prop.baseName)) {
-                    prop.vendorExtensions.put("x-codegen-escaped-property-name", true);
-                    modelHasPropertyWithEscapedName = true;
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            Map<String, Object> postProcessedModelsEnum = postProcessModelsEnum(objs);
+
+            // We iterate through the list of models, and also iterate through each of the
+            // properties for each model. For each property, if:
+            //
+            // CodegenProperty.name != CodegenProperty.baseName
+            //
+            // then we set
+            //
+            // CodegenProperty.vendorExtensions["x-codegen-escaped-property-name"] = true
+            //
+            // Also, if any property in the model has x-codegen-escaped-property-name=true, then we mark:
+            //
+            // CodegenModel.vendorExtensions["x-codegen-has-escaped-property-names"] = true
+            //
+            List<Object> models = (List<Object>) postProcessedModelsEnum.get("models");
+            for (Object _mo : models) {
+                Map<String, Object> mo = (Map<String, Object>) _mo;
+                CodegenModel cm = (CodegenModel) mo.get("model");
+                boolean modelHasPropertyWithEscapedName = false;
+                for (CodegenProperty prop : cm.allVars) {
+                    if (!prop.name.equals(prop.baseName)) {
+                        prop.vendorExtensions.put("x-codegen-escaped-property-name", true);
+                        modelHasPropertyWithEscapedName = true;
+                    }
+                }
+                if (modelHasPropertyWithEscapedName) {
+                    cm.vendorExtensions.put("x-codegen-has-escaped-property-names", true);
                 }
             }
-            if (modelHasPropertyWithEscapedName) {
-                cm.vendorExtensions.put("x-codegen-has-escaped-property-names", true);
-            }
-        }
 
-        return postProcessedModelsEnum;
+            return postProcessedModelsEnum;
+        }
     }
 
 }
@@ -6,6 +6,9 @@ import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
 import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.codegen.v3.generators.util.NameSanitizer;
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.DateSchema;
@@ -164,14 +167,14 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
         }
 
         // if it's all uppper case, do nothing
-        if (name.matches("^[A-Z_]*$")) {
+        if (NameSanitizer.isUpperCaseName(name)) {
             return name;
         }
 
         name = getNameUsingModelPropertyNaming(name);
 
         // for reserved word or word starting with number, append _
-        if (isReservedWord(name) || name.matches("^\\d.*")) {
+        if (isReservedWord(name) || NameSanitizer.startsWithDigit(name)) {
             name = escapeReservedWord(name);
         }
 
@@ -198,7 +201,7 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
         }
 
         // model name starts with number
-        if (name.matches("^\\d.*")) {
+        if (NameSanitizer.startsWithDigit(name)) {
             String modelName = camelize("model_" + name); // e.g. 200Response => Model200Response (after camelize)
             LOGGER.warn(name + " (model name starts with number) cannot be used as model name. Renamed to " + modelName);
             return modelName;
@@ -225,10 +228,10 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
     public String getTypeDeclaration(Schema propertySchema) {
         if (propertySchema instanceof ArraySchema) {
             Schema inner = ((ArraySchema) propertySchema).getItems();
-            return String.format("%s<%s>", getSchemaType(propertySchema), getTypeDeclaration(inner));
+            return String.format("%s<%s>", cachedSchemaType(propertySchema), cachedTypeDeclaration(inner));
         } else if (propertySchema instanceof MapSchema && propertySchema.getAdditionalProperties() != null) {
             Schema inner = (Schema) propertySchema.getAdditionalProperties();
-            return String.format("{ [key, string]: %s;}", getTypeDeclaration(inner));
+            return String.format("{ [key, string]: %s;}", cachedTypeDeclaration(inner));
         }
         return super.getTypeDeclaration(propertySchema);
     }
@@ -384,23 +387,26 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        // process enum in models
-        List<Object> models = (List<Object>) postProcessModelsEnum(objs).get("models");
-        for (Object _mo : models) {
-            Map<String, Object> mo = (Map<String, Object>) _mo;
-            CodegenModel cm = (CodegenModel) mo.get("model");
-            cm.imports = new TreeSet(cm.imports);
-            for (CodegenProperty var : cm.vars) {
-                // name enum with model name, e.g. StatuEnum => Pet.StatusEnum
-                boolean isEnum = getBooleanValue(var, IS_ENUM_EXT_NAME);
-                if (Boolean.TRUE.equals(isEnum)) {
-                    var.datatypeWithEnum = var.datatypeWithEnum.replace(var.enumName, cm.classname + "." + var.enumName);
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            // process enum in models
+            List<Object> models = (List<Object>) postProcessModelsEnum(objs).get("models");
+            for (Object _mo : models) {
+                Map<String, Object> mo = (Map<String, Object>) _mo;
+                CodegenModel cm = (CodegenModel) mo.get("model");
+                cm.imports = new TreeSet(cm.imports);
+                for (CodegenProperty var : cm.vars) {
+                    // name enum with model name, e.g. StatuEnum => Pet.StatusEnum
+                    boolean isEnum = getBooleanValue(var, IS_ENUM_EXT_NAME);
+                    if (Boolean.TRUE.equals(isEnum)) {
+                        var.datatypeWithEnum = var.datatypeWithEnum.replace(var.enumName, cm.classname + "." + var.enumName);
+                    }
                 }
-            }
-        } 
+            } 
 
-        return objs;
+            return objs;
+        }
     }
 
     public void setSupportsES6(Boolean value) {
@@ -418,7 +424,7 @@ public abstract class AbstractTypeScriptClientCodegen extends DefaultCodegenConf
     }
 
     @Override
-    public String escapeUnsafeCharacters(String input) {
-        return input.replace("*/", "*_/").replace("/*", "/_*");
+    protected UnsafeCharacters getUnsafeCharacters() {
+        return UnsafeCharacters.COMMENT_DELIMITERS;
     }
 }
@@ -1,5 +1,6 @@
 package io.swagger.codegen.v3.generators.typescript;
 
+import io.swagger.codegen.v3.generators.util.GenerationReport;
 import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
@@ -60,7 +61,7 @@ public class TypeScriptAngularClientCodegen extends AbstractTypeScriptClientCode
         if (schema.getAdditionalProperties() == null) {
             return;
         }
-        codegenModel.additionalPropertiesType = getTypeDeclaration((Schema) schema.getAdditionalProperties());
+        codegenModel.additionalPropertiesType = cachedTypeDeclaration((Schema) schema.getAdditionalProperties());
         addImport(codegenModel, codegenModel.additionalPropertiesType);
     }
 
@@ -183,10 +184,10 @@ public class TypeScriptAngularClientCodegen extends AbstractTypeScriptClientCode
         if(propertySchema instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema)propertySchema;
             inner = arraySchema.getItems();
-            return this.getSchemaType(propertySchema) + "<" + this.getTypeDeclaration(inner) + ">";
+            return cachedSchemaType(propertySchema) + "<" + cachedTypeDeclaration(inner) + ">";
         } else if(propertySchema instanceof MapSchema && propertySchema.getAdditionalProperties() != null) {
             inner = (Schema) propertySchema.getAdditionalProperties();
-            return "{ [key: string]: " + this.getTypeDeclaration(inner) + "; }";
+            return "{ [key: string]: " + cachedTypeDeclaration(inner) + "; }";
         } else if(propertySchema instanceof FileSchema) {
             return "Blob";
         } else if(propertySchema instanceof ObjectSchema) {
@@ -233,107 +234,113 @@ public class TypeScriptAngularClientCodegen extends AbstractTypeScriptClientCode
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessOperations(Map<String, Object> operations) {
-        Map<String, Object> objs = (Map<String, Object>) operations.get("operations");
-
-        // Add filename information for api imports
-        objs.put("apiFilename", getApiFilenameFromClassname(objs.get("classname").toString()));
-
-        List<CodegenOperation> ops = (List<CodegenOperation>) objs.get("operation");
-        for (CodegenOperation op : ops) {
-            if ((boolean) additionalProperties.get("useHttpClient")) {
-                op.httpMethod = op.httpMethod.toLowerCase(Locale.ENGLISH);
-            } else {
-                // Convert httpMethod to Angular's RequestMethod enum
-                // https://angular.io/docs/ts/latest/api/http/index/RequestMethod-enum.html
-                switch (op.httpMethod) {
-                case "GET":
-                    op.httpMethod = "RequestMethod.Get";
-                    break;
-                case "POST":
-                    op.httpMethod = "RequestMethod.Post";
-                    break;
-                case "PUT":
-                    op.httpMethod = "RequestMethod.Put";
-                    break;
-                case "DELETE":
-                    op.httpMethod = "RequestMethod.Delete";
-                    break;
-                case "OPTIONS":
-                    op.httpMethod = "RequestMethod.Options";
-                    break;
-                case "HEAD":
-                    op.httpMethod = "RequestMethod.Head";
-                    break;
-                case "PATCH":
-                    op.httpMethod = "RequestMethod.Patch";
-                    break;
-                default:
-                    throw new RuntimeException("Unknown HTTP Method " + op.httpMethod + " not allowed");
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_OPERATIONS, null)) {
+            Map<String, Object> objs = (Map<String, Object>) operations.get("operations");
+
+            // Add filename information for api imports
+            objs.put("apiFilename", getApiFilenameFromClassname(objs.get("classname").toString()));
+
+            List<CodegenOperation> ops = (List<CodegenOperation>) objs.get("operation");
+            for (CodegenOperation op : ops) {
+                if ((boolean) additionalProperties.get("useHttpClient")) {
+                    op.httpMethod = op.httpMethod.toLowerCase(Locale.ENGLISH);
+                } else {
+                    // Convert httpMethod to Angular's RequestMethod enum
+                    // https://angular.io/docs/ts/latest/api/http/index/RequestMethod-enum.html
+                    switch (op.httpMethod) {
+                    case "GET":
+                        op.httpMethod = "RequestMethod.Get";
+                        break;
+                    case "POST":
+                        op.httpMethod = "RequestMethod.Post";
+                        break;
+                    case "PUT":
+                        op.httpMethod = "RequestMethod.Put";
+                        break;
+                    case "DELETE":
+                        op.httpMethod = "RequestMethod.Delete";
+                        break;
+                    case "OPTIONS":
+                        op.httpMethod = "RequestMethod.Options";
+                        break;
+                    case "HEAD":
+                        op.httpMethod = "RequestMethod.Head";
+                        break;
+                    case "PATCH":
+                        op.httpMethod = "RequestMethod.Patch";
+                        break;
+                    default:
+                        throw new RuntimeException("Unknown HTTP Method " + op.httpMethod + " not allowed");
+                    }
                 }
-            }
 
-            // Prep a string buffer where we're going to set up our new version of the string.
-            StringBuilder pathBuffer = new StringBuilder();
-            StringBuilder parameterName = new StringBuilder();
-            int insideCurly = 0;
-
-            // Iterate through existing string, one character at a time.
-            for (int i = 0; i < op.path.length(); i++) {
-                switch (op.path.charAt(i)) {
-                case '{':
-                    // We entered curly braces, so track that.
-                    insideCurly++;
-
-                    // Add the more complicated component instead of just the brace.
-                    pathBuffer.append("${encodeURIComponent(String(");
-                    break;
-                case '}':
-                    // We exited curly braces, so track that.
-                    insideCurly--;
-
-                    // Add the more complicated component instead of just the brace.
-                    pathBuffer.append(toVarName(parameterName.toString()));
-                    pathBuffer.append("))}");
-                    parameterName.setLength(0);
-                    break;
-                default:
-                    if (insideCurly > 0) {
-                        parameterName.append(op.path.charAt(i));
-                    } else {
-                        pathBuffer.append(op.path.charAt(i));
+                // Prep a string buffer where we're going to set up our new version of the string.
+                StringBuilder pathBuffer = new StringBuilder();
+                StringBuilder parameterName = new StringBuilder();
+                int insideCurly = 0;
+
+                // Iterate through existing string, one character at a time.
+                for (int i = 0; i < op.path.length(); i++) {
+                    switch (op.path.charAt(i)) {
+                    case '{':
+                        // We entered curly braces, so track that.
+                        insideCurly++;
+
+                        // Add the more complicated component instead of just the brace.
+                        pathBuffer.append("${encodeURIComponent(String(");
+                        break;
+                    case '}':
+                        // We exited curly braces, so track that.
+                        insideCurly--;
+
+                        // Add the more complicated component instead of just the brace.
+                        pathBuffer.append(toVarName(parameterName.toString()));
+                        pathBuffer.append("))}");
+                        parameterName.setLength(0);
+                        break;
+                    default:
+                        if (insideCurly > 0) {
+                            parameterName.append(op.path.charAt(i));
+                        } else {
+                            pathBuffer.append(op.path.charAt(i));
+                        }
+                        break;
                     }
-                    break;
                 }
+
+                // Overwrite path to TypeScript template string, after applying everything we just did.
+                op.path = pathBuffer.toString();
             }
 
-            // Overwrite path to TypeScript template string, after applying everything we just did.
-            op.path = pathBuffer.toString();
-        }
+            // Add additional filename information for model imports in the services
+            List<Map<String, Object>> imports = (List<Map<String, Object>>) operations.get("imports");
+            for (Map<String, Object> im : imports) {
+                im.put("filename", im.get("import"));
+                im.put("classname", getModelnameFromModelFilename(im.get("filename").toString()));
+            }
 
-        // Add additional filename information for model imports in the services
-        List<Map<String, Object>> imports = (List<Map<String, Object>>) operations.get("imports");
-        for (Map<String, Object> im : imports) {
-            im.put("filename", im.get("import"));
-            im.put("classname", getModelnameFromModelFilename(im.get("filename").toString()));
+            return operations;
         }
-
-        return operations;
     }
 
     @Override
+    @SuppressWarnings("try")
     public Map<String, Object> postProcessModels(Map<String, Object> objs) {
-        Map<String, Object> result = super.postProcessModels(objs);
-
-        // Add additional filename information for imports
-        List<Object> models = (List<Object>) postProcessModelsEnum(result).get("models");
-        for (Object _mo : models) {
-            Map<String, Object> mo = (Map<String, Object>) _mo;
-            CodegenModel cm = (CodegenModel) mo.get("model");
-            mo.put("tsImports", toTsImports(cm, cm.imports));
-        }
+        try (GenerationReport.Timer timer = startTimer(GenerationReport.POST_PROCESS_MODELS, null)) {
+            Map<String, Object> result = super.postProcessModels(objs);
+
+            // Add additional filename information for imports
+            List<Object> models = (List<Object>) postProcessModelsEnum(result).get("models");
+            for (Object _mo : models) {
+                Map<String, Object> mo = (Map<String, Object>) _mo;
+                CodegenModel cm = (CodegenModel) mo.get("model");
+                mo.put("tsImports", toTsImports(cm, cm.imports));
+            }
 
-        return result;
+            return result;
+        }
     }
 
     private List<Map<String, String>> toTsImports(CodegenModel cm, Set<String> imports) {
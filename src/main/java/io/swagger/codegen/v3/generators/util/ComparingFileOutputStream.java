@@ -0,0 +1,148 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Output stream to a file which leaves the file alone (content and modification time) if the output is the same as its
+ * current content.
+ *
+ * The output is compared with the file while it's written, so it doesn't need to be held in memory. At the first
+ * difference, the output (starting with the part equal to the file) goes to a temporary file in the same dir, which
+ * replaces the file once closed.
+ */
+public class ComparingFileOutputStream extends OutputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final File file;
+    private InputStream current;
+    private long matched;
+    private byte[] buffer;
+    private File temporary;
+    private OutputStream output;
+    private boolean changed;
+    private boolean closed;
+
+    public ComparingFileOutputStream(File file) throws IOException {
+        this.file = file;
+        if (file.isFile()) {
+            current = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE);
+        }
+    }
+
+    /**
+     * @return true if the file has been written, false if it had the same content already
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (output == null && current != null && current.read() == (b & 0xff)) {
+            matched++;
+            return;
+        }
+        diverge();
+        output.write(b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (output == null && current != null) {
+            if (buffer == null || buffer.length < length) {
+                buffer = new byte[Math.max(BUFFER_SIZE, length)];
+            }
+            final int read = readFully(current, buffer, length);
+            int equal = 0;
+            while (equal < read && buffer[equal] == bytes[offset + equal]) {
+                equal++;
+            }
+            matched += equal;
+            if (equal == length) {
+                return;
+            }
+            offset += equal;
+            length -= equal;
+        }
+        diverge();
+        output.write(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (output != null) {
+            output.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (output == null && (current == null || current.read() != -1)) {
+            // the file is missing, or longer than the output
+            diverge();
+        }
+        if (current != null) {
+            current.close();
+        }
+        if (output == null) {
+            return;
+        }
+        output.close();
+        if (temporary != null) {
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void diverge() throws IOException {
+        if (output != null) {
+            return;
+        }
+        changed = true;
+        if (current == null) {
+            output = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE);
+            return;
+        }
+        current.close();
+        current = null;
+        temporary = File.createTempFile(file.getName(), ".tmp", file.getAbsoluteFile().getParentFile());
+        output = new BufferedOutputStream(new FileOutputStream(temporary), BUFFER_SIZE);
+        try (InputStream prefix = new FileInputStream(file)) {
+            final byte[] copy = new byte[BUFFER_SIZE];
+            long remaining = matched;
+            while (remaining > 0) {
+                final int read = prefix.read(copy, 0, (int) Math.min(copy.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                output.write(copy, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    private static int readFully(InputStream input, byte[] bytes, int length) throws IOException {
+        int read = 0;
+        while (read < length) {
+            final int count = input.read(bytes, read, length - read);
+            if (count < 0) {
+                break;
+            }
+            read += count;
+        }
+        return read;
+    }
+}
@@ -0,0 +1,145 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Runs independent conversions (e.g. schema to CodegenModel) ahead of time on a {@link ForkJoinPool} and hands
+ * every result out once, to the sequential caller asking for it. The caller keeps driving the conversion in its
+ * own (sorted) order, so the output stays the same as without prefetching, only the waiting is shorter.
+ *
+ * A result is only handed out when the caller asks for the very same input of the very same run, anything else
+ * is converted by the caller itself.
+ *
+ * @param <I> type of the converted inputs
+ * @param <R> type of the conversion results
+ */
+public class ConversionPrefetcher<I, R> {
+
+    private final Map<String, Pending<I, R>> pending = new HashMap<>();
+    private Object run;
+
+    /**
+     * Start converting all inputs of a run once, unless that run has been started already.
+     *
+     * @param run identity of the run, e.g. the map of all definitions being converted
+     * @param inputs inputs by key
+     * @param parallelism number of threads to convert on
+     * @param converter conversion of one input, called concurrently
+     * @return true if the conversions were started by this call
+     */
+    public boolean start(Object run, Map<String, I> inputs, int parallelism, BiFunction<String, I, R> converter) {
+        return start(run, inputs, input -> 1, parallelism, converter);
+    }
+
+    /**
+     * Start converting all inputs of a run, unless that run has been started already.
+     *
+     * @param run identity of the run, e.g. the map of all definitions being converted
+     * @param inputs inputs by key
+     * @param copies number of times the caller is going to ask for the conversion of an input
+     * @param parallelism number of threads to convert on
+     * @param converter conversion of one input, called concurrently
+     * @return true if the conversions were started by this call
+     */
+    public synchronized boolean start(Object run, Map<String, I> inputs, ToIntFunction<I> copies, int parallelism, BiFunction<String, I, R> converter) {
+        if (this.run == run) {
+            return false;
+        }
+        clear();
+        this.run = run;
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Map.Entry<String, I> entry : inputs.entrySet()) {
+                final String key = entry.getKey();
+                final I input = entry.getValue();
+                final Pending<I, R> prefetched = new Pending<>(run, input);
+                for (int copy = copies.applyAsInt(input); copy > 0; copy--) {
+                    prefetched.tasks.add(pool.submit(() -> converter.apply(key, input)));
+                }
+                pending.put(key, prefetched);
+            }
+        } finally {
+            // already submitted conversions still complete
+            pool.shutdown();
+        }
+        return true;
+    }
+
+    /**
+     * Take the prefetched result for the given input, waiting for its conversion if needed.
+     *
+     * @param run identity of the run
+     * @param key key of the input
+     * @param input input the result is expected for, compared by identity
+     * @return the result, or null if there is none for this exact input
+     */
+    public R take(Object run, String key, I input) {
+        return take(run, key, candidate -> candidate == input);
+    }
+
+    /**
+     * Take the prefetched result for the given key, waiting for its conversion if needed.
+     *
+     * @param run identity of the run
+     * @param key key of the input
+     * @param matches whether the prefetched input is the one the caller would convert
+     * @return the result, or null if there is none for a matching input
+     */
+    public R take(Object run, String key, Predicate<I> matches) {
+        final ForkJoinTask<R> task;
+        synchronized (this) {
+            final Pending<I, R> prefetched = pending.get(key);
+            if (prefetched == null) {
+                return null;
+            }
+            if (prefetched.run != run || !matches.test(prefetched.input)) {
+                pending.remove(key);
+                prefetched.cancel();
+                return null;
+            }
+            task = prefetched.tasks.poll();
+            if (prefetched.tasks.isEmpty()) {
+                pending.remove(key);
+            }
+        }
+        return task == null ? null : task.join();
+    }
+
+    /**
+     * Drop all results which haven't been taken yet.
+     */
+    public synchronized void clear() {
+        for (Pending<I, R> prefetched : pending.values()) {
+            prefetched.cancel();
+        }
+        pending.clear();
+        run = null;
+    }
+
+    private static class Pending<I, R> {
+
+        private final Object run;
+        private final I input;
+        private final Queue<ForkJoinTask<R>> tasks = new ArrayDeque<>();
+
+        private Pending(Object run, I input) {
+            this.run = run;
+            this.input = input;
+        }
+
+        private void cancel() {
+            for (ForkJoinTask<R> task : tasks) {
+                task.cancel(false);
+            }
+            tasks.clear();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Wall time, CPU time and allocated bytes of the phases of a generation run, e.g. the conversion of every model or
+ * the rendering of every template, written as JSON on request.
+ *
+ * Phases are measured on the thread running them and include the phases nested in them (e.g. writing a file
+ * streamed from a template includes rendering it). CPU time and allocated bytes are -1 where the JVM doesn't
+ * measure them. A phase run again without an item while it is already running on the same thread (e.g. a generator
+ * calling the implementation it overrides) is measured once, by the outer run.
+ */
+public class GenerationReport {
+
+    public static final String PREPROCESS_OPENAPI = "preprocessOpenAPI";
+    public static final String PROCESS_OPENAPI = "processOpenAPI";
+    public static final String MODEL = "fromModel";
+    public static final String POST_PROCESS_ALL_MODELS = "postProcessAllModels";
+    public static final String POST_PROCESS_MODELS = "postProcessModels";
+    public static final String OPERATION = "fromOperation";
+    public static final String POST_PROCESS_OPERATIONS = "postProcessOperations";
+    public static final String POST_PROCESS_OPERATIONS_WITH_MODELS = "postProcessOperationsWithModels";
+    public static final String POST_PROCESS_SUPPORTING_FILE_DATA = "postProcessSupportingFileData";
+    public static final String RENDER_TEMPLATE = "renderTemplate";
+    public static final String WRITE_FILE = "writeFile";
+    public static final String WRITTEN_FILES = "writtenFiles";
+    public static final String UNCHANGED_FILES = "unchangedFiles";
+    public static final String SKIPPED_FILES = "skippedFiles";
+    public static final String POOLED_STRINGS = "pooledStrings";
+    public static final String DUPLICATE_STRINGS = "duplicateStrings";
+    public static final String SAVED_STRING_BYTES = "savedStringBytes";
+    public static final String DEDUPLICATED_INLINE_SCHEMAS = "deduplicatedInlineSchemas";
+    public static final String INLINE_MODELS = "inlineModels";
+    public static final String INLINE_MODEL_NAME_COLLISIONS = "inlineModelNameCollisions";
+
+    private static final Timer NONE = new Timer(null, null, null);
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final String generator;
+    private final long created = System.currentTimeMillis();
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+    private final ThreadLocal<Set<String>> runningPhases = ThreadLocal.withInitial(HashSet::new);
+
+    public GenerationReport(String generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Start measuring one run of a phase.
+     *
+     * @param report report to add the measurement to, nothing is measured if null
+     * @param phase name of the phase
+     * @param item what the phase is run for, e.g. the model name, null to only sum up the phase
+     * @return the running timer, to be closed at the end of the phase
+     */
+    public static Timer start(GenerationReport report, String phase, String item) {
+        if (report == null) {
+            return NONE;
+        }
+        return report.start(phase, item);
+    }
+
+    public Timer start(String phase, String item) {
+        if (item == null && !runningPhases.get().add(phase)) {
+            return NONE;
+        }
+        return new Timer(this, phase, item);
+    }
+
+    public synchronized long getCount(String phase) {
+        final Phase measured = phases.get(phase);
+        return measured == null ? 0 : measured.total.count;
+    }
+
+    public synchronized long getWallNanos(String phase) {
+        final Phase measured = phases.get(phase);
+        return measured == null ? 0 : measured.total.wallNanos;
+    }
+
+    /**
+     * @param name name of a number reported with the phases, e.g. the number of written files
+     * @param value reported number
+     */
+    public synchronized void setCounter(String name, long value) {
+        counters.put(name, value);
+    }
+
+    public synchronized Long getCounter(String name) {
+        return counters.get(name);
+    }
+
+    public synchronized ObjectNode toJson() {
+        final ObjectNode report = Json.mapper().createObjectNode();
+        report.put("generator", generator);
+        report.put("created", created);
+        final ArrayNode phasesNode = report.putArray("phases");
+        for (Map.Entry<String, Phase> entry : phases.entrySet()) {
+            final ObjectNode phaseNode = phasesNode.addObject();
+            phaseNode.put("phase", entry.getKey());
+            entry.getValue().total.write(phaseNode);
+            if (!entry.getValue().items.isEmpty()) {
+                final ArrayNode itemsNode = phaseNode.putArray("items");
+                for (Map.Entry<String, Measurement> item : entry.getValue().items.entrySet()) {
+                    final ObjectNode itemNode = itemsNode.addObject();
+                    itemNode.put("name", item.getKey());
+                    item.getValue().write(itemNode);
+                }
+            }
+        }
+        final ObjectNode countersNode = report.putObject("counters");
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            countersNode.put(counter.getKey(), counter.getValue());
+        }
+        return report;
+    }
+
+    public void write(File file) throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        Json.pretty().writeValue(file, toJson());
+    }
+
+    private synchronized void record(String phase, String item, long wallNanos, long cpuNanos, long allocatedBytes) {
+        Phase measured = phases.get(phase);
+        if (measured == null) {
+            measured = new Phase();
+            phases.put(phase, measured);
+        }
+        measured.total.add(wallNanos, cpuNanos, allocatedBytes);
+        if (item != null) {
+            Measurement itemMeasurement = measured.items.get(item);
+            if (itemMeasurement == null) {
+                itemMeasurement = new Measurement();
+                measured.items.put(item, itemMeasurement);
+            }
+            itemMeasurement.add(wallNanos, cpuNanos, allocatedBytes);
+        }
+    }
+
+    private static long cpuTime() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported()) {
+            return -1;
+        }
+        return THREADS.getCurrentThreadCpuTime();
+    }
+
+    private static long allocatedBytes() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * One running measurement, to be closed on the thread which started it.
+     */
+    public static class Timer implements AutoCloseable {
+
+        private final GenerationReport report;
+        private final String phase;
+        private final String item;
+        private final long wallStart;
+        private final long cpuStart;
+        private final long allocatedStart;
+
+        private Timer(GenerationReport report, String phase, String item) {
+            this.report = report;
+            this.phase = phase;
+            this.item = item;
+            if (report == null) {
+                wallStart = cpuStart = allocatedStart = 0;
+            } else {
+                wallStart = System.nanoTime();
+                cpuStart = cpuTime();
+                allocatedStart = allocatedBytes();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (report == null) {
+                return;
+            }
+            final long wallNanos = System.nanoTime() - wallStart;
+            final long cpuNanos = cpuStart < 0 ? -1 : cpuTime() - cpuStart;
+            final long allocated = allocatedStart < 0 ? -1 : allocatedBytes() - allocatedStart;
+            if (item == null) {
+                report.runningPhases.get().remove(phase);
+            }
+            report.record(phase, item, wallNanos, cpuNanos, allocated);
+        }
+    }
+
+    private static class Phase {
+
+        private final Measurement total = new Measurement();
+        private final Map<String, Measurement> items = new LinkedHashMap<>();
+    }
+
+    private static class Measurement {
+
+        private long count;
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+
+        private void add(long wallNanos, long cpuNanos, long allocatedBytes) {
+            count++;
+            this.wallNanos += wallNanos;
+            this.cpuNanos = this.cpuNanos < 0 || cpuNanos < 0 ? -1 : this.cpuNanos + cpuNanos;
+            this.allocatedBytes = this.allocatedBytes < 0 || allocatedBytes < 0 ? -1 : this.allocatedBytes + allocatedBytes;
+        }
+
+        private void write(ObjectNode node) {
+            node.put("count", count);
+            node.put("wallNanos", wallNanos);
+            node.put("cpuNanos", cpuNanos);
+            node.put("allocatedBytes", allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Manifest of an incremental generation: the hash of the inputs every generated file has been written from (see
+ * {@link InputHashes}), combined with the hashes of the generator options (its version included) and templates. A file whose inputs have the
+ * same hash as in the previous run, and which still exists, doesn't need to be written again.
+ */
+public class IncrementalManifest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalManifest.class);
+
+    // 2: the options include the versions of the generator
+    private static final int VERSION = 2;
+
+    private final File file;
+    private final Path outputDir;
+    private final Map<String, String> previousFiles = new TreeMap<>();
+    private final Map<String, String> files = new TreeMap<>();
+    private final Map<String, String> templates = new TreeMap<>();
+    private String optionsHash = "";
+    private String templatesHash;
+
+    /**
+     * @param file manifest file, read if it exists
+     * @param outputDir output dir of the generator, which the files are stored relative to
+     */
+    public IncrementalManifest(File file, File outputDir) {
+        this.file = file;
+        this.outputDir = outputDir.toPath().toAbsolutePath().normalize();
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            final JsonNode manifest = Json.mapper().readTree(file);
+            if (manifest.path("version").asInt() != VERSION) {
+                return;
+            }
+            for (Iterator<Map.Entry<String, JsonNode>> iterator = manifest.path("files").fields(); iterator.hasNext(); ) {
+                final Map.Entry<String, JsonNode> entry = iterator.next();
+                previousFiles.put(entry.getKey(), entry.getValue().asText());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not read manifest " + file + ", generating all files", e);
+        }
+    }
+
+    /**
+     * @param options options of the generator, i.e. everything every file depends on but the templates
+     */
+    public synchronized void setOptions(Map<String, Object> options) {
+        final StringBuilder content = new StringBuilder();
+        for (Map.Entry<String, Object> option : new TreeMap<>(options).entrySet()) {
+            content.append(option.getKey()).append('=').append(option.getValue()).append('\n');
+        }
+        optionsHash = InputHashes.hash(content.toString());
+    }
+
+    /**
+     * Version of the code of a class, to be part of the options: generated files depend on the generator as much as
+     * on its options.
+     *
+     * @param type class of the generator, or of a library it runs on
+     * @return implementation version of the jar of the class, the hash of the jar for snapshots and jars without
+     * version, "unknown" for classes not loaded from a jar (e.g. the build directory of the generator)
+     */
+    public static String getVersion(Class<?> type) {
+        final Package typePackage = type.getPackage();
+        final String version = typePackage == null ? null : typePackage.getImplementationVersion();
+        if (version != null && !version.endsWith("-SNAPSHOT")) {
+            return version;
+        }
+        final CodeSource source = type.getProtectionDomain().getCodeSource();
+        try {
+            final File jar = source == null || source.getLocation() == null ? null : new File(source.getLocation().toURI());
+            if (jar != null && jar.isFile()) {
+                return InputHashes.hash(jar);
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            LOGGER.warn("Could not hash the jar of " + type.getName(), e);
+        }
+        return version == null ? "unknown" : version;
+    }
+
+    public synchronized boolean hasTemplates() {
+        return templatesHash != null;
+    }
+
+    /**
+     * @param name name of a template used by the generated files
+     * @param content content of the template and the partials it includes
+     */
+    public synchronized void addTemplate(String name, String content) {
+        templates.put(name, InputHashes.hash(content));
+        final StringBuilder hashes = new StringBuilder();
+        for (Map.Entry<String, String> template : templates.entrySet()) {
+            hashes.append(template.getKey()).append('=').append(template.getValue()).append('\n');
+        }
+        templatesHash = InputHashes.hash(hashes.toString());
+    }
+
+    /**
+     * @param filename generated file
+     * @param inputHash hash of the spec inputs of the file
+     * @return true if the file exists and its inputs, options and templates haven't changed since it was written
+     */
+    public synchronized boolean isUpToDate(String filename, String inputHash) {
+        final File output = new File(filename);
+        final String key = getKey(output);
+        return output.exists() && getHash(inputHash).equals(previousFiles.get(key));
+    }
+
+    /**
+     * @param filename file written (or kept) by this run
+     * @param inputHash hash of the spec inputs of the file
+     */
+    public synchronized void record(String filename, String inputHash) {
+        files.put(getKey(new File(filename)), getHash(inputHash));
+    }
+
+    public synchronized void write() throws IOException {
+        final ObjectNode manifest = Json.mapper().createObjectNode();
+        manifest.put("version", VERSION);
+        manifest.put("options", optionsHash);
+        final ObjectNode templatesNode = manifest.putObject("templates");
+        for (Map.Entry<String, String> template : templates.entrySet()) {
+            templatesNode.put(template.getKey(), template.getValue());
+        }
+        final ObjectNode filesNode = manifest.putObject("files");
+        for (Map.Entry<String, String> generated : files.entrySet()) {
+            filesNode.put(generated.getKey(), generated.getValue());
+        }
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        Json.pretty().writeValue(file, manifest);
+    }
+
+    private String getHash(String inputHash) {
+        return InputHashes.hash(optionsHash + '\n' + templatesHash + '\n' + inputHash);
+    }
+
+    private String getKey(File output) {
+        final Path path = output.toPath().toAbsolutePath().normalize();
+        final Path relative = path.startsWith(outputDir) ? outputDir.relativize(path) : path;
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+}
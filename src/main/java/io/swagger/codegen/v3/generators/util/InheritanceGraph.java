@@ -0,0 +1,169 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Index of the inheritance between the models of a spec (schemas or converted models), built once so the hierarchy
+ * doesn't need to be walked again for every model: parents, interfaces, direct children, ancestor chains and the
+ * models mapped by every discriminator.
+ *
+ * A model is mapped by the discriminator of its closest ancestor having one, and is a subtype of every ancestor up to
+ * that one (or up to the root if there is none), which is how the children of converted models are linked. Parents
+ * missing from the indexed models end an ancestor chain, as do cycles.
+ *
+ * @param <T> type of the indexed models
+ */
+public class InheritanceGraph<T> {
+
+    private final Map<String, T> models;
+    private final Map<String, String> parents = new HashMap<>();
+    private final Map<String, List<String>> interfaces = new HashMap<>();
+    private final Map<String, List<String>> children = new HashMap<>();
+    private final Map<String, List<String>> ancestors = new HashMap<>();
+    private final Map<String, String> discriminatorOwners = new HashMap<>();
+    private final Map<String, List<String>> subtypes = new HashMap<>();
+    private final Set<String> discriminators = new HashSet<>();
+
+    /**
+     * @param models models by name, subtypes are listed in the iteration order of the map
+     * @param parent name of the parent of a model, null if none
+     * @param interfaces names of the interfaces of a model, null if none
+     * @param hasDiscriminator whether a model has a discriminator
+     */
+    public InheritanceGraph(Map<String, T> models, Function<T, String> parent, Function<T, List<String>> interfaces,
+                            Predicate<T> hasDiscriminator) {
+        this.models = models;
+        for (Map.Entry<String, T> model : models.entrySet()) {
+            final T value = model.getValue();
+            if (value == null) {
+                continue;
+            }
+            final String parentName = parent.apply(value);
+            if (parentName != null) {
+                parents.put(model.getKey(), parentName);
+                if (models.get(parentName) != null) {
+                    children.computeIfAbsent(parentName, key -> new ArrayList<>()).add(model.getKey());
+                }
+            }
+            final List<String> interfaceNames = interfaces.apply(value);
+            if (interfaceNames != null && !interfaceNames.isEmpty()) {
+                this.interfaces.put(model.getKey(), interfaceNames);
+            }
+            if (hasDiscriminator.test(value)) {
+                discriminators.add(model.getKey());
+            }
+        }
+        for (String name : models.keySet()) {
+            final List<String> chain = getAncestors(name);
+            for (String ancestor : chain) {
+                subtypes.computeIfAbsent(ancestor, key -> new ArrayList<>()).add(name);
+                if (discriminators.contains(ancestor)) {
+                    discriminatorOwners.put(name, ancestor);
+                    break;
+                }
+            }
+        }
+    }
+
+    public T get(String name) {
+        return models.get(name);
+    }
+
+    /**
+     * @return name of the parent of the model, even if it isn't indexed, null if none
+     */
+    public String getParent(String name) {
+        return parents.get(name);
+    }
+
+    public List<String> getInterfaces(String name) {
+        final List<String> names = interfaces.get(name);
+        return names == null ? Collections.<String>emptyList() : names;
+    }
+
+    /**
+     * @return models having the model as their parent
+     */
+    public List<String> getChildren(String name) {
+        final List<String> names = children.get(name);
+        return names == null ? Collections.<String>emptyList() : names;
+    }
+
+    /**
+     * @return indexed ancestors of the model, closest first
+     */
+    public synchronized List<String> getAncestors(String name) {
+        final List<String> known = ancestors.get(name);
+        if (known != null) {
+            return known;
+        }
+        // walk up to the first ancestor with a known chain, then fill in the chains on the way back down
+        final List<String> path = new ArrayList<>();
+        final Set<String> visited = new HashSet<>();
+        List<String> above = Collections.emptyList();
+        String current = name;
+        while (true) {
+            path.add(current);
+            visited.add(current);
+            final String parent = parents.get(current);
+            if (parent == null || models.get(parent) == null) {
+                break;
+            }
+            final List<String> parentChain = ancestors.get(parent);
+            if (visited.contains(parent) || (parentChain != null && !Collections.disjoint(parentChain, visited))) {
+                // cycle, the chain of the model ends before coming back to it
+                final List<String> chain = new ArrayList<>(path.subList(1, path.size()));
+                for (String next = parent; next != null && models.get(next) != null && visited.add(next); next = parents.get(next)) {
+                    chain.add(next);
+                }
+                ancestors.put(name, Collections.unmodifiableList(chain));
+                return ancestors.get(name);
+            }
+            if (parentChain != null) {
+                above = new ArrayList<>(parentChain.size() + 1);
+                above.add(parent);
+                above.addAll(parentChain);
+                break;
+            }
+            current = parent;
+        }
+        List<String> chain = Collections.unmodifiableList(above);
+        ancestors.put(path.get(path.size() - 1), chain);
+        for (int i = path.size() - 2; i >= 0; i--) {
+            final List<String> below = new ArrayList<>(chain.size() + 1);
+            below.add(path.get(i + 1));
+            below.addAll(chain);
+            chain = Collections.unmodifiableList(below);
+            ancestors.put(path.get(i), chain);
+        }
+        return chain;
+    }
+
+    public boolean hasDiscriminator(String name) {
+        return discriminators.contains(name);
+    }
+
+    /**
+     * @return closest ancestor of the model with a discriminator, null if none
+     */
+    public String getDiscriminatorOwner(String name) {
+        return discriminatorOwners.get(name);
+    }
+
+    /**
+     * @return models which are subtypes of the model: its descendants, but for those mapped by a discriminator of a
+     * closer ancestor
+     */
+    public List<String> getSubtypes(String name) {
+        final List<String> names = subtypes.get(name);
+        return names == null ? Collections.<String>emptyList() : names;
+    }
+}
@@ -0,0 +1,473 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Replaces the inline object schemas of request bodies and responses (or of the items of their arrays) which have
+ * the same structure (see SchemaSignature) by a reference to one model:
+ * <ul>
+ * <li>the schema of the spec with the same structure, if any,</li>
+ * <li>otherwise a new schema of the spec for the structures found more than once, named after its title or like the
+ * inline models of the parser ("body", "inline_response_200", ...).</li>
+ * </ul>
+ * Inline schemas found once and not matching a schema of the spec are left alone. When the preferred name of a new
+ * schema is already taken (names differing only by case included, as they end up as the same model), a suffix is
+ * appended and the collision is listed in the summary.
+ *
+ * Specs flattened by the parser (the "flatten" option of the CLI and the Maven plugin) have no inline schemas left:
+ * their request bodies and responses already reference schemas named like "body", "body_1" or "inline_response_200",
+ * one per inline schema of the same structure as far as the parser could tell. Those generated schemas are merged the
+ * same way: a generated schema with the same structure as another schema of the spec is removed and every reference
+ * to it (from schemas, parameters, request bodies, responses, headers and callbacks) points to the other schema instead,
+ * preferring schemas named by the spec itself, then the shortest generated name.
+ */
+public class InlineSchemaDeduplicator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InlineSchemaDeduplicator.class);
+    private static final String REF_PREFIX = "#/components/schemas/";
+    private static final Pattern GENERATED_NAME = Pattern.compile("body(_\\d+)?|inline_response_[^_]+(_\\d+)?");
+
+    private final Map<String, List<Occurrence>> occurrences = new LinkedHashMap<>();
+    private final Map<String, Integer> reusedSchemas = new LinkedHashMap<>();
+    private final Map<String, Integer> createdSchemas = new LinkedHashMap<>();
+    private final Map<String, List<String>> collisions = new LinkedHashMap<>();
+    private final Map<String, String> mergedSchemas = new LinkedHashMap<>();
+    private int replacedSchemas;
+
+    /**
+     * Deduplicate the inline schemas of the spec, changing it in place.
+     *
+     * @param openAPI spec, e.g. right after preprocessOpenAPI
+     */
+    public void deduplicate(OpenAPI openAPI) {
+        if (openAPI.getPaths() != null) {
+            for (PathItem path : openAPI.getPaths().values()) {
+                for (Operation operation : path.readOperations()) {
+                    collect(operation.getRequestBody());
+                    if (operation.getResponses() != null) {
+                        for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+                            collect(response.getKey(), response.getValue());
+                        }
+                    }
+                }
+            }
+        }
+        final Components components = openAPI.getComponents();
+        if (components != null && components.getRequestBodies() != null) {
+            for (RequestBody body : components.getRequestBodies().values()) {
+                collect(body);
+            }
+        }
+        if (components != null && components.getResponses() != null) {
+            for (Map.Entry<String, ApiResponse> response : components.getResponses().entrySet()) {
+                collect(response.getKey(), response.getValue());
+            }
+        }
+        if (!occurrences.isEmpty()) {
+            replace(openAPI);
+        }
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            mergeGeneratedSchemas(openAPI);
+        }
+    }
+
+    /**
+     * @return names of the schemas of the spec which replaced inline schemas, with the number of replaced schemas
+     */
+    public Map<String, Integer> getReusedSchemas() {
+        return reusedSchemas;
+    }
+
+    /**
+     * @return names of the schemas added to the spec, with the number of inline schemas they replaced
+     */
+    public Map<String, Integer> getCreatedSchemas() {
+        return createdSchemas;
+    }
+
+    /**
+     * @return names of added schemas which were already taken, with the names they got instead
+     */
+    public Map<String, List<String>> getCollisions() {
+        return collisions;
+    }
+
+    /**
+     * @return names of the schemas generated by the parser which have been removed, with the name of the schema
+     * replacing them
+     */
+    public Map<String, String> getMergedSchemas() {
+        return mergedSchemas;
+    }
+
+    /**
+     * @return number of added schemas which didn't get their preferred name
+     */
+    public int getCollisionCount() {
+        int count = 0;
+        for (List<String> names : collisions.values()) {
+            count += names.size();
+        }
+        return count;
+    }
+
+    /**
+     * @return number of inline schemas replaced by a reference
+     */
+    public int getReplacedSchemas() {
+        return replacedSchemas;
+    }
+
+    /**
+     * Log what has been deduplicated, collisions included.
+     */
+    public void logSummary() {
+        LOGGER.info(String.format("%d inline schemas replaced by %d existing and %d new models, %d generated schemas merged, %d name collisions",
+                replacedSchemas, reusedSchemas.size(), createdSchemas.size(), mergedSchemas.size(), getCollisionCount()));
+        for (Map.Entry<String, Integer> schema : reusedSchemas.entrySet()) {
+            LOGGER.info(String.format("  %s: %d inline schemas", schema.getKey(), schema.getValue()));
+        }
+        for (Map.Entry<String, Integer> schema : createdSchemas.entrySet()) {
+            LOGGER.info(String.format("  %s (new): %d inline schemas", schema.getKey(), schema.getValue()));
+        }
+        for (Map.Entry<String, String> schema : mergedSchemas.entrySet()) {
+            LOGGER.info(String.format("  %s: merged into %s", schema.getKey(), schema.getValue()));
+        }
+        for (Map.Entry<String, List<String>> collision : collisions.entrySet()) {
+            LOGGER.warn(String.format("  %s is already taken, inline schemas named %s instead", collision.getKey(),
+                    StringUtils.join(collision.getValue(), ", ")));
+        }
+    }
+
+    private void collect(RequestBody body) {
+        if (body != null && body.get$ref() == null) {
+            collect(body.getContent(), "body");
+        }
+    }
+
+    private void collect(String code, ApiResponse response) {
+        if (response != null && response.get$ref() == null) {
+            collect(response.getContent(), "inline_response_" + code);
+        }
+    }
+
+    private void collect(Content content, String name) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            final Schema schema = mediaType.getSchema();
+            if (isInlineObject(schema)) {
+                add(schema, name, mediaType::setSchema);
+            } else if (schema instanceof ArraySchema && isInlineObject(((ArraySchema) schema).getItems())) {
+                add(((ArraySchema) schema).getItems(), name, ((ArraySchema) schema)::setItems);
+            }
+        }
+    }
+
+    private static boolean isInlineObject(Schema schema) {
+        return schema != null
+                && schema.get$ref() == null
+                && !(schema instanceof ComposedSchema)
+                && (schema.getType() == null || "object".equals(schema.getType()))
+                && schema.getProperties() != null
+                && !schema.getProperties().isEmpty();
+    }
+
+    private void add(Schema schema, String name, Consumer<Schema> replacement) {
+        final String preferredName = StringUtils.isNotBlank(schema.getTitle()) ? schema.getTitle() : name;
+        occurrences.computeIfAbsent(SchemaSignature.of(schema), key -> new ArrayList<>())
+                .add(new Occurrence(schema, preferredName, replacement));
+    }
+
+    private void replace(OpenAPI openAPI) {
+        final Map<String, Schema> schemas = openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null
+                ? Collections.<String, Schema>emptyMap() : openAPI.getComponents().getSchemas();
+        final Map<String, String> existing = new LinkedHashMap<>();
+        final Set<String> taken = new HashSet<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            taken.add(schema.getKey().toLowerCase(Locale.ROOT));
+            if (schema.getValue() != null) {
+                existing.putIfAbsent(SchemaSignature.of(schema.getValue()), schema.getKey());
+            }
+        }
+        for (Map.Entry<String, List<Occurrence>> shape : occurrences.entrySet()) {
+            final List<Occurrence> schemasOfShape = shape.getValue();
+            String name = existing.get(shape.getKey());
+            if (name != null) {
+                reusedSchemas.merge(name, schemasOfShape.size(), Integer::sum);
+            } else if (schemasOfShape.size() > 1) {
+                final Occurrence first = schemasOfShape.get(0);
+                name = uniqueName(first.name, taken);
+                if (openAPI.getComponents() == null) {
+                    openAPI.setComponents(new Components());
+                }
+                openAPI.getComponents().addSchemas(name, first.schema);
+                createdSchemas.put(name, schemasOfShape.size());
+            } else {
+                continue;
+            }
+            for (Occurrence occurrence : schemasOfShape) {
+                occurrence.replacement.accept(new Schema().$ref(REF_PREFIX + name));
+            }
+            replacedSchemas += schemasOfShape.size();
+        }
+    }
+
+    private void mergeGeneratedSchemas(OpenAPI openAPI) {
+        final Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        final List<String> generated = new ArrayList<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            if (schema.getValue() != null && GENERATED_NAME.matcher(schema.getKey()).matches()) {
+                generated.add(schema.getKey());
+            }
+        }
+        generated.sort(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+        // merging schemas can make the schemas referencing them the same too
+        for (boolean merged = !generated.isEmpty(); merged; ) {
+            final Map<String, String> kept = new HashMap<>();
+            for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+                if (schema.getValue() != null && !GENERATED_NAME.matcher(schema.getKey()).matches()) {
+                    kept.putIfAbsent(SchemaSignature.of(schema.getValue()), schema.getKey());
+                }
+            }
+            final Map<String, String> renamed = new HashMap<>();
+            for (String name : generated) {
+                final String keptName = kept.putIfAbsent(SchemaSignature.of(schemas.get(name)), name);
+                if (keptName != null) {
+                    renamed.put(name, keptName);
+                }
+            }
+            for (Map.Entry<String, String> merge : mergedSchemas.entrySet()) {
+                merge.setValue(renamed.getOrDefault(merge.getValue(), merge.getValue()));
+            }
+            mergedSchemas.putAll(renamed);
+            generated.removeAll(renamed.keySet());
+            schemas.keySet().removeAll(renamed.keySet());
+            new ReferenceRewriter(renamed).rewrite(openAPI);
+            merged = !renamed.isEmpty();
+        }
+    }
+
+    private String uniqueName(String name, Set<String> taken) {
+        String unique = name;
+        for (int i = 1; !taken.add(unique.toLowerCase(Locale.ROOT)); i++) {
+            unique = name + "_" + i;
+        }
+        if (!unique.equals(name)) {
+            collisions.computeIfAbsent(name, key -> new ArrayList<>()).add(unique);
+        }
+        return unique;
+    }
+
+    /**
+     * Points the references to renamed schemas to their new name, everywhere in the spec.
+     */
+    private static class ReferenceRewriter {
+
+        private final Map<String, String> renamed;
+        private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private ReferenceRewriter(Map<String, String> renamed) {
+            this.renamed = renamed;
+        }
+
+        private void rewrite(OpenAPI openAPI) {
+            if (renamed.isEmpty()) {
+                return;
+            }
+            if (openAPI.getPaths() != null) {
+                for (PathItem path : openAPI.getPaths().values()) {
+                    rewrite(path);
+                }
+            }
+            final Components components = openAPI.getComponents();
+            if (components == null) {
+                return;
+            }
+            if (components.getSchemas() != null) {
+                for (Schema schema : components.getSchemas().values()) {
+                    rewrite(schema);
+                }
+            }
+            if (components.getParameters() != null) {
+                for (Parameter parameter : components.getParameters().values()) {
+                    rewrite(parameter);
+                }
+            }
+            if (components.getRequestBodies() != null) {
+                for (RequestBody body : components.getRequestBodies().values()) {
+                    rewrite(body.getContent());
+                }
+            }
+            if (components.getResponses() != null) {
+                for (ApiResponse response : components.getResponses().values()) {
+                    rewrite(response);
+                }
+            }
+            if (components.getHeaders() != null) {
+                for (Header header : components.getHeaders().values()) {
+                    rewrite(header);
+                }
+            }
+            if (components.getCallbacks() != null) {
+                for (Callback callback : components.getCallbacks().values()) {
+                    rewrite(callback);
+                }
+            }
+        }
+
+        private void rewrite(PathItem path) {
+            if (path == null || !visited.add(path)) {
+                return;
+            }
+            if (path.getParameters() != null) {
+                for (Parameter parameter : path.getParameters()) {
+                    rewrite(parameter);
+                }
+            }
+            for (Operation operation : path.readOperations()) {
+                if (operation.getParameters() != null) {
+                    for (Parameter parameter : operation.getParameters()) {
+                        rewrite(parameter);
+                    }
+                }
+                if (operation.getRequestBody() != null) {
+                    rewrite(operation.getRequestBody().getContent());
+                }
+                if (operation.getResponses() != null) {
+                    for (ApiResponse response : operation.getResponses().values()) {
+                        rewrite(response);
+                    }
+                }
+                if (operation.getCallbacks() != null) {
+                    for (Callback callback : operation.getCallbacks().values()) {
+                        rewrite(callback);
+                    }
+                }
+            }
+        }
+
+        private void rewrite(Callback callback) {
+            if (callback != null) {
+                for (PathItem path : callback.values()) {
+                    rewrite(path);
+                }
+            }
+        }
+
+        private void rewrite(Parameter parameter) {
+            if (parameter != null) {
+                rewrite(parameter.getSchema());
+                rewrite(parameter.getContent());
+            }
+        }
+
+        private void rewrite(Header header) {
+            if (header != null) {
+                rewrite(header.getSchema());
+                rewrite(header.getContent());
+            }
+        }
+
+        private void rewrite(ApiResponse response) {
+            if (response == null) {
+                return;
+            }
+            rewrite(response.getContent());
+            if (response.getHeaders() != null) {
+                for (Header header : response.getHeaders().values()) {
+                    rewrite(header);
+                }
+            }
+        }
+
+        private void rewrite(Content content) {
+            if (content != null) {
+                for (MediaType mediaType : content.values()) {
+                    rewrite(mediaType.getSchema());
+                }
+            }
+        }
+
+        private void rewrite(Schema schema) {
+            if (schema == null || !visited.add(schema)) {
+                return;
+            }
+            if (schema.get$ref() != null && schema.get$ref().startsWith(REF_PREFIX)) {
+                final String name = renamed.get(schema.get$ref().substring(REF_PREFIX.length()));
+                if (name != null) {
+                    schema.set$ref(REF_PREFIX + name);
+                }
+            }
+            if (schema.getProperties() != null) {
+                for (Object property : schema.getProperties().values()) {
+                    rewrite((Schema) property);
+                }
+            }
+            if (schema instanceof ArraySchema) {
+                rewrite(((ArraySchema) schema).getItems());
+            }
+            if (schema.getAdditionalProperties() instanceof Schema) {
+                rewrite((Schema) schema.getAdditionalProperties());
+            }
+            rewrite(schema.getNot());
+            if (schema instanceof ComposedSchema) {
+                rewrite(((ComposedSchema) schema).getAllOf());
+                rewrite(((ComposedSchema) schema).getAnyOf());
+                rewrite(((ComposedSchema) schema).getOneOf());
+            }
+        }
+
+        private void rewrite(List<Schema> schemas) {
+            if (schemas != null) {
+                for (Schema schema : schemas) {
+                    rewrite(schema);
+                }
+            }
+        }
+    }
+
+    private static class Occurrence {
+
+        private final Schema schema;
+        private final String name;
+        private final Consumer<Schema> replacement;
+
+        private Occurrence(Schema schema, String name, Consumer<Schema> replacement) {
+            this.schema = schema;
+            this.name = name;
+            this.replacement = replacement;
+        }
+    }
+}
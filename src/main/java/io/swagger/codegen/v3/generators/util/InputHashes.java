@@ -0,0 +1,242 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Content hashes of the parts of a spec a generated model or API file depends on.
+ *
+ * The hash of a model covers its schema and everything reachable from it through $ref, plus the schemas of the models
+ * extending it through allOf (a parent lists its children, e.g. as JSON subtypes). The hash of an API tag covers the path items of
+ * its operations and everything they reference. Both include the parts of the spec every file depends on (info,
+ * servers, security, tags), so a changed parent schema changes the hash of all of its children, and a changed
+ * schema changes the hash of every tag using it.
+ */
+public class InputHashes {
+
+    private static final String REF = "$ref";
+    private static final String SCHEMAS = "/components/schemas/";
+    private static final String LOCAL_REF_PREFIX = "#";
+    private static final String[] HTTP_METHODS = {"get", "put", "post", "delete", "options", "head", "patch", "trace"};
+    private static final String[] GLOBAL_PARTS = {"/openapi", "/info", "/servers", "/security", "/tags", "/components/securitySchemes"};
+
+    private final JsonNode spec;
+    private final Function<String, String> sanitizeTag;
+    private final Map<String, List<String>> children = new HashMap<>();
+    private final Map<String, String> nodeHashes = new HashMap<>();
+    private final Map<String, String> modelHashes = new HashMap<>();
+    private Map<String, List<String>> tagPaths;
+    private String globalHash;
+
+    /**
+     * @param openAPI spec, as used by the generation (i.e. after preprocessOpenAPI)
+     * @param sanitizeTag tag naming of the generator, mapping the tags of the spec to the tags of the API files
+     */
+    public InputHashes(OpenAPI openAPI, Function<String, String> sanitizeTag) {
+        this.spec = Json.mapper().valueToTree(openAPI);
+        this.sanitizeTag = sanitizeTag;
+        final JsonNode schemas = spec.at(SCHEMAS.substring(0, SCHEMAS.length() - 1));
+        for (Iterator<Map.Entry<String, JsonNode>> iterator = schemas.fields(); iterator.hasNext(); ) {
+            final Map.Entry<String, JsonNode> schema = iterator.next();
+            for (JsonNode parent : schema.getValue().path("allOf")) {
+                final String parentRef = parent.path(REF).asText(null);
+                if (parentRef != null && parentRef.startsWith(LOCAL_REF_PREFIX)) {
+                    children.computeIfAbsent(parentRef.substring(1), key -> new ArrayList<>())
+                            .add(SCHEMAS + escape(schema.getKey()));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param name name of the model, as in components/schemas
+     * @return hash of everything the model depends on
+     */
+    public synchronized String getModelHash(String name) {
+        String hash = modelHashes.get(name);
+        if (hash == null) {
+            hash = hash(Collections.singletonList(SCHEMAS + escape(name)));
+            modelHashes.put(name, hash);
+        }
+        return hash;
+    }
+
+    /**
+     * @return tags of the API files, as named by the generator
+     */
+    public synchronized Set<String> getTags() {
+        if (tagPaths == null) {
+            tagPaths = indexTagPaths();
+        }
+        return tagPaths.keySet();
+    }
+
+    /**
+     * @param tag tag of the API file, as named by the generator
+     * @return hash of everything the API file depends on
+     */
+    public synchronized String getApiHash(String tag) {
+        final List<String> paths = getTags().contains(tag) ? tagPaths.get(tag) : null;
+        return hash(paths == null ? Collections.<String>emptyList() : paths);
+    }
+
+    private Map<String, List<String>> indexTagPaths() {
+        final Map<String, List<String>> paths = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> iterator = spec.path("paths").fields(); iterator.hasNext(); ) {
+            final Map.Entry<String, JsonNode> pathItem = iterator.next();
+            final String pointer = "/paths/" + escape(pathItem.getKey());
+            for (String method : HTTP_METHODS) {
+                final JsonNode operation = pathItem.getValue().get(method);
+                if (operation == null) {
+                    continue;
+                }
+                final JsonNode tags = operation.path("tags");
+                if (tags.size() == 0) {
+                    addTagPath(paths, "default", pointer);
+                }
+                for (JsonNode tag : tags) {
+                    addTagPath(paths, sanitizeTag.apply(tag.asText()), pointer);
+                }
+            }
+        }
+        return paths;
+    }
+
+    private static void addTagPath(Map<String, List<String>> paths, String tag, String pointer) {
+        final List<String> tagPaths = paths.computeIfAbsent(tag, key -> new ArrayList<>());
+        if (!tagPaths.contains(pointer)) {
+            tagPaths.add(pointer);
+        }
+    }
+
+    private String hash(List<String> roots) {
+        final TreeSet<String> visited = new TreeSet<>();
+        final Deque<String> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            final String pointer = pending.pop();
+            if (visited.add(pointer)) {
+                collectRefs(spec.at(pointer), pending);
+            }
+        }
+        // children only matter by themselves (e.g. as subtypes of a parent), not by what they reference
+        final Deque<String> parents = new ArrayDeque<>(visited);
+        while (!parents.isEmpty()) {
+            final List<String> extending = children.get(parents.pop());
+            if (extending == null) {
+                continue;
+            }
+            for (String child : extending) {
+                if (visited.add(child)) {
+                    parents.push(child);
+                }
+            }
+        }
+        final MessageDigest digest = newDigest();
+        digest.update(getGlobalHash().getBytes(StandardCharsets.UTF_8));
+        for (String pointer : visited) {
+            digest.update(pointer.getBytes(StandardCharsets.UTF_8));
+            digest.update(getNodeHash(pointer).getBytes(StandardCharsets.UTF_8));
+        }
+        return toHex(digest.digest());
+    }
+
+    private String getGlobalHash() {
+        if (globalHash == null) {
+            final MessageDigest digest = newDigest();
+            for (String pointer : GLOBAL_PARTS) {
+                digest.update(pointer.getBytes(StandardCharsets.UTF_8));
+                digest.update(getNodeHash(pointer).getBytes(StandardCharsets.UTF_8));
+            }
+            globalHash = toHex(digest.digest());
+        }
+        return globalHash;
+    }
+
+    private String getNodeHash(String pointer) {
+        String hash = nodeHashes.get(pointer);
+        if (hash == null) {
+            hash = hash(spec.at(pointer).toString());
+            nodeHashes.put(pointer, hash);
+        }
+        return hash;
+    }
+
+    private static void collectRefs(JsonNode node, Deque<String> refs) {
+        if (node.isObject()) {
+            final JsonNode ref = node.get(REF);
+            if (ref != null && ref.isTextual() && ref.asText().startsWith(LOCAL_REF_PREFIX)) {
+                refs.push(ref.asText().substring(1));
+            }
+        }
+        if (node.isContainerNode()) {
+            for (JsonNode child : node) {
+                collectRefs(child, refs);
+            }
+        }
+    }
+
+    private static String escape(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * @param content any content
+     * @return hex SHA-256 hash of the content
+     */
+    public static String hash(String content) {
+        return toHex(newDigest().digest(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param file file to hash, e.g. a jar
+     * @return hash of the content of the file
+     * @throws IOException if the file can't be read
+     */
+    public static String hash(File file) throws IOException {
+        final MessageDigest digest = newDigest();
+        try (InputStream in = new DigestInputStream(new FileInputStream(file), digest)) {
+            final byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // digested while read
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,183 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Bounded, least recently used memoization of the identifier transforms of a generator (toModelName,
+ * toVarName, ...). Results depend on the generator options (prefixes, suffixes, reserved words, naming
+ * conventions), so the cache belongs to one generator instance and has to be cleared whenever those change.
+ *
+ * Lookups are thread safe; the transform itself runs outside of the lock, so two threads may compute the same
+ * entry, which is harmless for pure functions.
+ */
+public class NameCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * The memoized transforms, each one has its own bounded map and counters.
+     */
+    public enum Transform {
+        MODEL_NAME,
+        VAR_NAME,
+        PARAM_NAME,
+        API_NAME,
+        MODEL_FILENAME,
+        ENUM_VAR_NAME,
+        ESCAPE_RESERVED_WORD,
+        SANITIZE_TAG,
+        CAMELIZE
+    }
+
+    private final Map<Transform, Entries> entries = new EnumMap<>(Transform.class);
+    private volatile int maxSize;
+
+    public NameCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public NameCache(int maxSize) {
+        this.maxSize = maxSize;
+        for (Transform transform : Transform.values()) {
+            entries.put(transform, new Entries());
+        }
+    }
+
+    /**
+     * Return the memoized result of the transform for the given input, computing it on a miss.
+     *
+     * @param transform transform being applied
+     * @param input input of the transform
+     * @param function the actual transform
+     * @return transformed input
+     */
+    public String get(Transform transform, String input, Function<String, String> function) {
+        if (input == null || maxSize <= 0) {
+            return function.apply(input);
+        }
+        final Entries cache = entries.get(transform);
+        String result = cache.lookup(input);
+        if (result == null) {
+            result = function.apply(input);
+            cache.store(input, result, maxSize);
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@link #get(Transform, String, Function)} for transforms with two inputs (e.g. toEnumVarName).
+     */
+    public String get(Transform transform, String input, String qualifier, BiFunction<String, String, String> function) {
+        if (input == null || qualifier == null || maxSize <= 0) {
+            return function.apply(input, qualifier);
+        }
+        final Entries cache = entries.get(transform);
+        final String key = qualifier + '\u0000' + input;
+        String result = cache.lookup(key);
+        if (result == null) {
+            result = function.apply(input, qualifier);
+            cache.store(key, result, maxSize);
+        }
+        return result;
+    }
+
+    /**
+     * Drop all memoized results, counters are kept.
+     */
+    public void clear() {
+        for (Entries cache : entries.values()) {
+            cache.clear();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSize maximum number of entries per transform, 0 disables the cache
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        clear();
+    }
+
+    public long getHits(Transform transform) {
+        return entries.get(transform).hits;
+    }
+
+    public long getMisses(Transform transform) {
+        return entries.get(transform).misses;
+    }
+
+    public long getHits() {
+        long hits = 0;
+        for (Entries cache : entries.values()) {
+            hits += cache.hits;
+        }
+        return hits;
+    }
+
+    public long getMisses() {
+        long misses = 0;
+        for (Entries cache : entries.values()) {
+            misses += cache.misses;
+        }
+        return misses;
+    }
+
+    public double getHitRate() {
+        final long hits = getHits();
+        final long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("NameCache {");
+        for (Map.Entry<Transform, Entries> entry : entries.entrySet()) {
+            final Entries cache = entry.getValue();
+            if (cache.hits + cache.misses == 0) {
+                continue;
+            }
+            builder.append(' ').append(entry.getKey().name().toLowerCase())
+                    .append(": ").append(cache.hits).append('/').append(cache.hits + cache.misses);
+        }
+        return builder.append(String.format(" hit rate: %.1f%% }", getHitRate() * 100)).toString();
+    }
+
+    private static class Entries {
+
+        private final LinkedHashMap<String, String> values = new LinkedHashMap<>(64, 0.75f, true);
+        private volatile long hits;
+        private volatile long misses;
+
+        synchronized String lookup(String key) {
+            final String value = values.get(key);
+            if (value == null) {
+                misses++;
+            } else {
+                hits++;
+            }
+            return value;
+        }
+
+        synchronized void store(String key, String value, int maxSize) {
+            if (value == null) {
+                return;
+            }
+            values.put(key, value);
+            if (values.size() > maxSize) {
+                values.remove(values.keySet().iterator().next());
+            }
+        }
+
+        synchronized void clear() {
+            values.clear();
+        }
+    }
+}
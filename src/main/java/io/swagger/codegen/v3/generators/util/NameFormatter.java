@@ -0,0 +1,260 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.Locale;
+
+/**
+ * Character scanning implementations of camelize, underscore and dashize.
+ *
+ * The output is the same as the regular expression based versions that used to live in
+ * {@link io.swagger.codegen.v3.generators.DefaultCodegenConfig}, including the odd corners
+ * (slashes behaving like dots, backslashes being dropped after the first word character,
+ * underscores in front of non-letters being removed, locale sensitive case conversion).
+ * The only intended differences are inputs that the regex replacement string mishandled: they used to
+ * fail with an {@link IllegalArgumentException} (e.g. "a/$b" or "a-\\") or, for a backslash in front
+ * of a '$', to splice in a group reference; now they are converted like any other character.
+ *
+ * Every method works on a thread local {@link StringBuilder}, so the only allocation on the common
+ * (ASCII) path is the returned string.
+ */
+public class NameFormatter {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_RETAINED_CAPACITY = 1024;
+
+    private static final ThreadLocal<StringBuilder> FIRST_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+    private static final ThreadLocal<StringBuilder> SECOND_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    /**
+     * Camelize name (parameter, property, method, etc)
+     *
+     * @param word string to be camelize
+     * @param lowercaseFirstLetter lower case for first letter if set to true
+     * @return camelized string
+     */
+    public static String camelize(String word, boolean lowercaseFirstLetter) {
+        final int length = word.length();
+        StringBuilder source = buffer(FIRST_BUFFER);
+        StringBuilder target = buffer(SECOND_BUFFER);
+
+        // slashes and dots separate packages: drop them and upper case the first char of every part
+        boolean partStart = true;
+        for (int index = 0; index < length; index++) {
+            final char current = word.charAt(index);
+            if (current == '/' || current == '.') {
+                partStart = true;
+                continue;
+            }
+            target.append(partStart ? Character.toUpperCase(current) : current);
+            partStart = false;
+        }
+
+        // upper case the first word character (the class name), the rest of the word goes through
+        // replacement-string processing, which drops escaping backslashes
+        final int firstWordChar = indexOfWordChar(target);
+        if (firstWordChar >= 0) {
+            source.append(target, 0, firstWordChar);
+            appendUpperCase(source, target.charAt(firstWordChar));
+            for (int index = firstWordChar + 1; index < target.length(); index++) {
+                final char current = target.charAt(index);
+                if (current == '\\' && index + 1 < target.length()) {
+                    index++;
+                    source.append(target.charAt(index));
+                } else {
+                    source.append(current);
+                }
+            }
+            final StringBuilder swap = source;
+            source = target;
+            target = swap;
+        }
+        source.setLength(0);
+
+        // remove all underscores (underscore_case to camelCase)
+        for (int index = 0; index < target.length(); ) {
+            final char current = target.charAt(index);
+            if (current != '_' || !isFollowedByAnyChar(target, index)) {
+                source.append(current);
+                index++;
+                continue;
+            }
+            final int next = Character.codePointAt(target, index + 1);
+            if (isUpperCase(next)) {
+                // the regex version removed the first underscore of the word in this case, which also
+                // takes out the underscores that precede a line terminator
+                removeUnderscores(source);
+                index++;
+                continue;
+            }
+            appendUpperCase(source, next);
+            index += 1 + Character.charCount(next);
+        }
+        StringBuilder swap = source;
+        source = target;
+        target = swap;
+        source.setLength(0);
+
+        // remove all hyphens (hyphen-case to camelCase)
+        for (int index = 0; index < target.length(); ) {
+            final char current = target.charAt(index);
+            if (current != '-' || !isFollowedByAnyChar(target, index)) {
+                source.append(current);
+                index++;
+                continue;
+            }
+            final int next = Character.codePointAt(target, index + 1);
+            if (next == '-') {
+                index++;
+                continue;
+            }
+            appendUpperCase(source, next);
+            index += 1 + Character.charCount(next);
+        }
+
+        if (lowercaseFirstLetter && source.length() > 0) {
+            final char first = source.charAt(0);
+            if (first < 0x80 && !isTurkic()) {
+                source.setCharAt(0, Character.toLowerCase(first));
+            } else {
+                source.replace(0, 1, String.valueOf(first).toLowerCase());
+            }
+        }
+        return source.toString();
+    }
+
+    /**
+     * Underscore the given word, e.g. "MyName" to "my_name".
+     *
+     * @param word The word
+     * @return The underscored version of the word
+     */
+    public static String underscore(String word) {
+        return underscore(word, '_');
+    }
+
+    /**
+     * Dashize the given word, e.g. "MyName" to "my-name".
+     *
+     * @param word The word
+     * @return The dashized version of the word
+     */
+    public static String dashize(String word) {
+        return underscore(word, '-');
+    }
+
+    private static String underscore(String word, char separator) {
+        final int length = word.length();
+        final StringBuilder builder = buffer(FIRST_BUFFER);
+        boolean ascii = true;
+        for (int index = 0; index < length; index++) {
+            final char current = word.charAt(index);
+            if (current == '.') {
+                // package separator
+                builder.append('/');
+            } else if (current == '$') {
+                // inner classes
+                builder.append(separator).append(separator);
+            } else if (current == '-' || current == ' ' || current == '_') {
+                builder.append(separator);
+            } else {
+                if (isAsciiUpperCase(current) && index > 0) {
+                    final char previous = word.charAt(index - 1);
+                    if (isAsciiLowerCase(previous) || isAsciiDigit(previous)) {
+                        // "myName" to "my_name"
+                        builder.append(separator);
+                    } else if (isAsciiUpperCase(previous) && index + 1 < length && isAsciiLowerCase(word.charAt(index + 1))) {
+                        // "HTTPServer" to "http_server"
+                        builder.append(separator);
+                    }
+                }
+                ascii &= current < 0x80;
+                builder.append(current);
+            }
+        }
+        if (!ascii || isTurkic()) {
+            return builder.toString().toLowerCase();
+        }
+        for (int index = 0; index < builder.length(); index++) {
+            builder.setCharAt(index, Character.toLowerCase(builder.charAt(index)));
+        }
+        return builder.toString();
+    }
+
+    private static StringBuilder buffer(ThreadLocal<StringBuilder> threadLocal) {
+        StringBuilder builder = threadLocal.get();
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builder = new StringBuilder(INITIAL_CAPACITY);
+            threadLocal.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+    private static int indexOfWordChar(CharSequence sequence) {
+        for (int index = 0; index < sequence.length(); index++) {
+            final char current = sequence.charAt(index);
+            if (isAsciiLowerCase(current) || isAsciiUpperCase(current) || isAsciiDigit(current) || current == '_') {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether the char at the given index is followed by one that matches a regex "." (anything but a line terminator).
+     */
+    private static boolean isFollowedByAnyChar(CharSequence sequence, int index) {
+        if (index + 1 >= sequence.length()) {
+            return false;
+        }
+        final char next = sequence.charAt(index + 1);
+        return next != '\n' && next != '\r' && next != '\u0085' && next != '\u2028' && next != '\u2029';
+    }
+
+    private static void removeUnderscores(StringBuilder builder) {
+        int target = 0;
+        for (int index = 0; index < builder.length(); index++) {
+            final char current = builder.charAt(index);
+            if (current != '_') {
+                builder.setCharAt(target++, current);
+            }
+        }
+        builder.setLength(target);
+    }
+
+    private static boolean isUpperCase(int codePoint) {
+        if (codePoint < 0x80) {
+            return !isAsciiLowerCase((char) codePoint);
+        }
+        final String original = new String(Character.toChars(codePoint));
+        return original.equals(original.toUpperCase());
+    }
+
+    private static void appendUpperCase(StringBuilder builder, int codePoint) {
+        if (codePoint < 0x80 && (codePoint != 'i' || !isTurkic())) {
+            builder.append(Character.toUpperCase((char) codePoint));
+            return;
+        }
+        builder.append(new String(Character.toChars(codePoint)).toUpperCase());
+    }
+
+    /**
+     * String.toUpperCase and toLowerCase use the default locale, which only changes ASCII results for the dotted and
+     * dotless i of Turkish and Azerbaijani.
+     */
+    private static boolean isTurkic() {
+        final String language = Locale.getDefault().getLanguage();
+        return "tr".equals(language) || "az".equals(language);
+    }
+
+    private static boolean isAsciiLowerCase(char value) {
+        return value >= 'a' && value <= 'z';
+    }
+
+    private static boolean isAsciiUpperCase(char value) {
+        return value >= 'A' && value <= 'Z';
+    }
+
+    private static boolean isAsciiDigit(char value) {
+        return value >= '0' && value <= '9';
+    }
+}
@@ -0,0 +1,187 @@
+package io.swagger.codegen.v3.generators.util;
+
+/**
+ * Single pass, table driven implementation of the name sanitizing rules shared by the generators:
+ *
+ * <ul>
+ *     <li>input[] =&gt; input</li>
+ *     <li>input[a][b] =&gt; input_a_b</li>
+ *     <li>input(a)(b) =&gt; input_a_b</li>
+ *     <li>input.name, input-name and input name =&gt; input_name</li>
+ *     <li>$php_variable =&gt; php_variable (names only, variable names keep every other character)</li>
+ * </ul>
+ *
+ * Meant to be used by the toVarName/toModelName overrides instead of chains of String.replaceAll calls.
+ */
+public class NameSanitizer {
+
+    private static final byte KEEP = 0;
+    private static final byte UNDERSCORE = 1;
+    private static final byte DROP = 2;
+    private static final byte OPEN_BRACKET = 3;
+    private static final byte OTHER = 4;
+
+    private static final byte[] ASCII_ACTIONS = new byte[128];
+
+    static {
+        for (int index = 0; index < ASCII_ACTIONS.length; index++) {
+            ASCII_ACTIONS[index] = OTHER;
+        }
+        for (char current = 'a'; current <= 'z'; current++) {
+            ASCII_ACTIONS[current] = KEEP;
+            ASCII_ACTIONS[Character.toUpperCase(current)] = KEEP;
+        }
+        for (char current = '0'; current <= '9'; current++) {
+            ASCII_ACTIONS[current] = KEEP;
+        }
+        ASCII_ACTIONS['_'] = KEEP;
+        ASCII_ACTIONS['['] = OPEN_BRACKET;
+        ASCII_ACTIONS[']'] = DROP;
+        ASCII_ACTIONS['('] = UNDERSCORE;
+        ASCII_ACTIONS[')'] = DROP;
+        ASCII_ACTIONS['.'] = UNDERSCORE;
+        ASCII_ACTIONS['-'] = UNDERSCORE;
+        ASCII_ACTIONS[' '] = UNDERSCORE;
+    }
+
+    /**
+     * Sanitize name (parameter, property, method, etc), keeping only word characters.
+     *
+     * @param name string to be sanitized, not null
+     * @param allowUnicodeIdentifiers keep unicode word characters (letters, marks, digits, connector punctuation) instead of ASCII ones only
+     * @return sanitized string
+     */
+    public static String sanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        return sanitize(name, true, allowUnicodeIdentifiers);
+    }
+
+    /**
+     * Sanitize variable name: same as {@link #sanitizeName(String, boolean)} but characters other than brackets,
+     * parentheses, dots, dashes and spaces are kept as they are (e.g. '$' in Java identifiers).
+     *
+     * @param name string to be sanitized, not null
+     * @return sanitized string
+     */
+    public static String sanitizeVarName(String name) {
+        return sanitize(name, false, false);
+    }
+
+    /**
+     * Equivalent of <code>name.matches("^[A-Z_]*$")</code>.
+     *
+     * @param name name to check
+     * @return true if the name only contains upper case ASCII letters and underscores
+     */
+    public static boolean isUpperCaseName(String name) {
+        for (int index = 0; index < name.length(); index++) {
+            final char current = name.charAt(index);
+            if ((current < 'A' || current > 'Z') && current != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Equivalent of <code>name.matches("^\\d.*")</code>.
+     *
+     * @param name name to check
+     * @return true if the name starts with an ASCII digit (and, like the regex, is a single line)
+     */
+    public static boolean startsWithDigit(String name) {
+        if (name.isEmpty() || name.charAt(0) < '0' || name.charAt(0) > '9') {
+            return false;
+        }
+        for (int index = 1; index < name.length(); index++) {
+            final char current = name.charAt(index);
+            if (current == '\n' || current == '\r' || current == '\u0085' || current == '\u2028' || current == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String sanitize(String name, boolean wordCharsOnly, boolean allowUnicodeIdentifiers) {
+        final int length = name.length();
+        if (isSanitized(name, wordCharsOnly)) {
+            return name;
+        }
+        final StringBuilder builder = new StringBuilder(length);
+        for (int index = 0; index < length; index++) {
+            final char current = name.charAt(index);
+            if (current >= 0x80) {
+                if (!wordCharsOnly) {
+                    builder.append(current);
+                } else if (allowUnicodeIdentifiers) {
+                    final int codePoint = Character.codePointAt(name, index);
+                    if (isUnicodeWordChar(codePoint)) {
+                        builder.appendCodePoint(codePoint);
+                    }
+                    index += Character.charCount(codePoint) - 1;
+                }
+                continue;
+            }
+            switch (ASCII_ACTIONS[current]) {
+                case KEEP:
+                    builder.append(current);
+                    break;
+                case UNDERSCORE:
+                    builder.append('_');
+                    break;
+                case OPEN_BRACKET:
+                    if (index + 1 < length && name.charAt(index + 1) == ']') {
+                        index++;
+                    } else {
+                        builder.append('_');
+                    }
+                    break;
+                case OTHER:
+                    if (!wordCharsOnly) {
+                        builder.append(current);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Most names are already clean, in that case the original string is returned without copying it.
+     */
+    private static boolean isSanitized(String name, boolean wordCharsOnly) {
+        for (int index = 0; index < name.length(); index++) {
+            final char current = name.charAt(index);
+            if (current >= 0x80) {
+                if (wordCharsOnly) {
+                    return false;
+                }
+                continue;
+            }
+            final byte action = ASCII_ACTIONS[current];
+            if (action != KEEP && (wordCharsOnly || action != OTHER)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The unicode definition of a regex "\w" (see {@link java.util.regex.Pattern#UNICODE_CHARACTER_CLASS}).
+     */
+    private static boolean isUnicodeWordChar(int codePoint) {
+        if (Character.isAlphabetic(codePoint) || Character.isDigit(codePoint)) {
+            return true;
+        }
+        switch (Character.getType(codePoint)) {
+            case Character.NON_SPACING_MARK:
+            case Character.ENCLOSING_MARK:
+            case Character.COMBINING_SPACING_MARK:
+            case Character.CONNECTOR_PUNCTUATION:
+                return true;
+            default:
+                return codePoint == 0x200C || codePoint == 0x200D;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenOperation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the operation ids of one tag group, used to find unique operation ids without scanning the whole group
+ * for every added operation.
+ *
+ * The names are the same as the ones of the original scan: walking the group in order, every operation whose id
+ * equals the current candidate moves the candidate to the next suffix (id, id_0, id_1, ...). That is, candidate k is
+ * taken if it's used after the position where candidate k - 1 was found. Since operations are only appended, the
+ * chain of every id is only ever extended, which makes adding n operations O(n log n) instead of O(n^2).
+ */
+public class OperationIdIndex {
+
+    private final List<CodegenOperation> operations;
+    private final Map<String, List<Integer>> positions = new HashMap<>();
+    private final Map<String, Chain> chains = new HashMap<>();
+    private int size;
+    private CodegenOperation last;
+
+    public OperationIdIndex(List<CodegenOperation> operations) {
+        this.operations = operations;
+        for (CodegenOperation operation : operations) {
+            add(operation);
+        }
+    }
+
+    /**
+     * @param operations operation group about to be extended
+     * @return true if the index covers exactly the given group, which has only been appended to through {@link #add}
+     */
+    public boolean isIndexOf(List<CodegenOperation> operations) {
+        if (this.operations != operations || operations.size() != size) {
+            return false;
+        }
+        return size == 0 || operations.get(size - 1) == last;
+    }
+
+    /**
+     * @param operationId operation id of the operation to add
+     * @return a unique operation id for it, or null if the group has been changed behind the back of the index
+     */
+    public String uniqueName(String operationId) {
+        Chain chain = chains.get(operationId);
+        if (chain == null) {
+            chain = new Chain();
+            chains.put(operationId, chain);
+        }
+        while (true) {
+            final String candidate = chain.length == 0 ? operationId : operationId + "_" + (chain.length - 1);
+            final int position = firstPositionAfter(candidate, chain.position);
+            if (position < 0) {
+                return candidate;
+            }
+            if (!candidate.equals(operations.get(position).operationId)) {
+                return null;
+            }
+            chain.position = position;
+            chain.length++;
+        }
+    }
+
+    /**
+     * Index an operation which has been appended to the group.
+     *
+     * @param operation the operation, with its final operation id
+     */
+    public void add(CodegenOperation operation) {
+        if (operation.operationId != null) {
+            List<Integer> operationPositions = positions.get(operation.operationId);
+            if (operationPositions == null) {
+                operationPositions = new ArrayList<>();
+                positions.put(operation.operationId, operationPositions);
+            }
+            operationPositions.add(size);
+        }
+        size++;
+        last = operation;
+    }
+
+    private int firstPositionAfter(String operationId, int after) {
+        final List<Integer> operationPositions = positions.get(operationId);
+        if (operationPositions == null) {
+            return -1;
+        }
+        int index = Collections.binarySearch(operationPositions, after + 1);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index < operationPositions.size() ? operationPositions.get(index) : -1;
+    }
+
+    private static class Chain {
+
+        private int length;
+        private int position = -1;
+    }
+}
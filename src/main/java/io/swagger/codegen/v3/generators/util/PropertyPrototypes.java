@@ -0,0 +1,201 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenProperty;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoization of the properties converted by a generator (fromProperty) per property name and schema structure, so
+ * the properties repeated across the models of a spec (ids, audit fields, ...) are converted once and copied for
+ * every other occurrence.
+ *
+ * Prototypes are keyed by the property name and the deep hash code of the schema, and hold the first schema converted
+ * with that key: a schema matches when it's equal to that one (see Schema.equals) with the same classes of nested
+ * schemas (see SchemaSignature#sameClasses), which is all the conversion depends on besides the generator options. So
+ * nothing is serialized on a hit, schemas must not be changed during a run, and the prototypes belong to one generator
+ * instance and one run and have to be cleared whenever either of them changes. Every lookup returns a new copy, callers may change it like a freshly converted property;
+ * copies share the strings of the prototype but none of its collections. Properties of custom classes (see
+ * CodegenModelFactory) are never memoized.
+ *
+ * Lookups are thread safe; the conversion runs outside of the lock.
+ */
+public class PropertyPrototypes {
+
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final Map<Key, CodegenProperty> prototypes = new LinkedHashMap<Key, CodegenProperty>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, CodegenProperty> eldest) {
+            return size() > maxSize;
+        }
+    };
+    private volatile int maxSize;
+    private volatile long hits;
+    private volatile long misses;
+
+    public PropertyPrototypes() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public PropertyPrototypes(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return a copy of the memoized conversion of the given property, converting it on a miss.
+     *
+     * @param name name of the property
+     * @param schema schema of the property
+     * @param conversion the actual conversion
+     * @return converted property, null if the conversion returns null
+     */
+    public CodegenProperty get(String name, Schema schema, Supplier<CodegenProperty> conversion) {
+        if (maxSize <= 0 || name == null || schema == null) {
+            return conversion.get();
+        }
+        final Key cacheKey = new Key(name, schema);
+        final CodegenProperty prototype = lookup(cacheKey);
+        if (prototype != null) {
+            return copy(prototype);
+        }
+        final CodegenProperty property = conversion.get();
+        if (property != null && property.getClass() == CodegenProperty.class) {
+            store(cacheKey, copy(property));
+        }
+        return property;
+    }
+
+    /**
+     * Drop all prototypes, counters are kept.
+     */
+    public synchronized void clear() {
+        prototypes.clear();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSize maximum number of prototypes, 0 disables the memoization
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        clear();
+    }
+
+    public synchronized int size() {
+        return prototypes.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public String toString() {
+        final long total = hits + misses;
+        return String.format("PropertyPrototypes { properties: %d, hits: %d/%d hit rate: %.1f%% }", size(), hits, total,
+                total == 0 ? 0 : (double) hits * 100 / total);
+    }
+
+    /**
+     * @param property converted property
+     * @return copy of the property, with copies of its collections and items
+     */
+    public static CodegenProperty copy(CodegenProperty property) {
+        final CodegenProperty copy = property.clone();
+        if (property._enum != null) {
+            copy._enum = new ArrayList<>(property._enum);
+        }
+        if (property.allowableValues != null) {
+            copy.allowableValues = copyMap(property.allowableValues);
+        }
+        if (property.items != null) {
+            copy.items = copy(property.items);
+        }
+        if (property.vendorExtensions instanceof VendorExtensions) {
+            copy.vendorExtensions = new VendorExtensions(property.vendorExtensions);
+        }
+        return copy;
+    }
+
+    private synchronized CodegenProperty lookup(Key key) {
+        final CodegenProperty prototype = prototypes.get(key);
+        if (prototype == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return prototype;
+    }
+
+    private synchronized void store(Key key, CodegenProperty prototype) {
+        prototypes.put(key, prototype);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(Object value) {
+        if (value instanceof Map) {
+            return copyMap((Map<String, Object>) value);
+        }
+        if (value instanceof List) {
+            final List<Object> copy = new ArrayList<>(((List<Object>) value).size());
+            for (Object item : (List<Object>) value) {
+                copy.add(copyValue(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private static Map<String, Object> copyMap(Map<String, Object> map) {
+        final Map<String, Object> copy = map instanceof LinkedHashMap ? new LinkedHashMap<>() : new HashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            copy.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private static class Key {
+
+        private final String name;
+        private final Schema schema;
+        private final int hash;
+
+        private Key(String name, Schema schema) {
+            this.name = name;
+            this.schema = schema;
+            this.hash = 31 * name.hashCode() + schema.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return hash == other.hash
+                    && name.equals(other.name)
+                    && (schema == other.schema || schema.equals(other.schema) && SchemaSignature.sameClasses(schema, other.schema));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
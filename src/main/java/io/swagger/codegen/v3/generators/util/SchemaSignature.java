@@ -0,0 +1,134 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Structural signature of a schema: its JSON representation and the classes of the schemas nested in it (e.g. a
+ * StringSchema and a plain Schema of type string have the same JSON but aren't converted the same way). Schemas with
+ * the same signature are converted the same way by a generator.
+ */
+public class SchemaSignature {
+
+    private SchemaSignature() {
+    }
+
+    /**
+     * @param schema schema, not null
+     * @return signature of the schema
+     */
+    public static String of(Schema schema) {
+        final String json = Json.pretty(schema);
+        final StringBuilder signature = new StringBuilder(json.length() + 64);
+        appendClasses(schema, signature);
+        return signature.append('\u0000').append(json).toString();
+    }
+
+    /**
+     * Compare what Schema.equals doesn't: the classes of the nested schemas, and the order of properties and extensions.
+     *
+     * @param schema schema
+     * @param other schema equal to the first one
+     * @return true if the schemas and the schemas nested in them have the same classes, with properties and extensions
+     * in the same order
+     */
+    public static boolean sameClasses(Schema schema, Schema other) {
+        if (schema == null || other == null) {
+            return schema == other;
+        }
+        if (schema.getClass() != other.getClass()
+                || !sameOrder(schema.getProperties(), other.getProperties())
+                || !sameOrder(schema.getExtensions(), other.getExtensions())) {
+            return false;
+        }
+        if (schema instanceof ArraySchema && !sameClasses(((ArraySchema) schema).getItems(), ((ArraySchema) other).getItems())) {
+            return false;
+        }
+        if (schema.getAdditionalProperties() instanceof Schema
+                && !sameClasses((Schema) schema.getAdditionalProperties(), (Schema) other.getAdditionalProperties())) {
+            return false;
+        }
+        if (schema.getProperties() != null) {
+            for (Object name : schema.getProperties().keySet()) {
+                if (!sameClasses((Schema) schema.getProperties().get(name), (Schema) other.getProperties().get(name))) {
+                    return false;
+                }
+            }
+        }
+        if (!sameClasses(schema.getNot(), other.getNot())) {
+            return false;
+        }
+        if (schema instanceof ComposedSchema) {
+            final ComposedSchema composed = (ComposedSchema) schema;
+            final ComposedSchema otherComposed = (ComposedSchema) other;
+            return sameClasses(composed.getAllOf(), otherComposed.getAllOf())
+                    && sameClasses(composed.getOneOf(), otherComposed.getOneOf())
+                    && sameClasses(composed.getAnyOf(), otherComposed.getAnyOf());
+        }
+        return true;
+    }
+
+    private static boolean sameClasses(List<Schema> schemas, List<Schema> others) {
+        if (schemas == null || others == null) {
+            return schemas == others;
+        }
+        for (int i = 0; i < schemas.size(); i++) {
+            if (!sameClasses(schemas.get(i), others.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameOrder(Map<?, ?> map, Map<?, ?> other) {
+        if (map == null || other == null) {
+            return map == other;
+        }
+        return Arrays.equals(map.keySet().toArray(), other.keySet().toArray());
+    }
+
+    private static void appendClasses(Schema schema, StringBuilder signature) {
+        if (schema == null) {
+            signature.append("null");
+            return;
+        }
+        signature.append(schema.getClass().getName()).append('(');
+        if (schema instanceof ArraySchema && ((ArraySchema) schema).getItems() != null) {
+            appendClasses(((ArraySchema) schema).getItems(), signature);
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            appendClasses((Schema) schema.getAdditionalProperties(), signature);
+        }
+        if (schema.getProperties() != null) {
+            for (Object property : schema.getProperties().values()) {
+                appendClasses((Schema) property, signature);
+            }
+        }
+        if (schema.getNot() != null) {
+            appendClasses(schema.getNot(), signature);
+        }
+        if (schema instanceof ComposedSchema) {
+            final ComposedSchema composed = (ComposedSchema) schema;
+            appendClasses(composed.getAllOf(), signature);
+            appendClasses(composed.getOneOf(), signature);
+            appendClasses(composed.getAnyOf(), signature);
+        }
+        signature.append(')');
+    }
+
+    private static void appendClasses(List<Schema> schemas, StringBuilder signature) {
+        signature.append('[');
+        if (schemas != null) {
+            for (Schema schema : schemas) {
+                appendClasses(schema, signature);
+            }
+        }
+        signature.append(']');
+    }
+}
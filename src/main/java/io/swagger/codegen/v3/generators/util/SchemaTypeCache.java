@@ -0,0 +1,126 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Memoization of the type resolutions of a generator (getSchemaType, getTypeDeclaration, ...) per schema object of
+ * the spec being generated. Schemas are keyed by identity, so neither their (deep) hashCode nor equals is ever
+ * computed, and nested array and map schemas are resolved once per level instead of once per enclosing level.
+ *
+ * Results depend on the spec and the generator options, so the cache belongs to one generator instance and one run
+ * and has to be cleared whenever either of them changes. Lookups are thread safe without a lock shared by the threads
+ * converting models in parallel; two threads may resolve the same schema, which is harmless as resolutions don't have
+ * side effects.
+ */
+public class SchemaTypeCache {
+
+    /**
+     * The memoized resolutions, each one stored separately per schema.
+     */
+    public enum Resolution {
+        SCHEMA_TYPE,
+        TYPE_DECLARATION,
+        INSTANTIATION_TYPE,
+        DEFAULT_VALUE
+    }
+
+    private static final Resolution[] RESOLUTIONS = Resolution.values();
+    private static final Object UNRESOLVED = null;
+    private static final Object NULL = new Object();
+
+    private final ConcurrentHashMap<IdentityKey, AtomicReferenceArray<Object>> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean enabled = true;
+
+    /**
+     * Return the memoized resolution of the given schema, resolving it on a miss.
+     *
+     * @param resolution resolution being applied
+     * @param schema schema to resolve, never memoized if null
+     * @param function the actual resolution
+     * @return resolved type (or default value), possibly null
+     */
+    public String get(Resolution resolution, Schema schema, Function<Schema, String> function) {
+        if (schema == null || !enabled) {
+            return function.apply(schema);
+        }
+        final AtomicReferenceArray<Object> resolved = entries.computeIfAbsent(new IdentityKey(schema),
+                key -> new AtomicReferenceArray<>(RESOLUTIONS.length));
+        final Object cached = resolved.get(resolution.ordinal());
+        if (cached != UNRESOLVED) {
+            hits.increment();
+            return cached == NULL ? null : (String) cached;
+        }
+        misses.increment();
+        final String result = function.apply(schema);
+        resolved.set(resolution.ordinal(), result == null ? NULL : result);
+        return result;
+    }
+
+    /**
+     * Drop all memoized resolutions, counters are kept.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled false to resolve every schema every time, e.g. while the schemas of the spec are modified
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public String toString() {
+        final long hits = getHits();
+        final long total = hits + getMisses();
+        return String.format("SchemaTypeCache { schemas: %d, hits: %d/%d hit rate: %.1f%% }", size(), hits, total,
+                total == 0 ? 0 : (double) hits * 100 / total);
+    }
+
+    /**
+     * Schema compared by identity, neither its (deep) hashCode nor equals is computed.
+     */
+    private static final class IdentityKey {
+
+        private final Schema schema;
+
+        private IdentityKey(Schema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(schema);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof IdentityKey && ((IdentityKey) other).schema == schema;
+        }
+    }
+}
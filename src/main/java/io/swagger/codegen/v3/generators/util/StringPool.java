@@ -0,0 +1,104 @@
+package io.swagger.codegen.v3.generators.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of the strings held by the properties, parameters and responses of a generation run (data types, getters,
+ * setters, JSON schemas, ...), so equal values share one instance instead of being kept once per object of the run.
+ *
+ * The pool lives as long as the run, it's cleared at the start of the next one. Strings are compared by value, the
+ * first instance seen is kept. Duplicates replaced by a pooled instance and the heap they used are counted; the saved
+ * bytes are an estimate for a 64 bits JVM with compressed references and compact strings, counting strings which may
+ * have been referenced elsewhere too.
+ */
+public class StringPool {
+
+    // String object with compressed references, and header of its byte array
+    private static final int STRING_BYTES = 24;
+    private static final int ARRAY_BYTES = 16;
+
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+    private volatile boolean enabled = true;
+
+    /**
+     * @param value string to pool
+     * @return pooled instance equal to the string, the string itself if it's the first one, is null or the pool is
+     * disabled
+     */
+    public String get(String value) {
+        if (value == null || !enabled) {
+            return value;
+        }
+        final String pooled = strings.putIfAbsent(value, value);
+        if (pooled == null) {
+            return value;
+        }
+        if (pooled != value) {
+            duplicates.increment();
+            savedBytes.add(sizeOf(value));
+        }
+        return pooled;
+    }
+
+    /**
+     * Drop the pooled strings and reset the counters.
+     */
+    public void clear() {
+        strings.clear();
+        duplicates.reset();
+        savedBytes.reset();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param enabled false to keep every string as it is, e.g. to compare the heap used with and without the pool
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            strings.clear();
+        }
+    }
+
+    /**
+     * @return number of distinct pooled strings
+     */
+    public int size() {
+        return strings.size();
+    }
+
+    /**
+     * @return number of strings replaced by an equal pooled instance
+     */
+    public long getDuplicates() {
+        return duplicates.sum();
+    }
+
+    /**
+     * @return estimated heap used by the replaced strings
+     */
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    private static long sizeOf(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        return STRING_BYTES + align(ARRAY_BYTES + (long) value.length() * bytesPerChar);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
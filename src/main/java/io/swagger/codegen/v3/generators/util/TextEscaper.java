@@ -0,0 +1,148 @@
+package io.swagger.codegen.v3.generators.util;
+
+/**
+ * Single pass implementation of the text escaping of generators (see DefaultCodegenConfig.escapeText), giving the
+ * same output as the former escapeJava/unescapeJava round trip:
+ * <ul>
+ * <li>tabs and line breaks are replaced by spaces,</li>
+ * <li>backslashes and double quotes are escaped with a backslash, but for a backslash right in front of a slash,
+ * which the round trip used to drop (one per run of backslashes),</li>
+ * <li>everything else is kept, multi-byte characters included.</li>
+ * </ul>
+ * The escaping of unsafe characters of the generator (comment delimiters in most languages) is applied on the escaped
+ * text in the same pass.
+ */
+public class TextEscaper {
+
+    /**
+     * Escaping of unsafe characters, i.e. of text which would end a comment of the generated code.
+     */
+    public enum UnsafeCharacters {
+        /**
+         * Nothing is escaped.
+         */
+        NONE,
+        /**
+         * Comment delimiters are broken up: "*&#47;" becomes "*_/" and "/*" becomes "/_*".
+         */
+        COMMENT_DELIMITERS,
+        /**
+         * Comment ends ("*&#47;") are removed.
+         */
+        COMMENT_END
+    }
+
+    private TextEscaper() {
+    }
+
+    /**
+     * @param input text, e.g. a description of the spec
+     * @param unsafeCharacters escaping of unsafe characters applied on the escaped text
+     * @return escaped text, null if the input is null
+     */
+    public static String escapeText(String input, UnsafeCharacters unsafeCharacters) {
+        if (input == null) {
+            return null;
+        }
+        final Output output = new Output(input.length(), unsafeCharacters);
+        final int length = input.length();
+        for (int i = 0; i < length; i++) {
+            final char c = input.charAt(i);
+            switch (c) {
+                case '\\':
+                    int end = i + 1;
+                    while (end < length && input.charAt(end) == '\\') {
+                        end++;
+                    }
+                    int backslashes = end - i;
+                    if (end < length && input.charAt(end) == '/') {
+                        backslashes--;
+                    }
+                    for (int j = 0; j < backslashes; j++) {
+                        output.append('\\');
+                        output.append('\\');
+                    }
+                    i = end - 1;
+                    break;
+                case '"':
+                    output.append('\\');
+                    output.append('"');
+                    break;
+                case '\t':
+                case '\n':
+                case '\r':
+                    output.append(' ');
+                    break;
+                default:
+                    output.append(c);
+            }
+        }
+        return output.toString();
+    }
+
+    /**
+     * @param input text
+     * @param unsafeCharacters escaping of unsafe characters
+     * @return text with the unsafe characters escaped, null if the input is null
+     */
+    public static String escapeUnsafeCharacters(String input, UnsafeCharacters unsafeCharacters) {
+        if (input == null || unsafeCharacters == UnsafeCharacters.NONE) {
+            return input;
+        }
+        final Output output = new Output(input.length(), unsafeCharacters);
+        for (int i = 0; i < input.length(); i++) {
+            output.append(input.charAt(i));
+        }
+        return output.toString();
+    }
+
+    private static class Output {
+
+        private final StringBuilder builder;
+        private final UnsafeCharacters unsafeCharacters;
+        private char last;
+        private boolean pendingStar;
+
+        private Output(int length, UnsafeCharacters unsafeCharacters) {
+            this.builder = new StringBuilder(length + 16);
+            this.unsafeCharacters = unsafeCharacters;
+        }
+
+        private void append(char c) {
+            switch (unsafeCharacters) {
+                case COMMENT_DELIMITERS:
+                    if ((c == '/' && last == '*') || (c == '*' && last == '/')) {
+                        builder.append('_');
+                    }
+                    builder.append(c);
+                    last = c;
+                    break;
+                case COMMENT_END:
+                    if (pendingStar) {
+                        pendingStar = false;
+                        if (c == '/') {
+                            return;
+                        }
+                        builder.append('*');
+                    }
+                    if (c == '*') {
+                        pendingStar = true;
+                    } else {
+                        builder.append(c);
+                    }
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+
+        @Override
+        public String toString() {
+            if (pendingStar) {
+                pendingStar = false;
+                builder.append('*');
+            }
+            return builder.toString();
+        }
+    }
+}
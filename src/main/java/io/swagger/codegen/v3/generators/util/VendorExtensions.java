@@ -0,0 +1,478 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenConstants;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Vendor extensions map keeping the boolean value of the well known flags (the CodegenConstants.*_EXT_NAME
+ * extensions, e.g. x-is-enum) in a bitset next to the entries, so templates and generators can test them without
+ * a lookup, a string concatenation or parsing.
+ *
+ * It's a regular HashMap otherwise: entries, iteration order, equality and serialization are unchanged, and any
+ * other (user defined) extension is looked up in the map as before. Every way of changing the map, including its
+ * views, keeps the flags in sync.
+ */
+public class VendorExtensions extends HashMap<String, Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] NAMES = flagNames();
+    private static final Map<String, Flag> FLAGS = flags();
+    private static final int WORDS = (NAMES.length + 63) >>> 6;
+
+    private long[] trueFlags = new long[WORDS];
+    // flags with values which are neither booleans nor strings, resolved from the map like before
+    private long[] objectFlags = new long[WORDS];
+    private transient Set<Map.Entry<String, Object>> entrySet;
+    private transient Set<String> keySet;
+    private transient Collection<Object> values;
+
+    public VendorExtensions() {
+    }
+
+    public VendorExtensions(Map<String, ?> extensions) {
+        super(Math.max((int) (extensions.size() / .75f) + 1, 16));
+        putAll(extensions);
+    }
+
+    /**
+     * @param name name of an extension, e.g. x-is-enum
+     * @return the flag of the extension, with an index if it's a well known one
+     */
+    public static Flag flag(String name) {
+        final Flag flag = FLAGS.get(name);
+        return flag != null ? flag : new Flag(name, -1);
+    }
+
+    /**
+     * @param flag flag to test
+     * @return true if the extension of the flag is set to true (or "true")
+     */
+    public boolean getBooleanValue(Flag flag) {
+        final int index = flag.index;
+        if (index < 0) {
+            return toBoolean(get(flag.name));
+        }
+        final int word = index >>> 6;
+        final long bit = 1L << index;
+        if ((objectFlags[word] & bit) != 0) {
+            return toBoolean(get(flag.name));
+        }
+        return (trueFlags[word] & bit) != 0;
+    }
+
+    /**
+     * @param name name of an extension
+     * @return true if the extension is set to true (or "true")
+     */
+    public boolean getBooleanValue(String name) {
+        return getBooleanValue(flag(name));
+    }
+
+    public static boolean toBoolean(Object value) {
+        if (value == null) {
+            return false;
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return Boolean.parseBoolean(value.toString());
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final Object previous = super.put(key, value);
+        update(key, value);
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> extensions) {
+        for (Map.Entry<? extends String, ?> entry : extensions.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        final Object previous = super.remove(key);
+        update(key, null);
+        return previous;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (super.remove(key, value)) {
+            update(key, null);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        Arrays.fill(trueFlags, 0);
+        Arrays.fill(objectFlags, 0);
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        final Object previous = super.putIfAbsent(key, value);
+        sync(key);
+        return previous;
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        final Object previous = super.replace(key, value);
+        sync(key);
+        return previous;
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        final boolean replaced = super.replace(key, oldValue, newValue);
+        sync(key);
+        return replaced;
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        try {
+            return super.computeIfAbsent(key, mappingFunction);
+        } finally {
+            sync(key);
+        }
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        try {
+            return super.computeIfPresent(key, remappingFunction);
+        } finally {
+            sync(key);
+        }
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        try {
+            return super.compute(key, remappingFunction);
+        } finally {
+            sync(key);
+        }
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        try {
+            return super.merge(key, value, remappingFunction);
+        } finally {
+            sync(key);
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        try {
+            super.replaceAll(function);
+        } finally {
+            Arrays.fill(trueFlags, 0);
+            Arrays.fill(objectFlags, 0);
+            for (Map.Entry<String, Object> entry : super.entrySet()) {
+                update(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    @Override
+    public Collection<Object> values() {
+        if (values == null) {
+            values = new Values();
+        }
+        return values;
+    }
+
+    @Override
+    public Object clone() {
+        final VendorExtensions clone = (VendorExtensions) super.clone();
+        clone.trueFlags = trueFlags.clone();
+        clone.objectFlags = objectFlags.clone();
+        clone.entrySet = null;
+        clone.keySet = null;
+        clone.values = null;
+        return clone;
+    }
+
+    private void sync(Object key) {
+        update(key, get(key));
+    }
+
+    private void update(Object key, Object value) {
+        final Flag flag = FLAGS.get(key);
+        if (flag == null) {
+            return;
+        }
+        final int word = flag.index >>> 6;
+        final long bit = 1L << flag.index;
+        if (value == null || value instanceof Boolean || value instanceof String) {
+            objectFlags[word] &= ~bit;
+            if (toBoolean(value)) {
+                trueFlags[word] |= bit;
+            } else {
+                trueFlags[word] &= ~bit;
+            }
+        } else {
+            // the string value of other objects may change, resolve them on every lookup
+            objectFlags[word] |= bit;
+            trueFlags[word] &= ~bit;
+        }
+    }
+
+    private static String[] flagNames() {
+        final List<String> names = new ArrayList<>();
+        for (Field field : CodegenConstants.class.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class || !field.getName().endsWith("_EXT_NAME")) {
+                continue;
+            }
+            try {
+                final String name = (String) field.get(null);
+                if (name != null && !names.contains(name)) {
+                    names.add(name);
+                }
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return names.toArray(new String[0]);
+    }
+
+    private static Map<String, Flag> flags() {
+        final Map<String, Flag> flags = new HashMap<>();
+        for (int index = 0; index < NAMES.length; index++) {
+            flags.put(NAMES[index], new Flag(NAMES[index], index));
+        }
+        return flags;
+    }
+
+    /**
+     * Name of a boolean extension together with its index in the bitset, -1 for extensions which aren't
+     * well known flags.
+     */
+    public static final class Flag {
+
+        private final String name;
+        private final int index;
+
+        private Flag(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        private final Set<Map.Entry<String, Object>> entries = VendorExtensions.super.entrySet();
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator<Map.Entry<String, Object>>() {
+                @Override
+                public Map.Entry<String, Object> next() {
+                    return new FlagEntry(nextEntry());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return VendorExtensions.this.size();
+        }
+
+        @Override
+        public boolean contains(Object entry) {
+            return entries.contains(entry);
+        }
+
+        @Override
+        public boolean remove(Object entry) {
+            if (!(entry instanceof Map.Entry) || !entries.contains(entry)) {
+                return false;
+            }
+            VendorExtensions.this.remove(((Map.Entry<?, ?>) entry).getKey());
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            VendorExtensions.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return new EntryIterator<String>() {
+                @Override
+                public String next() {
+                    return nextEntry().getKey();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return VendorExtensions.this.size();
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return containsKey(key);
+        }
+
+        @Override
+        public boolean remove(Object key) {
+            if (!containsKey(key)) {
+                return false;
+            }
+            VendorExtensions.this.remove(key);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            VendorExtensions.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<Object> {
+
+        @Override
+        public Iterator<Object> iterator() {
+            return new EntryIterator<Object>() {
+                @Override
+                public Object next() {
+                    return nextEntry().getValue();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return VendorExtensions.this.size();
+        }
+
+        @Override
+        public boolean contains(Object value) {
+            return containsValue(value);
+        }
+
+        @Override
+        public void clear() {
+            VendorExtensions.this.clear();
+        }
+    }
+
+    private abstract class EntryIterator<T> implements Iterator<T> {
+
+        private final Iterator<Map.Entry<String, Object>> iterator = VendorExtensions.super.entrySet().iterator();
+        private Map.Entry<String, Object> current;
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        Map.Entry<String, Object> nextEntry() {
+            current = iterator.next();
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            update(current.getKey(), null);
+        }
+    }
+
+    private final class FlagEntry implements Map.Entry<String, Object> {
+
+        private final Map.Entry<String, Object> entry;
+
+        private FlagEntry(Map.Entry<String, Object> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public Object getValue() {
+            return entry.getValue();
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            final Object previous = entry.setValue(value);
+            update(entry.getKey(), value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return entry.equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return entry.toString();
+        }
+    }
+}
@@ -2,15 +2,34 @@ package io.swagger.codegen.v3.generators;
 
 import io.swagger.codegen.v3.CodegenArgument;
 import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenProperty;
 import io.swagger.codegen.v3.CodegenType;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.util.NameCache;
+import io.swagger.codegen.v3.utils.ModelUtils;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.IntegerSchema;
 import io.swagger.v3.oas.models.media.NumberSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DefaultCodegenConfigTest {
 
@@ -80,6 +99,286 @@ public class DefaultCodegenConfigTest {
         Assert.assertEquals(codegenProperty.maximum, "1000");
     }
 
+    @Test
+    public void testNameCacheInvalidatedByProcessOpts() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.processOpts();
+        Assert.assertEquals(codegen.fromModel("pet", new ObjectSchema()).classname, "Pet");
+        Assert.assertEquals(codegen.fromModel("pet", new ObjectSchema()).classname, "Pet");
+        Assert.assertEquals(codegen.getNameCache().getHits(NameCache.Transform.MODEL_NAME), 1);
+        Assert.assertEquals(codegen.getNameCache().getMisses(NameCache.Transform.MODEL_NAME), 1);
+
+        codegen.additionalProperties().put(CodegenConstants.MODEL_NAME_PREFIX, "My");
+        codegen.processOpts();
+        Assert.assertEquals(codegen.fromModel("pet", new ObjectSchema()).classname, "Mypet");
+
+        codegen.setModelNameSuffix("Dto");
+        Assert.assertEquals(codegen.fromModel("pet", new ObjectSchema()).classname, "MypetDto");
+    }
+
+    @Test
+    public void testConfigFrozenWhileConverting() throws Exception {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.typeMapping().put("pet", "Animal");
+        codegen.processOpts();
+        Assert.assertFalse(codegen.isConfigFrozen());
+
+        codegen.fromModel("pet", new ObjectSchema());
+        Assert.assertTrue(codegen.isConfigFrozen());
+        Assert.assertEquals(codegen.typeMapping().get("pet"), "Animal");
+        try {
+            codegen.typeMapping().put("dog", "Animal");
+            Assert.fail("type mapping changed while converting");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+
+        codegen.processOpts();
+        Assert.assertFalse(codegen.isConfigFrozen());
+        codegen.typeMapping().put("dog", "Animal");
+        Assert.assertEquals(codegen.typeMapping().get("pet"), "Animal");
+        Assert.assertEquals(codegen.typeMapping().get("dog"), "Animal");
+    }
+
+    @Test
+    public void testLazyModelJson() throws Exception {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.processOpts();
+        final Schema schema = new ObjectSchema().addProperties("name", new NumberSchema());
+
+        final CodegenModel codegenModel = codegen.fromModel("pet", schema);
+        Assert.assertNull(codegenModel.modelJson);
+        Assert.assertEquals(codegenModel.getModelJson(), Json.pretty(schema));
+        Assert.assertEquals(codegenModel.modelJson, Json.pretty(schema));
+
+        codegen.additionalProperties().put(DefaultCodegenConfig.GENERATE_MODEL_JSON, false);
+        codegen.processOpts();
+        Assert.assertNull(codegen.fromModel("pet", schema).getModelJson());
+    }
+
+    @Test
+    public void testTypeAliasesOfEachRun() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.processOpts();
+        final Map<String, Schema> aliases = new HashMap<>();
+        aliases.put("pet", new StringSchema());
+        Assert.assertEquals(codegen.fromModel("pet", aliases.get("pet"), aliases).getVendorExtensions().get(CodegenConstants.IS_ALIAS_EXT_NAME), Boolean.TRUE);
+
+        codegen.processOpts();
+        final Map<String, Schema> models = new HashMap<>();
+        models.put("pet", new ObjectSchema().addProperties("name", new StringSchema()));
+        Assert.assertEquals(codegen.fromModel("pet", models.get("pet"), models).getVendorExtensions().get(CodegenConstants.IS_ALIAS_EXT_NAME), Boolean.FALSE);
+    }
+
+    @Test
+    public void testReset() {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        final Map<String, Object> initialProperties = new HashMap<>(codegen.additionalProperties());
+        codegen.additionalProperties().put(CodegenConstants.MODEL_PACKAGE, "io.swagger.pets");
+        codegen.setOutputDir("pets");
+        codegen.processOpts();
+        final int supportingFiles = codegen.supportingFiles().size();
+        codegen.fromModel("pet", new ObjectSchema());
+        Assert.assertTrue(codegen.isConfigFrozen());
+
+        codegen.reset();
+        Assert.assertEquals(codegen.additionalProperties(), initialProperties);
+        Assert.assertEquals(codegen.getOutputDir(), new JavaClientCodegen().getOutputDir());
+        Assert.assertEquals(codegen.modelPackage(), new JavaClientCodegen().modelPackage());
+        Assert.assertFalse(codegen.isConfigFrozen());
+
+        codegen.processOpts();
+        Assert.assertEquals(codegen.supportingFiles().size(), supportingFiles);
+        Assert.assertEquals(codegen.fromModel("pet", new ObjectSchema()).classname, "Pet");
+    }
+
+    @Test(description = "final arrays are restored, other final state is reset by the generator itself")
+    public void testResetFinalState() {
+        final StatefulCodegenConfig codegen = new StatefulCodegenConfig();
+        codegen.processOpts();
+        codegen.counts[0] = 3;
+        codegen.log.append("pet");
+        codegen.kept.append("pet");
+
+        codegen.reset();
+        Assert.assertEquals(codegen.counts[0], 0);
+        Assert.assertEquals(codegen.log.length(), 0);
+        // not restored by reset, documented
+        Assert.assertEquals(codegen.kept.toString(), "pet");
+    }
+
+    @Test(description = "properties of a run share equal strings, unless the pool is disabled")
+    public void testStringPool() {
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+        codegen.processOpts();
+        codegen.getPropertyPrototypes().setMaxSize(0);
+
+        CodegenProperty first = codegen.fromProperty("name", new ArraySchema().items(new StringSchema()));
+        CodegenProperty second = codegen.fromProperty("name", new ArraySchema().items(new StringSchema()));
+        Assert.assertSame(second.datatype, first.datatype);
+        Assert.assertSame(second.getter, first.getter);
+        Assert.assertSame(second.jsonSchema, first.jsonSchema);
+        Assert.assertTrue(codegen.getStringPool().getDuplicates() > 0);
+
+        codegen.additionalProperties().put(DefaultCodegenConfig.STRING_POOL, "false");
+        codegen.processOpts();
+        first = codegen.fromProperty("name", new ArraySchema().items(new StringSchema()));
+        second = codegen.fromProperty("name", new ArraySchema().items(new StringSchema()));
+        Assert.assertEquals(second.jsonSchema, first.jsonSchema);
+        Assert.assertNotSame(second.jsonSchema, first.jsonSchema);
+        Assert.assertEquals(codegen.getStringPool().getDuplicates(), 0);
+    }
+
+    @Test(description = "repeated properties are converted once and copied")
+    public void testPropertyPrototypes() {
+        final AtomicInteger conversions = new AtomicInteger();
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig() {
+            @Override
+            public String toGetter(String name) {
+                conversions.incrementAndGet();
+                return super.toGetter(name);
+            }
+        };
+        codegen.processOpts();
+
+        final CodegenProperty first = codegen.fromProperty("status", new ArraySchema()
+                .items(new StringSchema()._enum(Arrays.asList("active", "deleted"))));
+        first.items.allowableValues.put("values", Collections.emptyList());
+        first.vendorExtensions.put("x-changed", true);
+        final CodegenProperty second = codegen.fromProperty("status", new ArraySchema()
+                .items(new StringSchema()._enum(Arrays.asList("active", "deleted"))));
+        final CodegenProperty other = codegen.fromProperty("state", new ArraySchema()
+                .items(new StringSchema()._enum(Arrays.asList("active", "deleted"))));
+
+        Assert.assertEquals(conversions.get(), 4);
+        Assert.assertNotSame(second, first);
+        Assert.assertNotSame(second.items, first.items);
+        Assert.assertEquals(second.datatype, first.datatype);
+        // copied, not serialized again
+        Assert.assertSame(second.jsonSchema, first.jsonSchema);
+        Assert.assertEquals(second.items.allowableValues.get("values"), Arrays.asList("active", "deleted"));
+        Assert.assertFalse(second.vendorExtensions.containsKey("x-changed"));
+        Assert.assertEquals(other.baseName, "state");
+        Assert.assertEquals(codegen.getPropertyPrototypes().getHits(), 1);
+
+        // same JSON, but a different class of items
+        final Schema items = new Schema().type("string");
+        items.setEnum(Arrays.asList("active", "deleted"));
+        final CodegenProperty untyped = codegen.fromProperty("status", new ArraySchema().items(items));
+        Assert.assertEquals(codegen.getPropertyPrototypes().getHits(), 1);
+        Assert.assertEquals(untyped.datatype, first.datatype);
+
+        // equal schemas, but properties in another order
+        final CodegenProperty owner = codegen.fromProperty("owner", new ObjectSchema()
+                .addProperties("id", new IntegerSchema()).addProperties("name", new StringSchema()));
+        final CodegenProperty reordered = codegen.fromProperty("owner", new ObjectSchema()
+                .addProperties("name", new StringSchema()).addProperties("id", new IntegerSchema()));
+        Assert.assertEquals(codegen.getPropertyPrototypes().getHits(), 1);
+        Assert.assertNotEquals(reordered.jsonSchema, owner.jsonSchema);
+    }
+
+    @Test(description = "schemas included by several composed models are flattened once")
+    public void testFlattenedProperties() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Schema base = new ObjectSchema() {
+            @Override
+            public Map<String, Schema> getProperties() {
+                reads.incrementAndGet();
+                return super.getProperties();
+            }
+        };
+        base.addProperties("id", new StringSchema()).addProperties("created", new StringSchema());
+        base.setRequired(Collections.singletonList("id"));
+        final Map<String, Schema> allDefinitions = new LinkedHashMap<>();
+        allDefinitions.put("BaseResource", base);
+        for (String name : Arrays.asList("Pet", "Store", "User")) {
+            allDefinitions.put(name, new ComposedSchema()
+                    .addAllOfItem(new Schema().$ref("#/components/schemas/Parent"))
+                    .addAllOfItem(new Schema().$ref("#/components/schemas/BaseResource"))
+                    .addAllOfItem(new ObjectSchema().addProperties("name", new StringSchema()).addProperties("id", new NumberSchema())));
+        }
+        final DefaultCodegenConfig codegen = new P_DefaultCodegenConfig();
+
+        final CodegenModel pet = codegen.fromModel("Pet", allDefinitions.get("Pet"), allDefinitions);
+        final int petReads = reads.get();
+        final CodegenModel store = codegen.fromModel("Store", allDefinitions.get("Store"), allDefinitions);
+        codegen.fromModel("User", allDefinitions.get("User"), allDefinitions);
+
+        Assert.assertEquals(reads.get(), petReads);
+        for (CodegenModel model : Arrays.asList(pet, store)) {
+            Assert.assertEquals(model.vars.size(), 3);
+            Assert.assertEquals(model.vars.get(0).baseName, "id");
+            Assert.assertEquals(model.vars.get(0).datatype, "BigDecimal");
+            Assert.assertTrue(model.vars.get(0).required);
+            Assert.assertEquals(model.vars.get(1).baseName, "created");
+            Assert.assertEquals(model.vars.get(2).baseName, "name");
+        }
+    }
+
+    @Test(description = "models are linked to their parents, interfaces and subtypes like ModelUtils does")
+    public void testLinkModels() {
+        for (int run = 0; run < 50; run++) {
+            final Map<String, CodegenModel> expected = randomModels(new Random(run));
+            final Map<String, CodegenModel> actual = randomModels(new Random(run));
+            ModelUtils.processCodegenModels(expected);
+            new P_DefaultCodegenConfig().linkModels(actual);
+
+            for (String name : expected.keySet()) {
+                final CodegenModel expectedModel = expected.get(name);
+                final CodegenModel actualModel = actual.get(name);
+                Assert.assertEquals(names(actualModel.getChildren()), names(expectedModel.getChildren()), name);
+                Assert.assertEquals(names(actualModel.getInterfaceModels()), names(expectedModel.getInterfaceModels()), name);
+                Assert.assertEquals(actualModel.getParentModel() == null ? null : actualModel.getParentModel().name,
+                        expectedModel.getParentModel() == null ? null : expectedModel.getParentModel().name, name);
+            }
+        }
+    }
+
+    private static Map<String, CodegenModel> randomModels(Random random) {
+        final Map<String, CodegenModel> models = new HashMap<>();
+        final int count = 1 + random.nextInt(40);
+        for (int i = 0; i < count; i++) {
+            final CodegenModel model = new CodegenModel();
+            model.name = "Model" + i;
+            // parents are declared first, so there are no cycles (which ModelUtils doesn't support)
+            if (i > 0 && random.nextInt(4) > 0) {
+                model.parent = "Model" + random.nextInt(i);
+            }
+            if (random.nextInt(4) == 0) {
+                model.discriminator = new Discriminator().propertyName("type");
+            }
+            if (random.nextInt(3) == 0) {
+                model.interfaces = Arrays.asList("Model" + random.nextInt(count), "Missing");
+            }
+            models.put(model.name, model);
+        }
+        return models;
+    }
+
+    private static List<String> names(List<CodegenModel> models) {
+        if (models == null) {
+            return null;
+        }
+        final List<String> names = new ArrayList<>();
+        for (CodegenModel model : models) {
+            names.add(model.name);
+        }
+        return names;
+    }
+
+    private static class StatefulCodegenConfig extends P_DefaultCodegenConfig {
+
+        private final int[] counts = new int[1];
+        private final StringBuilder log = new StringBuilder();
+        private final StringBuilder kept = new StringBuilder();
+
+        @Override
+        public void reset() {
+            super.reset();
+            log.setLength(0);
+        }
+    }
+
     private static class P_DefaultCodegenConfig extends DefaultCodegenConfig{
         @Override
         public String getArgumentsLocation() {
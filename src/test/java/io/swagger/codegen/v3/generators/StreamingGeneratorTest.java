@@ -0,0 +1,329 @@
+package io.swagger.codegen.v3.generators;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.codegen.v3.ClientOptInput;
+import io.swagger.codegen.v3.ClientOpts;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.SupportingFile;
+import io.swagger.codegen.v3.generators.handlebars.CachedHandlebarTemplateEngine;
+import io.swagger.codegen.v3.generators.handlebars.DeferredRendering;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.generators.util.GenerationReport;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class StreamingGeneratorTest {
+
+    @Test(description = "deferred templates are rendered straight to their files")
+    public void testWriteDeferredTemplate() throws Exception {
+        final JavaClientCodegen codegen = new JavaClientCodegen();
+        codegen.processOpts();
+        final CachedHandlebarTemplateEngine engine = new CachedHandlebarTemplateEngine(codegen);
+        final String templateFile = codegen.templateDir() + "/licenseInfo.mustache";
+        final Map<String, Object> data = new HashMap<>();
+        data.put("appName", "Petstore");
+        data.put("appDescription", "Pets \u00e0 la carte");
+        final String expected = engine.getRendered(templateFile, data);
+
+        final File output = Files.createTempDirectory("streaming").toFile();
+        try {
+            final StreamingGenerator generator = new StreamingGenerator();
+            Assert.assertTrue(DeferredRendering.start());
+            try {
+                final String deferred = engine.getRendered(templateFile, data);
+                Assert.assertTrue(DeferredRendering.isDeferred(deferred));
+                Assert.assertNotEquals(deferred, expected);
+
+                final File licenseInfo = generator.writeToFile(new File(output, "src/licenseInfo.java").getPath(), deferred);
+                Assert.assertEquals(FileUtils.readFileToString(licenseInfo, StandardCharsets.UTF_8), expected);
+                Assert.assertFalse(DeferredRendering.isDeferred(deferred));
+
+                final File version = generator.writeToFile(new File(output, "VERSION").getPath(), "1.0.0");
+                Assert.assertEquals(FileUtils.readFileToString(version, StandardCharsets.UTF_8), "1.0.0");
+            } finally {
+                DeferredRendering.stop();
+            }
+            Assert.assertEquals(engine.getRendered(templateFile, data), expected);
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test(description = "the phases of the generation are written to the requested report")
+    public void testGenerationReport() throws Exception {
+        final File output = Files.createTempDirectory("report").toFile();
+        try {
+            final JavaClientCodegen codegen = newCodegen(output);
+            final File reportFile = new File(output, "report.json");
+            codegen.additionalProperties().put(DefaultCodegenConfig.GENERATION_REPORT, reportFile.getAbsolutePath());
+            generate(codegen, petstore(new StringSchema()));
+
+            final JsonNode report = Json.mapper().readTree(reportFile);
+            Assert.assertEquals(report.get("generator").asText(), "java");
+            final Set<String> phases = new HashSet<>();
+            for (JsonNode phase : report.get("phases")) {
+                phases.add(phase.get("phase").asText());
+            }
+            Assert.assertTrue(phases.contains(GenerationReport.PREPROCESS_OPENAPI));
+            Assert.assertTrue(phases.contains(GenerationReport.PROCESS_OPENAPI));
+            Assert.assertTrue(phases.contains(GenerationReport.MODEL));
+            Assert.assertTrue(phases.contains(GenerationReport.POST_PROCESS_MODELS));
+            Assert.assertTrue(phases.contains(GenerationReport.POST_PROCESS_ALL_MODELS));
+            Assert.assertTrue(phases.contains(GenerationReport.OPERATION));
+            Assert.assertTrue(phases.contains(GenerationReport.POST_PROCESS_OPERATIONS));
+            Assert.assertTrue(phases.contains(GenerationReport.POST_PROCESS_OPERATIONS_WITH_MODELS));
+            Assert.assertTrue(phases.contains(GenerationReport.POST_PROCESS_SUPPORTING_FILE_DATA));
+            Assert.assertTrue(phases.contains(GenerationReport.RENDER_TEMPLATE));
+            Assert.assertTrue(phases.contains(GenerationReport.WRITE_FILE));
+            Assert.assertEquals(codegen.getGenerationReport().getCount(GenerationReport.OPERATION), 1);
+            Assert.assertTrue(codegen.getGenerationReport().getCount(GenerationReport.MODEL) > 0);
+            // overridden by AbstractJavaCodegen, calling the implementation of DefaultCodegenConfig
+            Assert.assertEquals(codegen.getGenerationReport().getCount(GenerationReport.PREPROCESS_OPENAPI), 1);
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test(description = "the generator is rendered with its own class when the phases are reported")
+    public void testGeneratedAnnotationWithReport() throws Exception {
+        final File output = Files.createTempDirectory("generated").toFile();
+        try {
+            final JavaClientCodegen codegen = newCodegen(output);
+            // same annotation as the generatedAnnotation partial of the Java templates
+            FileUtils.writeStringToFile(new File(output, "templates/model.mustache"),
+                    "{{#models}}{{#model}}@javax.annotation.Generated(value = \"{{generatorClass}}\")\nclass {{classname}} {}{{/model}}{{/models}}",
+                    StandardCharsets.UTF_8);
+            codegen.additionalProperties().put(DefaultCodegenConfig.GENERATION_REPORT, new File(output, "report.json").getAbsolutePath());
+            generate(codegen, petstore(new StringSchema()));
+
+            final String pet = FileUtils.readFileToString(new File(output, "client/src/main/java/io/swagger/client/model/Pet.java"), StandardCharsets.UTF_8);
+            Assert.assertEquals(pet, "@javax.annotation.Generated(value = \"" + codegen.getClass().getName() + "\")\nclass Pet {}");
+            Assert.assertTrue(codegen.getGenerationReport().getCount(GenerationReport.MODEL) > 0);
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test(description = "inline schemas with the same structure are generated as one model")
+    public void testDeduplicateInlineSchemas() throws Exception {
+        final File output = Files.createTempDirectory("inline").toFile();
+        try {
+            final JavaClientCodegen codegen = newCodegen(output);
+            final File reportFile = new File(output, "report.json");
+            codegen.additionalProperties().put(DefaultCodegenConfig.GENERATION_REPORT, reportFile.getAbsolutePath());
+            codegen.additionalProperties().put(DefaultCodegenConfig.DEDUPLICATE_INLINE_SCHEMAS, true);
+            final OpenAPI openAPI = petstore(new StringSchema());
+            final PathItem pets = new PathItem();
+            for (String operationId : new String[]{"listPetNames", "countPets"}) {
+                final Operation operation = new Operation()
+                        .operationId(operationId)
+                        .addTagsItem("pet")
+                        .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                                .description("pets")
+                                .content(new Content().addMediaType("application/json", new MediaType()
+                                        .schema(new ObjectSchema().addProperties("total", new IntegerSchema()))))));
+                if (pets.getGet() == null) {
+                    pets.get(operation);
+                } else {
+                    pets.post(operation);
+                }
+            }
+            openAPI.getPaths().addPathItem("/pets", pets);
+            generate(codegen, openAPI);
+
+            Assert.assertTrue(new File(output, "client/src/main/java/io/swagger/client/model/InlineResponse200.java").exists());
+            final JsonNode counters = Json.mapper().readTree(reportFile).get("counters");
+            Assert.assertEquals(counters.get(GenerationReport.DEDUPLICATED_INLINE_SCHEMAS).asInt(), 2);
+            Assert.assertEquals(counters.get(GenerationReport.INLINE_MODELS).asInt(), 1);
+            Assert.assertEquals(counters.get(GenerationReport.INLINE_MODEL_NAME_COLLISIONS).asInt(), 0);
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test(description = "incremental runs only write the files of changed models and APIs")
+    public void testIncremental() throws Exception {
+        final File output = Files.createTempDirectory("incremental").toFile();
+        try {
+            final File pet = new File(output, "client/src/main/java/io/swagger/client/model/Pet.java");
+            final File category = new File(output, "client/src/main/java/io/swagger/client/model/Category.java");
+            final File petApi = new File(output, "client/src/main/java/io/swagger/client/api/PetApi.java");
+            generate(newIncrementalCodegen(output), petstore(new StringSchema()));
+            Assert.assertEquals(FileUtils.readFileToString(pet, StandardCharsets.UTF_8), "class Pet {}");
+            Assert.assertTrue(new File(output, "client/" + StreamingGenerator.INCREMENTAL_MANIFEST).exists());
+
+            FileUtils.writeStringToFile(pet, "unchanged", StandardCharsets.UTF_8);
+            FileUtils.writeStringToFile(category, "unchanged", StandardCharsets.UTF_8);
+            FileUtils.writeStringToFile(petApi, "unchanged", StandardCharsets.UTF_8);
+            Assert.assertEquals(generate(newIncrementalCodegen(output), petstore(new StringSchema())).getSkippedFiles(), 3);
+            Assert.assertEquals(FileUtils.readFileToString(pet, StandardCharsets.UTF_8), "unchanged");
+            Assert.assertEquals(FileUtils.readFileToString(category, StandardCharsets.UTF_8), "unchanged");
+            Assert.assertEquals(FileUtils.readFileToString(petApi, StandardCharsets.UTF_8), "unchanged");
+
+            // Category is referenced by Pet, which is returned by the API
+            generate(newIncrementalCodegen(output), petstore(new IntegerSchema()));
+            Assert.assertEquals(FileUtils.readFileToString(pet, StandardCharsets.UTF_8), "class Pet {}");
+            Assert.assertEquals(FileUtils.readFileToString(category, StandardCharsets.UTF_8), "class Category {}");
+            Assert.assertEquals(FileUtils.readFileToString(petApi, StandardCharsets.UTF_8), "class PetApi {}");
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test(description = "incremental runs link the files to their model or tag by their exact path")
+    public void testIncrementalExactPaths() throws Exception {
+        final File output = Files.createTempDirectory("incremental").toFile();
+        try {
+            // named like the doc of the Pet model, but in another folder
+            final File petInfo = new File(output, "client/Pet.md");
+            generate(newDocumentedCodegen(output), petstore(new StringSchema()));
+            Assert.assertTrue(new File(output, "client/docs/Pet.md").exists());
+            Assert.assertTrue(petInfo.exists());
+
+            FileUtils.writeStringToFile(petInfo, "changed", StandardCharsets.UTF_8);
+            final StreamingGenerator generator = generate(newDocumentedCodegen(output), petstore(new StringSchema()));
+            // Pet, Category and PetApi with their docs
+            Assert.assertEquals(generator.getSkippedFiles(), 6);
+            Assert.assertNotEquals(FileUtils.readFileToString(petInfo, StandardCharsets.UTF_8), "changed");
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    @Test(description = "files rendered with the same content are left alone")
+    public void testSkipUnchangedFiles() throws Exception {
+        final File output = Files.createTempDirectory("unchanged").toFile();
+        try {
+            final File pet = new File(output, "client/src/main/java/io/swagger/client/model/Pet.java");
+            final File category = new File(output, "client/src/main/java/io/swagger/client/model/Category.java");
+            StreamingGenerator generator = generate(newSkippingCodegen(output), petstore(new StringSchema()));
+            // models, API, .swagger-codegen-ignore and .swagger-codegen/VERSION
+            Assert.assertEquals(generator.getWrittenFiles(), 5);
+            Assert.assertEquals(generator.getUnchangedFiles(), 0);
+
+            Assert.assertTrue(pet.setLastModified(946684800000L));
+            FileUtils.writeStringToFile(category, "class Category {} // changed", StandardCharsets.UTF_8);
+            final JavaClientCodegen codegen = newSkippingCodegen(output);
+            codegen.additionalProperties().put(DefaultCodegenConfig.GENERATION_REPORT, new File(output, "report.json").getAbsolutePath());
+            generator = generate(codegen, petstore(new StringSchema()));
+            Assert.assertEquals(generator.getWrittenFiles(), 1);
+            // .swagger-codegen-ignore is only written when missing
+            Assert.assertEquals(generator.getUnchangedFiles(), 3);
+            Assert.assertEquals(generator.getSkippedFiles(), 0);
+            Assert.assertEquals(codegen.getGenerationReport().getCounter(GenerationReport.UNCHANGED_FILES), Long.valueOf(3));
+            Assert.assertEquals(pet.lastModified(), 946684800000L);
+            Assert.assertEquals(FileUtils.readFileToString(category, StandardCharsets.UTF_8), "class Category {}");
+        } finally {
+            FileUtils.deleteDirectory(output);
+        }
+    }
+
+    private static OpenAPI petstore(Schema categoryId) {
+        final Schema category = new ObjectSchema()
+                .addProperties("id", categoryId);
+        final Schema pet = new ObjectSchema()
+                .addProperties("id", new IntegerSchema())
+                .addProperties("name", new StringSchema())
+                .addProperties("category", new Schema().$ref("#/components/schemas/Category"));
+        final Operation getPet = new Operation()
+                .operationId("getPet")
+                .addTagsItem("pet")
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse()
+                        .description("pet")
+                        .content(new Content().addMediaType("application/json",
+                                new MediaType().schema(new Schema().$ref("#/components/schemas/Pet"))))));
+        return new OpenAPI()
+                .info(new Info().title("Petstore").version("1.0.0"))
+                .paths(new Paths().addPathItem("/pets/{id}", new PathItem().get(getPet)))
+                .components(new Components().addSchemas("Pet", pet).addSchemas("Category", category));
+    }
+
+    private static JavaClientCodegen newIncrementalCodegen(File output) throws Exception {
+        final JavaClientCodegen codegen = newCodegen(output);
+        codegen.additionalProperties().put(DefaultCodegenConfig.INCREMENTAL, true);
+        return codegen;
+    }
+
+    /**
+     * Java client writing model and API files from templates without variables in partials, which Handlebars can't
+     * resolve in this JVM.
+     */
+    private static JavaClientCodegen newCodegen(File output) throws Exception {
+        return newCodegen(output, false);
+    }
+
+    /**
+     * @param documented true to write the docs of the models and APIs too, with a supporting file in the output dir
+     */
+    private static JavaClientCodegen newCodegen(File output, boolean documented) throws Exception {
+        final File templateDir = new File(output, "templates");
+        FileUtils.writeStringToFile(new File(templateDir, "model.mustache"),
+                "{{#models}}{{#model}}class {{classname}} {}{{/model}}{{/models}}", StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(new File(templateDir, "api.mustache"), "class {{classname}} {}", StandardCharsets.UTF_8);
+        final JavaClientCodegen codegen = new JavaClientCodegen() {
+            @Override
+            public void processOpts() {
+                super.processOpts();
+                modelTemplateFiles.clear();
+                modelTemplateFiles.put("model.mustache", ".java");
+                apiTemplateFiles.clear();
+                apiTemplateFiles.put("api.mustache", ".java");
+                modelDocTemplateFiles.clear();
+                apiDocTemplateFiles.clear();
+                modelTestTemplateFiles.clear();
+                apiTestTemplateFiles.clear();
+                supportingFiles.clear();
+                if (documented) {
+                    modelDocTemplateFiles.put("model.mustache", ".md");
+                    apiDocTemplateFiles.put("api.mustache", ".md");
+                    supportingFiles.add(new SupportingFile("api.mustache", "", "Pet.md"));
+                }
+            }
+        };
+        codegen.additionalProperties().put(CodegenConstants.TEMPLATE_DIR, templateDir.getAbsolutePath());
+        codegen.setOutputDir(new File(output, "client").getAbsolutePath());
+        return codegen;
+    }
+
+    private static JavaClientCodegen newDocumentedCodegen(File output) throws Exception {
+        final JavaClientCodegen codegen = newCodegen(output, true);
+        codegen.additionalProperties().put(DefaultCodegenConfig.INCREMENTAL, true);
+        return codegen;
+    }
+
+    private static JavaClientCodegen newSkippingCodegen(File output) throws Exception {
+        final JavaClientCodegen codegen = newCodegen(output);
+        codegen.additionalProperties().put(DefaultCodegenConfig.SKIP_UNCHANGED_FILES, true);
+        return codegen;
+    }
+
+    private static StreamingGenerator generate(JavaClientCodegen codegen, OpenAPI openAPI) {
+        final StreamingGenerator generator = new StreamingGenerator();
+        generator.opts(new ClientOptInput().opts(new ClientOpts()).openAPI(openAPI).config(codegen)).generate();
+        return generator;
+    }
+}
@@ -0,0 +1,63 @@
+package io.swagger.codegen.v3.generators.handlebars;
+
+import com.github.jknack.handlebars.Template;
+import io.swagger.codegen.v3.CodegenConstants;
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.codegen.v3.templates.HandlebarTemplateEngine;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CachedHandlebarTemplateEngineTest {
+
+    @Test(description = "templates are compiled once for all instances of a generator")
+    public void testSharedTemplates() throws Exception {
+        final JavaClientCodegen first = new JavaClientCodegen();
+        first.processOpts();
+        final JavaClientCodegen second = new JavaClientCodegen();
+        second.processOpts();
+        final String templateFile = first.templateDir() + "/pojo.mustache";
+
+        final Template template = new CachedHandlebarTemplateEngine(first).getTemplate(templateFile);
+        Assert.assertSame(new CachedHandlebarTemplateEngine(second).getTemplate(templateFile), template);
+
+        final Map<String, Object> data = new HashMap<>();
+        data.put("appName", "Petstore");
+        data.put("version", "1.0.0");
+        final String licenseInfo = first.templateDir() + "/licenseInfo.mustache";
+        Assert.assertEquals(new CachedHandlebarTemplateEngine(second).getRendered(licenseInfo, data),
+                new HandlebarTemplateEngine(first).getRendered(licenseInfo, data));
+    }
+
+    @Test(description = "custom templates are compiled again once they have been changed")
+    public void testChangedTemplate() throws Exception {
+        final File templateDir = Files.createTempDirectory("templates").toFile();
+        try {
+            final File partial = new File(templateDir, "hello.mustache");
+            FileUtils.writeStringToFile(partial, "Hello", StandardCharsets.UTF_8);
+            FileUtils.writeStringToFile(new File(templateDir, "greeting.mustache"), "{{>hello}} {{name}}!", StandardCharsets.UTF_8);
+
+            final JavaClientCodegen codegen = new JavaClientCodegen();
+            codegen.additionalProperties().put(CodegenConstants.TEMPLATE_DIR, templateDir.getAbsolutePath());
+            codegen.processOpts();
+            final String templateFile = codegen.templateDir() + File.separator + "greeting.mustache";
+            final Map<String, Object> data = new HashMap<>();
+            data.put("name", "pet");
+
+            final CachedHandlebarTemplateEngine engine = new CachedHandlebarTemplateEngine(codegen);
+            Assert.assertEquals(engine.getRendered(templateFile, data), "Hello pet!");
+            Assert.assertSame(engine.getTemplate(templateFile), engine.getTemplate(templateFile));
+
+            FileUtils.writeStringToFile(partial, "Bye", StandardCharsets.UTF_8);
+            Assert.assertEquals(engine.getRendered(templateFile, data), "Bye pet!");
+        } finally {
+            FileUtils.deleteDirectory(templateDir);
+        }
+    }
+}
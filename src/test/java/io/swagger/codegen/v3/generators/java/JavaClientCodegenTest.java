@@ -1,10 +1,17 @@
 package io.swagger.codegen.v3.generators.java;
 
+import io.swagger.codegen.v3.CodegenArgument;
 import io.swagger.codegen.v3.CodegenConstants;
 import io.swagger.codegen.v3.CodegenModel;
 import io.swagger.codegen.v3.CodegenModelFactory;
 import io.swagger.codegen.v3.CodegenModelType;
+import io.swagger.codegen.v3.CodegenOperation;
 import io.swagger.codegen.v3.CodegenParameter;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Content;
@@ -13,18 +20,25 @@ import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
 import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import io.swagger.v3.parser.util.SchemaTypeUtil;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 public class JavaClientCodegenTest {
 
@@ -260,4 +274,91 @@ public class JavaClientCodegenTest {
         codegen.processOpts();
         Assert.assertEquals(codegen.templateDir(), String.join(File.separator,"user", "custom", "location"));
     }
+
+    @Test
+    public void parallelOperations() throws Exception {
+        final JavaClientCodegen sequential = new JavaClientCodegen();
+        sequential.processOpts();
+        final JavaClientCodegen parallel = new JavaClientCodegen();
+        parallel.setParallelOperations(4);
+        parallel.processOpts();
+
+        final Map<String, List<CodegenOperation>> expected = processPaths(sequential, createOpenAPI());
+        final Map<String, List<CodegenOperation>> actual = processPaths(parallel, createOpenAPI());
+
+        Assert.assertEquals(actual.keySet(), expected.keySet());
+        for (String tag : expected.keySet()) {
+            Assert.assertEquals(actual.get(tag), expected.get(tag));
+            for (int index = 0; index < expected.get(tag).size(); index++) {
+                Assert.assertEquals(actual.get(tag).get(index).operationId, expected.get(tag).get(index).operationId);
+                Assert.assertEquals(actual.get(tag).get(index).allParams.size(), expected.get(tag).get(index).allParams.size());
+            }
+        }
+        // duplicated operation ids are renamed the same way
+        Assert.assertEquals(actual.get(parallel.sanitizeTag("pet")).get(1).operationId, "getPet_0");
+    }
+
+    @Test(description = "language arguments are parsed once and copied for every caller")
+    public void readLanguageArguments() {
+        final List<CodegenArgument> first = new JavaClientCodegen().readLanguageArguments();
+        Assert.assertNotNull(first);
+        Assert.assertTrue(first.stream().anyMatch(argument -> CodegenConstants.USE_OAS2_OPTION.equals(argument.getOption())));
+
+        first.get(0).setValue("changed");
+        first.add(new CodegenArgument().option("--added"));
+        final List<CodegenArgument> second = new JavaClientCodegen().readLanguageArguments();
+        Assert.assertEquals(second.size(), first.size() - 1);
+        Assert.assertNotSame(second.get(0), first.get(0));
+        Assert.assertEquals(second.get(0).getOption(), first.get(0).getOption());
+        Assert.assertEquals(second.get(0).getType(), first.get(0).getType());
+        Assert.assertNull(second.get(0).getValue());
+    }
+
+    private static OpenAPI createOpenAPI() {
+        final Map<String, Schema> schemas = new HashMap<>();
+        schemas.put("Pet", new ObjectSchema().addProperties("name", new StringSchema()));
+        final OpenAPI openAPI = new OpenAPI().components(new Components().schemas(schemas)).paths(new Paths());
+        for (int index = 0; index < 50; index++) {
+            final ApiResponses responses = new ApiResponses()
+                    .addApiResponse("200", new ApiResponse().description("ok")
+                            .content(new Content().addMediaType("application/json", new MediaType().schema(new Schema().$ref("#/components/schemas/Pet")))));
+            final PathItem pathItem = new PathItem()
+                    .addParametersItem(new PathParameter().name("id").schema(new IntegerSchema()))
+                    .get(new Operation().operationId("getPet").addTagsItem("pet").addTagsItem("store" + index % 3)
+                            .addParametersItem(new QueryParameter().name("filter").schema(new StringSchema()))
+                            .responses(responses))
+                    .delete(new Operation().responses(responses));
+            openAPI.getPaths().addPathItem("/pets" + index + "/{id}", pathItem);
+        }
+        return openAPI;
+    }
+
+    /**
+     * Converts and groups the operations like the generator does.
+     */
+    private static Map<String, List<CodegenOperation>> processPaths(JavaClientCodegen codegen, OpenAPI openAPI) {
+        final Map<String, List<CodegenOperation>> operations = new TreeMap<>();
+        for (String path : new TreeMap<>(openAPI.getPaths()).keySet()) {
+            final PathItem pathItem = openAPI.getPaths().get(path);
+            processOperation(codegen, openAPI, path, "get", pathItem.getGet(), pathItem, operations);
+            processOperation(codegen, openAPI, path, "delete", pathItem.getDelete(), pathItem, operations);
+        }
+        return operations;
+    }
+
+    private static void processOperation(JavaClientCodegen codegen, OpenAPI openAPI, String path, String httpMethod, Operation operation, PathItem pathItem, Map<String, List<CodegenOperation>> operations) {
+        final List<String> tags = operation.getTags() == null ? Arrays.asList("default") : operation.getTags();
+        if (operation.getParameters() != null) {
+            final List<Parameter> parameters = new ArrayList<>(operation.getParameters());
+            for (Parameter parameter : pathItem.getParameters()) {
+                if (parameters.stream().noneMatch(existing -> existing.getName().equals(parameter.getName()))) {
+                    operation.getParameters().add(parameter);
+                }
+            }
+        }
+        for (String tag : tags) {
+            final CodegenOperation codegenOperation = codegen.fromOperation(path, httpMethod, operation, openAPI.getComponents().getSchemas(), openAPI);
+            codegen.addOperationToGroup(codegen.sanitizeTag(tag), path, operation, codegenOperation, operations);
+        }
+    }
 }
@@ -6,10 +6,12 @@ import io.swagger.codegen.v3.generators.DefaultCodegenConfig;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Discriminator;
 import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
 import org.apache.commons.lang3.StringUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -56,4 +58,30 @@ public class JavaInheritanceTest {
         Assert.assertEquals(cm.parent, "Base");
         Assert.assertEquals(cm.imports, Sets.newHashSet("Base"));
     }
+
+    @SuppressWarnings("static-method")
+    @Test(description = "remove the enums of the parent from every child")
+    public void javaInheritanceWithEnumsTest() {
+        final Schema status = new StringSchema()._enum(Arrays.asList("available", "sold"));
+        final Schema base = new Schema().name("Base").addProperties("status", status);
+
+        final Map<String, Schema> allDefinitions = new HashMap<>();
+        allDefinitions.put("Base", base);
+        for (int index = 0; index < 3; index++) {
+            allDefinitions.put("Child" + index, new ComposedSchema()
+                    .addAllOfItem(new Schema().$ref("Base"))
+                    .addAllOfItem(new Schema().addProperties("name", new StringSchema()).addProperties("status", status)));
+        }
+
+        final DefaultCodegenConfig codegen = new JavaClientCodegen();
+        for (int index = 0; index < 3; index++) {
+            final CodegenModel cm = codegen.fromModel("Child" + index, allDefinitions.get("Child" + index), allDefinitions);
+
+            Assert.assertEquals(cm.parent, "Base");
+            Assert.assertEquals(cm.vars.size(), 1);
+            Assert.assertEquals(cm.vars.get(0).baseName, "name");
+        }
+        // the shared parent model is not changed by the children
+        Assert.assertEquals(codegen.fromModel("Base", base, allDefinitions).vars.size(), 1);
+    }
 }
@@ -15,6 +15,7 @@ import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.BooleanSchema;
 import io.swagger.v3.oas.models.media.ByteArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Content;
 import io.swagger.v3.oas.models.media.DateTimeSchema;
 import io.swagger.v3.oas.models.media.IntegerSchema;
@@ -37,9 +38,11 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static io.swagger.codegen.v3.generators.handlebars.ExtensionHelper.getBooleanValue;
 
@@ -1015,6 +1018,36 @@ public class JavaModelTest {
         Assert.assertTrue(co.imports.contains("Pet"));
     }
 
+    @Test(description = "convert models in parallel with the same result as sequentially")
+    public void parallelModelsTest() {
+        final Map<String, Schema> allDefinitions = new TreeMap<>();
+        for (int index = 0; index < 40; index++) {
+            final Schema schema = new ObjectSchema()
+                    .addProperties("id", new IntegerSchema().format(SchemaTypeUtil.INTEGER64_FORMAT))
+                    .addProperties("name", new StringSchema()._enum(Arrays.asList("first", "second")))
+                    .addProperties("children", new ArraySchema().items(new Schema().$ref("Model" + (index + 1) % 40)))
+                    .addProperties("created", new DateTimeSchema());
+            allDefinitions.put("Model" + index, schema);
+            allDefinitions.put("Composed" + index, new ComposedSchema()
+                    .addAllOfItem(new Schema().$ref("Model" + index))
+                    .addAllOfItem(new ObjectSchema().addProperties("extra", new StringSchema())));
+        }
+
+        final DefaultCodegenConfig sequential = new JavaClientCodegen();
+        final DefaultCodegenConfig parallel = new JavaClientCodegen();
+        parallel.setParallelModels(4);
+        for (Map.Entry<String, Schema> entry : allDefinitions.entrySet()) {
+            final CodegenModel expected = sequential.fromModel(entry.getKey(), entry.getValue(), allDefinitions);
+            final CodegenModel actual = parallel.fromModel(entry.getKey(), entry.getValue(), allDefinitions);
+            Assert.assertEquals(actual, expected);
+            Assert.assertEquals(actual.imports, expected.imports);
+            Assert.assertEquals(actual.parent, expected.parent);
+        }
+        // models which are not part of the definitions are still converted by the caller
+        final CodegenModel standalone = parallel.fromModel("Standalone", new ObjectSchema(), allDefinitions);
+        Assert.assertEquals(standalone.classname, "Standalone");
+    }
+
     @Test(enabled = false, description = "disabled since templates have been moved.")
     public void generateModel() throws Exception {
         folder.create();
@@ -0,0 +1,58 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class ComparingFileOutputStreamTest {
+
+    private static final long MODIFIED = 946684800000L;
+
+    @DataProvider(name = "contents")
+    public Object[][] contents() {
+        return new Object[][]{
+                {"class Pet {}", "class Pet {}", false},
+                {"class Pet {}", "class Dog {}", true},
+                {"class Pet {}", "class Pet {} // pets", true},
+                {"class Pet {} // pets", "class Pet {}", true},
+                {"", "class Pet {}", true},
+                {"class Pet {}", "", true},
+                {null, "class Pet {}", true},
+                {null, "", true}};
+    }
+
+    @Test(dataProvider = "contents", description = "files are only written when their content changes")
+    public void testWrite(String current, String output, boolean changed) throws Exception {
+        final File dir = Files.createTempDirectory("comparing").toFile();
+        try {
+            final File file = new File(dir, "Pet.java");
+            if (current != null) {
+                FileUtils.writeStringToFile(file, current, StandardCharsets.UTF_8);
+                Assert.assertTrue(file.setLastModified(MODIFIED));
+            }
+
+            final ComparingFileOutputStream stream = new ComparingFileOutputStream(file);
+            try (OutputStream out = stream) {
+                final byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+                // single bytes and chunks
+                if (bytes.length > 0) {
+                    out.write(bytes[0]);
+                    out.write(bytes, 1, bytes.length - 1);
+                }
+            }
+
+            Assert.assertEquals(stream.isChanged(), changed);
+            Assert.assertEquals(FileUtils.readFileToString(file, StandardCharsets.UTF_8), output);
+            Assert.assertEquals(file.lastModified() == MODIFIED, !changed);
+            Assert.assertEquals(dir.list().length, 1);
+        } finally {
+            FileUtils.deleteDirectory(dir);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.swagger.codegen.v3.generators.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class GenerationReportTest {
+
+    @Test(description = "phases are summed up per phase and per item")
+    public void testPhases() {
+        final GenerationReport report = new GenerationReport("java");
+        try (GenerationReport.Timer timer = report.start(GenerationReport.MODEL, "Pet")) {
+            try (GenerationReport.Timer nested = report.start(GenerationReport.MODEL, "Category")) {
+                Assert.assertNotNull(new StringBuilder("allocate").append(System.nanoTime()).toString());
+            }
+        }
+        try (GenerationReport.Timer timer = report.start(GenerationReport.MODEL, "Pet")) {
+            Assert.assertNotNull(timer);
+        }
+        try (GenerationReport.Timer timer = report.start(GenerationReport.POST_PROCESS_ALL_MODELS, null)) {
+            Assert.assertNotNull(timer);
+        }
+
+        Assert.assertEquals(report.getCount(GenerationReport.MODEL), 3);
+        Assert.assertEquals(report.getCount(GenerationReport.POST_PROCESS_ALL_MODELS), 1);
+        Assert.assertEquals(report.getCount(GenerationReport.WRITE_FILE), 0);
+        Assert.assertTrue(report.getWallNanos(GenerationReport.MODEL) > 0);
+
+        final ObjectNode json = report.toJson();
+        Assert.assertEquals(json.get("generator").asText(), "java");
+        final JsonNode models = json.get("phases").get(0);
+        Assert.assertEquals(models.get("phase").asText(), GenerationReport.MODEL);
+        Assert.assertEquals(models.get("count").asLong(), 3);
+        Assert.assertEquals(models.get("items").get(0).get("name").asText(), "Category");
+        Assert.assertEquals(models.get("items").get(1).get("name").asText(), "Pet");
+        Assert.assertEquals(models.get("items").get(1).get("count").asLong(), 2);
+        Assert.assertTrue(models.get("items").get(1).get("wallNanos").asLong() >= models.get("items").get(0).get("wallNanos").asLong());
+        Assert.assertNotNull(models.get("cpuNanos"));
+        Assert.assertNotNull(models.get("allocatedBytes"));
+        Assert.assertNull(json.get("phases").get(1).get("items"));
+    }
+
+    @Test(description = "a phase run again without an item while it is running is measured once")
+    public void testNestedPhase() {
+        final GenerationReport report = new GenerationReport("java");
+        try (GenerationReport.Timer timer = report.start(GenerationReport.POST_PROCESS_MODELS, null)) {
+            try (GenerationReport.Timer nested = report.start(GenerationReport.POST_PROCESS_MODELS, null)) {
+                Assert.assertNotNull(nested);
+            }
+            try (GenerationReport.Timer nested = report.start(GenerationReport.POST_PROCESS_MODELS, "Pet")) {
+                Assert.assertNotNull(nested);
+            }
+        }
+        try (GenerationReport.Timer timer = report.start(GenerationReport.POST_PROCESS_MODELS, null)) {
+            Assert.assertNotNull(timer);
+        }
+
+        Assert.assertEquals(report.getCount(GenerationReport.POST_PROCESS_MODELS), 3);
+    }
+
+    @Test(description = "nothing is measured without a report")
+    public void testNoReport() {
+        final GenerationReport.Timer timer = GenerationReport.start(null, GenerationReport.MODEL, "Pet");
+        Assert.assertSame(GenerationReport.start(null, GenerationReport.OPERATION, "get /pets"), timer);
+        timer.close();
+    }
+}
@@ -0,0 +1,17 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IncrementalManifestTest {
+
+    @Test(description = "generators are versioned by their jar")
+    public void testGetVersion() {
+        // the jar of TestNG has an implementation version, or is hashed
+        final String version = IncrementalManifest.getVersion(Test.class);
+        Assert.assertNotEquals(version, "unknown");
+        Assert.assertEquals(IncrementalManifest.getVersion(Test.class), version);
+        // loaded from the build directory
+        Assert.assertEquals(IncrementalManifest.getVersion(IncrementalManifestTest.class), "unknown");
+    }
+}
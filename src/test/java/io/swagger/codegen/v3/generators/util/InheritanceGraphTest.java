@@ -0,0 +1,89 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class InheritanceGraphTest {
+
+    @Test(description = "ancestors, children and discriminator mappings")
+    public void testHierarchy() {
+        final Map<String, Node> nodes = new LinkedHashMap<>();
+        nodes.put("Dog", new Node("Pet", false));
+        nodes.put("Puppy", new Node("Dog", false));
+        nodes.put("Pet", new Node("Animal", true));
+        nodes.put("Animal", new Node(null, true));
+        nodes.put("Cat", new Node("Pet", false, "Named", "Missing"));
+        nodes.put("Named", new Node(null, false));
+        nodes.put("Stray", new Node("Missing", false));
+        final InheritanceGraph<Node> graph = newGraph(nodes);
+
+        Assert.assertEquals(graph.getAncestors("Puppy"), Arrays.asList("Dog", "Pet", "Animal"));
+        Assert.assertEquals(graph.getAncestors("Dog"), Arrays.asList("Pet", "Animal"));
+        Assert.assertEquals(graph.getAncestors("Animal"), Collections.emptyList());
+        Assert.assertEquals(graph.getAncestors("Stray"), Collections.emptyList());
+        Assert.assertEquals(graph.getParent("Stray"), "Missing");
+
+        Assert.assertEquals(graph.getChildren("Pet"), Arrays.asList("Dog", "Cat"));
+        Assert.assertEquals(graph.getInterfaces("Cat"), Arrays.asList("Named", "Missing"));
+
+        Assert.assertEquals(graph.getDiscriminatorOwner("Puppy"), "Pet");
+        Assert.assertEquals(graph.getDiscriminatorOwner("Pet"), "Animal");
+        Assert.assertNull(graph.getDiscriminatorOwner("Animal"));
+        Assert.assertEquals(graph.getSubtypes("Pet"), Arrays.asList("Dog", "Puppy", "Cat"));
+        Assert.assertEquals(graph.getSubtypes("Dog"), Collections.singletonList("Puppy"));
+        Assert.assertEquals(graph.getSubtypes("Animal"), Collections.singletonList("Pet"));
+    }
+
+    @Test(description = "cycles end the ancestor chains")
+    public void testCycle() {
+        final Map<String, Node> nodes = new LinkedHashMap<>();
+        nodes.put("A", new Node("B", false));
+        nodes.put("B", new Node("C", false));
+        nodes.put("C", new Node("A", false));
+        nodes.put("D", new Node("D", false));
+        final InheritanceGraph<Node> graph = newGraph(nodes);
+
+        Assert.assertEquals(graph.getAncestors("A"), Arrays.asList("B", "C"));
+        Assert.assertEquals(graph.getAncestors("B"), Arrays.asList("C", "A"));
+        Assert.assertEquals(graph.getAncestors("C"), Arrays.asList("A", "B"));
+        Assert.assertEquals(graph.getAncestors("D"), Collections.emptyList());
+    }
+
+    @Test(description = "deep hierarchies are indexed without walking the chain again for every model")
+    public void testDeepHierarchy() {
+        final Map<String, Node> nodes = new LinkedHashMap<>();
+        for (int i = 2000; i > 0; i--) {
+            nodes.put("M" + i, new Node("M" + (i - 1), false));
+        }
+        nodes.put("M0", new Node(null, true));
+        final InheritanceGraph<Node> graph = newGraph(nodes);
+
+        Assert.assertEquals(graph.getAncestors("M2000").size(), 2000);
+        Assert.assertEquals(graph.getAncestors("M2000").get(0), "M1999");
+        Assert.assertEquals(graph.getSubtypes("M0").size(), 2000);
+        Assert.assertEquals(graph.getDiscriminatorOwner("M1234"), "M0");
+    }
+
+    private static InheritanceGraph<Node> newGraph(Map<String, Node> nodes) {
+        return new InheritanceGraph<>(nodes, node -> node.parent, node -> node.interfaces, node -> node.discriminator);
+    }
+
+    private static class Node {
+
+        private final String parent;
+        private final boolean discriminator;
+        private final List<String> interfaces;
+
+        private Node(String parent, boolean discriminator, String... interfaces) {
+            this.parent = parent;
+            this.discriminator = discriminator;
+            this.interfaces = Arrays.asList(interfaces);
+        }
+    }
+}
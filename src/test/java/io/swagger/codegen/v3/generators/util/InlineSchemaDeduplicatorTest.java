@@ -0,0 +1,130 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+public class InlineSchemaDeduplicatorTest {
+
+    @Test(description = "inline schemas with the same structure are replaced by one model")
+    public void testDeduplicate() {
+        final OpenAPI openAPI = new OpenAPI()
+                .paths(new Paths()
+                        .addPathItem("/pets", new PathItem()
+                                .post(new Operation().requestBody(body(named())).responses(response(tag())))
+                                .get(new Operation().responses(response(new ArraySchema().items(tag())))))
+                        .addPathItem("/owners", new PathItem()
+                                .post(new Operation().requestBody(body(named())).responses(response(counted())))
+                                .put(new Operation().requestBody(body(counted())).responses(response(counted())))))
+                .components(new Components()
+                        .addSchemas("Tag", tag())
+                        .addSchemas("Body", new ObjectSchema().addProperties("other", new StringSchema())));
+
+        final InlineSchemaDeduplicator deduplicator = new InlineSchemaDeduplicator();
+        deduplicator.deduplicate(openAPI);
+
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(),
+                new LinkedHashSet<>(Arrays.asList("Tag", "Body", "body_1", "body_2")));
+        Assert.assertEquals(deduplicator.getReusedSchemas(), Collections.singletonMap("Tag", 2));
+        Assert.assertEquals(deduplicator.getCreatedSchemas().get("body_1"), Integer.valueOf(2));
+        // the request body of PUT /owners is found first
+        Assert.assertEquals(deduplicator.getCreatedSchemas().get("body_2"), Integer.valueOf(3));
+        Assert.assertEquals(deduplicator.getCollisions(), Collections.singletonMap("body", Arrays.asList("body_1", "body_2")));
+        Assert.assertEquals(deduplicator.getReplacedSchemas(), 7);
+
+        final PathItem pets = openAPI.getPaths().get("/pets");
+        Assert.assertEquals(schema(pets.getPost().getRequestBody().getContent()).get$ref(), "#/components/schemas/body_1");
+        Assert.assertEquals(schema(pets.getPost().getResponses().get("200").getContent()).get$ref(), "#/components/schemas/Tag");
+        Assert.assertEquals(((ArraySchema) schema(pets.getGet().getResponses().get("200").getContent())).getItems().get$ref(),
+                "#/components/schemas/Tag");
+        final PathItem owners = openAPI.getPaths().get("/owners");
+        Assert.assertEquals(schema(owners.getPost().getResponses().get("200").getContent()).get$ref(), "#/components/schemas/body_2");
+    }
+
+    @Test(description = "inline schemas found once are left alone")
+    public void testUnique() {
+        final Schema single = named();
+        final OpenAPI openAPI = new OpenAPI().paths(new Paths().addPathItem("/pets", new PathItem()
+                .post(new Operation().requestBody(body(single)).responses(response(counted())))));
+
+        final InlineSchemaDeduplicator deduplicator = new InlineSchemaDeduplicator();
+        deduplicator.deduplicate(openAPI);
+
+        Assert.assertSame(schema(openAPI.getPaths().get("/pets").getPost().getRequestBody().getContent()), single);
+        Assert.assertEquals(deduplicator.getReplacedSchemas(), 0);
+        Assert.assertNull(openAPI.getComponents());
+    }
+
+    @Test(description = "schemas generated by the parser for inline schemas with the same structure are merged")
+    public void testFlattened() {
+        final ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+        options.setFlatten(true);
+        final OpenAPI openAPI = new OpenAPIV3Parser()
+                .readLocation("src/test/resources/3_0_0/inlineSchemasTest.yaml", null, options).getOpenAPI();
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(),
+                new HashSet<>(Arrays.asList("Counter", "body", "body_1", "body_2", "inline_response_200")));
+
+        final InlineSchemaDeduplicator deduplicator = new InlineSchemaDeduplicator();
+        deduplicator.deduplicate(openAPI);
+
+        // the parser reads Counter as an ObjectSchema but the responses as plain schemas, not the same structure
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet(),
+                new HashSet<>(Arrays.asList("Counter", "body", "body_1", "inline_response_200")));
+        Assert.assertEquals(deduplicator.getMergedSchemas(), Collections.singletonMap("body_2", "body"));
+        Assert.assertEquals(deduplicator.getReplacedSchemas(), 0);
+
+        final PathItem b = openAPI.getPaths().get("/b");
+        Assert.assertEquals(schema(b.getPost().getRequestBody().getContent()).get$ref(), "#/components/schemas/body");
+        Assert.assertEquals(schema(b.getPut().getRequestBody().getContent()).get$ref(), "#/components/schemas/body_1");
+        Assert.assertEquals(schema(b.getPut().getResponses().get("201").getContent()).get$ref(), "#/components/schemas/inline_response_200");
+        final Schema names = schema(openAPI.getPaths().get("/c").getGet().getResponses().get("200").getContent());
+        Assert.assertEquals(((ArraySchema) names).getItems().get$ref(), "#/components/schemas/body");
+    }
+
+    private static Schema named() {
+        return new ObjectSchema().addProperties("name", new StringSchema());
+    }
+
+    private static Schema tag() {
+        return new ObjectSchema().addProperties("id", new IntegerSchema()).addProperties("label", new StringSchema());
+    }
+
+    private static Schema counted() {
+        return new ObjectSchema().addProperties("count", new IntegerSchema());
+    }
+
+    private static RequestBody body(Schema schema) {
+        return new RequestBody().content(new Content().addMediaType("application/json", new MediaType().schema(schema)));
+    }
+
+    private static ApiResponses response(Schema schema) {
+        return new ApiResponses().addApiResponse("200", new ApiResponse().description("ok")
+                .content(new Content().addMediaType("application/json", new MediaType().schema(schema))));
+    }
+
+    private static Schema schema(Content content) {
+        return content.get("application/json").getSchema();
+    }
+}
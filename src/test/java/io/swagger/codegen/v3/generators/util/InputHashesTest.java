@@ -0,0 +1,67 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class InputHashesTest {
+
+    @Test(description = "models depend on their references and on their parents")
+    public void testModelHashes() {
+        final InputHashes hashes = hashes(new StringSchema(), new StringSchema());
+        final InputHashes changedParent = hashes(new IntegerSchema(), new StringSchema());
+        final InputHashes changedOwner = hashes(new StringSchema(), new IntegerSchema());
+
+        Assert.assertEquals(hashes(new StringSchema(), new StringSchema()).getModelHash("Dog"), hashes.getModelHash("Dog"));
+        Assert.assertNotEquals(changedParent.getModelHash("Dog"), hashes.getModelHash("Dog"));
+        Assert.assertNotEquals(changedParent.getModelHash("Pet"), hashes.getModelHash("Pet"));
+        Assert.assertEquals(changedParent.getModelHash("Owner"), hashes.getModelHash("Owner"));
+
+        Assert.assertNotEquals(changedOwner.getModelHash("Dog"), hashes.getModelHash("Dog"));
+        Assert.assertEquals(changedOwner.getModelHash("Pet"), hashes.getModelHash("Pet"));
+    }
+
+    @Test(description = "APIs depend on the models referenced by their operations")
+    public void testApiHashes() {
+        final InputHashes hashes = hashes(new StringSchema(), new StringSchema());
+        final InputHashes changedOwner = hashes(new StringSchema(), new IntegerSchema());
+
+        Assert.assertNotEquals(changedOwner.getApiHash("Owners"), hashes.getApiHash("Owners"));
+        Assert.assertEquals(changedOwner.getApiHash("Pets"), hashes.getApiHash("Pets"));
+        Assert.assertNotEquals(hashes.getApiHash("Pets"), hashes.getApiHash("Owners"));
+    }
+
+    private static InputHashes hashes(Schema petName, Schema ownerName) {
+        final Schema pet = new ObjectSchema()
+                .addProperties("name", petName);
+        final Schema owner = new ObjectSchema()
+                .addProperties("name", ownerName);
+        final Schema dog = new ComposedSchema()
+                .addAllOfItem(new Schema().$ref("#/components/schemas/Pet"))
+                .addAllOfItem(new ObjectSchema().addProperties("owner", new Schema().$ref("#/components/schemas/Owner")));
+        final OpenAPI openAPI = new OpenAPI()
+                .paths(new Paths()
+                        .addPathItem("/pets", new PathItem().get(new Operation().addTagsItem("pets").responses(new ApiResponses())))
+                        .addPathItem("/owners", new PathItem().post(new Operation().addTagsItem("owners")
+                                .responses(new ApiResponses())
+                                .requestBody(new io.swagger.v3.oas.models.parameters.RequestBody().$ref("#/components/requestBodies/Owner")))))
+                .components(new Components()
+                        .addSchemas("Pet", pet)
+                        .addSchemas("Owner", owner)
+                        .addSchemas("Dog", dog)
+                        .addRequestBodies("Owner", new io.swagger.v3.oas.models.parameters.RequestBody()
+                                .content(new io.swagger.v3.oas.models.media.Content().addMediaType("application/json",
+                                        new io.swagger.v3.oas.models.media.MediaType().schema(new Schema().$ref("#/components/schemas/Owner"))))));
+        return new InputHashes(openAPI, tag -> Character.toUpperCase(tag.charAt(0)) + tag.substring(1));
+    }
+}
@@ -0,0 +1,79 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class NameCacheTest {
+
+    @Test(description = "results are memoized per transform and counted")
+    public void testHitsAndMisses() {
+        final NameCache cache = new NameCache();
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, String> upperCase = value -> {
+            calls.incrementAndGet();
+            return value.toUpperCase();
+        };
+
+        Assert.assertEquals(cache.get(NameCache.Transform.MODEL_NAME, "pet", upperCase), "PET");
+        Assert.assertEquals(cache.get(NameCache.Transform.MODEL_NAME, "pet", upperCase), "PET");
+        Assert.assertEquals(cache.get(NameCache.Transform.VAR_NAME, "pet", upperCase), "PET");
+
+        Assert.assertEquals(calls.get(), 2);
+        Assert.assertEquals(cache.getHits(NameCache.Transform.MODEL_NAME), 1);
+        Assert.assertEquals(cache.getMisses(NameCache.Transform.MODEL_NAME), 1);
+        Assert.assertEquals(cache.getMisses(NameCache.Transform.VAR_NAME), 1);
+        Assert.assertEquals(cache.getHitRate(), 1.0 / 3);
+    }
+
+    @Test(description = "two input transforms are keyed by both inputs")
+    public void testQualifiedKey() {
+        final NameCache cache = new NameCache();
+        Assert.assertEquals(cache.get(NameCache.Transform.ENUM_VAR_NAME, "one", "String", (value, type) -> type + value), "Stringone");
+        Assert.assertEquals(cache.get(NameCache.Transform.ENUM_VAR_NAME, "one", "Integer", (value, type) -> type + value), "Integerone");
+        Assert.assertEquals(cache.getMisses(NameCache.Transform.ENUM_VAR_NAME), 2);
+    }
+
+    @Test(description = "least recently used entries are evicted once the cache is full")
+    public void testEviction() {
+        final NameCache cache = new NameCache(2);
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, String> identity = value -> {
+            calls.incrementAndGet();
+            return value;
+        };
+
+        cache.get(NameCache.Transform.MODEL_NAME, "a", identity);
+        cache.get(NameCache.Transform.MODEL_NAME, "b", identity);
+        cache.get(NameCache.Transform.MODEL_NAME, "a", identity);
+        cache.get(NameCache.Transform.MODEL_NAME, "c", identity);
+        Assert.assertEquals(calls.get(), 3);
+
+        cache.get(NameCache.Transform.MODEL_NAME, "a", identity);
+        Assert.assertEquals(calls.get(), 3);
+        cache.get(NameCache.Transform.MODEL_NAME, "b", identity);
+        Assert.assertEquals(calls.get(), 4);
+    }
+
+    @Test(description = "clearing and disabling the cache")
+    public void testClearAndDisable() {
+        final NameCache cache = new NameCache();
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<String, String> identity = value -> {
+            calls.incrementAndGet();
+            return value;
+        };
+
+        cache.get(NameCache.Transform.MODEL_NAME, "a", identity);
+        cache.clear();
+        cache.get(NameCache.Transform.MODEL_NAME, "a", identity);
+        Assert.assertEquals(calls.get(), 2);
+
+        cache.setMaxSize(0);
+        cache.get(NameCache.Transform.MODEL_NAME, "a", identity);
+        cache.get(NameCache.Transform.MODEL_NAME, "a", identity);
+        Assert.assertEquals(calls.get(), 4);
+    }
+}
@@ -0,0 +1,178 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class NameFormatterTest {
+
+    private static final List<String> CORPUS = Arrays.asList(
+            "", "a", "A", "_", "-", ".", "/", "$", " ", "__", "--", "..",
+            "name", "Name", "NAME", "myName", "MyName", "my_name", "my-name", "my name", "my.name", "my/name",
+            "HTTPServer", "getHTTPResponseCode", "XMLHttpRequest", "ABCdefGHIjkl", "a1B2c3", "version2Beta",
+            "io.swagger.model.Pet", "io/swagger/model/Pet", "Outer$Inner", "$special", "value$",
+            "snake_case_name", "_leading", "trailing_", "__double__underscore__", "under_1_digit", "under__Upper",
+            "kebab-case-name", "-leading", "trailing-", "--double--dash", "dash-1-digit", "mixed_case-with.dots/and slashes",
+            "_1_2_3", "a_\nb_1", "x_\n_1", "x_\r_y", "a-\nb", "multi\nline_name", "tab\tseparated_name",
+            "back\\slash_name", "a.b\\c", "\\leading", "pre$fix_name",
+            "stra\u00dfe_name", "\u00c9COLE_\u00e9l\u00e8ve", "\u00f1and\u00fa-p\u00e1jaro", "_\u00df", "-\u00df", "\u0130stanbul_i", "d\u00e9j\u00e0_vu",
+            "\ud801\udc28_deseret", "_\ud801\udc28", "-\ud801\udc28x", "emoji_\ud83d\ude00_face",
+            "INTEGER", "integer", "is_valid", "i_i_i", "-i-i", "iOS", "id", "Id", "ID");
+
+    private static final String ALPHABET = "aAbBiIzZ019_-. /$\\\n\t\u0085\u2028\u00e9\u00df\u0130\u0131\u03a3";
+
+    @Test(description = "camelize matches the regex implementation")
+    public void testCamelize() {
+        for (String word : corpus()) {
+            assertCamelize(word, false);
+            assertCamelize(word, true);
+        }
+    }
+
+    @Test(description = "underscore matches the regex implementation")
+    public void testUnderscore() {
+        for (String word : corpus()) {
+            Assert.assertEquals(NameFormatter.underscore(word), legacyUnderscore(word), "underscore(" + word + ")");
+        }
+    }
+
+    @Test(description = "dashize matches the regex implementation")
+    public void testDashize() {
+        for (String word : corpus()) {
+            Assert.assertEquals(NameFormatter.dashize(word), legacyUnderscore(word).replaceAll("[_ ]", "-"), "dashize(" + word + ")");
+        }
+    }
+
+    @Test(description = "case conversion follows the default locale like the regex implementation")
+    public void testTurkishLocale() {
+        final Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            for (String word : corpus()) {
+                assertCamelize(word, false);
+                assertCamelize(word, true);
+                Assert.assertEquals(NameFormatter.underscore(word), legacyUnderscore(word), "underscore(" + word + ")");
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test(description = "inputs the regex implementation failed on are converted")
+    public void testFormerReplacementFailures() {
+        Assert.assertEquals(NameFormatter.camelize("a/$b", false), "A$b");
+        Assert.assertEquals(NameFormatter.camelize("a-$", false), "A$");
+        Assert.assertEquals(NameFormatter.camelize("name\\", false), "Name\\");
+        Assert.assertEquals(NameFormatter.camelize("name\\$0", false), "Name$0");
+    }
+
+    private static void assertCamelize(String word, boolean lowercaseFirstLetter) {
+        if (word.contains("\\$")) {
+            // the regex version turned an escaped '$' into a group reference of the whole match
+            return;
+        }
+        final String expected;
+        try {
+            expected = legacyCamelize(word, lowercaseFirstLetter);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // the regex version can't handle '$' and '\' in some positions, see testFormerReplacementFailures
+            return;
+        }
+        Assert.assertEquals(NameFormatter.camelize(word, lowercaseFirstLetter), expected,
+                "camelize(" + word + ", " + lowercaseFirstLetter + ")");
+    }
+
+    private static List<String> corpus() {
+        final List<String> corpus = new ArrayList<>(CORPUS);
+        final Random random = new Random(20180901L);
+        for (int count = 0; count < 20000; count++) {
+            final StringBuilder word = new StringBuilder();
+            final int length = random.nextInt(12);
+            for (int index = 0; index < length; index++) {
+                word.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            corpus.add(word.toString());
+        }
+        return corpus;
+    }
+
+    // the regex based implementations NameFormatter replaced, kept verbatim as the reference
+
+    private static String legacyUnderscore(String word) {
+        String firstPattern = "([A-Z]+)([A-Z][a-z])";
+        String secondPattern = "([a-z\\d])([A-Z])";
+        String replacementPattern = "$1_$2";
+        word = word.replaceAll("\\.", "/");
+        word = word.replaceAll("\\$", "__");
+        word = word.replaceAll(firstPattern, replacementPattern);
+        word = word.replaceAll(secondPattern, replacementPattern);
+        word = word.replace('-', '_');
+        word = word.replace(' ', '_');
+        word = word.toLowerCase();
+        return word;
+    }
+
+    private static String legacyCamelize(String word, boolean lowercaseFirstLetter) {
+        Pattern p = Pattern.compile("\\/(.?)");
+        Matcher m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("." + m.group(1));
+            m = p.matcher(word);
+        }
+
+        String[] parts = word.split("\\.");
+        StringBuilder f = new StringBuilder();
+        for (String z : parts) {
+            if (z.length() > 0) {
+                f.append(Character.toUpperCase(z.charAt(0))).append(z.substring(1));
+            }
+        }
+        word = f.toString();
+
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst("" + Character.toUpperCase(m.group(1).charAt(0)) + m.group(1).substring(1));
+            m = p.matcher(word);
+        }
+
+        p = Pattern.compile("(\\.?)(\\w)([^\\.]*)$");
+        m = p.matcher(word);
+        if (m.find()) {
+            String rep = m.group(1) + m.group(2).toUpperCase() + m.group(3);
+            rep = rep.replaceAll("\\$", "\\\\\\$");
+            word = m.replaceAll(rep);
+        }
+
+        p = Pattern.compile("(_)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            String original = m.group(2);
+            String upperCase = original.toUpperCase();
+            if (original.equals(upperCase)) {
+                word = word.replaceFirst("_", "");
+            } else {
+                word = m.replaceFirst(upperCase);
+            }
+            m = p.matcher(word);
+        }
+
+        p = Pattern.compile("(-)(.)");
+        m = p.matcher(word);
+        while (m.find()) {
+            word = m.replaceFirst(m.group(2).toUpperCase());
+            m = p.matcher(word);
+        }
+
+        if (lowercaseFirstLetter && word.length() > 0) {
+            word = word.substring(0, 1).toLowerCase() + word.substring(1);
+        }
+        return word;
+    }
+}
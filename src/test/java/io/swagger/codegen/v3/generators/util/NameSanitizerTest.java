@@ -0,0 +1,105 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+public class NameSanitizerTest {
+
+    private static final List<String> CORPUS = Arrays.asList(
+            "", "name", "input[]", "input[a][b]", "[[]]", "[]]", "[[]", "input(a)(b)", "input.name", "input-name",
+            "input name and age", "$php_variable", "a$b", "tab\tname", "new\nline", "semi;colon", "back\\slash",
+            "caf\u00e9", "na\u00efve-name", "\u00fcber.name", "\u540d\u524d", "emoji\ud83d\ude00name", "lone\ud83dsurrogate",
+            "mark\u0301ed", "enclosed\u20dd", "zero\u200cwidth\u200djoiner", "connector\u203fpunct", "arabic\u0663digit",
+            "roman\u2167numeral", "nbsp\u00a0name", "ideographic\u3000space");
+
+    private static final String ALPHABET = "aZ09_$[]().- \t\n;\\\u00e9\u00fc\u540d\u0301\u200c\u203f\u0663\u2167\u00a0\ud83d\ude00";
+
+    @Test(description = "sanitizeName matches the regex implementation in ASCII mode")
+    public void testSanitizeName() {
+        for (String name : corpus()) {
+            Assert.assertEquals(NameSanitizer.sanitizeName(name, false), legacySanitizeName(name, false), "sanitizeName(" + name + ")");
+        }
+    }
+
+    @Test(description = "sanitizeName matches the regex implementation in unicode mode")
+    public void testSanitizeNameUnicode() {
+        for (String name : corpus()) {
+            Assert.assertEquals(NameSanitizer.sanitizeName(name, true), legacySanitizeName(name, true), "sanitizeName(" + name + ")");
+        }
+    }
+
+    @Test(description = "sanitizeVarName matches the regex implementation")
+    public void testSanitizeVarName() {
+        for (String name : corpus()) {
+            Assert.assertEquals(NameSanitizer.sanitizeVarName(name), legacySanitizeVarName(name), "sanitizeVarName(" + name + ")");
+        }
+    }
+
+    @Test(description = "name checks match the regular expressions they replace")
+    public void testNameChecks() {
+        final List<String> names = new ArrayList<>(corpus());
+        names.addAll(Arrays.asList("PET_ID", "_", "1abc", "1", "1\n", "1a\u2028b", "a1"));
+        for (String name : names) {
+            Assert.assertEquals(NameSanitizer.isUpperCaseName(name), name.matches("^[A-Z_]*$"), "isUpperCaseName(" + name + ")");
+            Assert.assertEquals(NameSanitizer.startsWithDigit(name), name.matches("^\\d.*"), "startsWithDigit(" + name + ")");
+        }
+    }
+
+    @Test(description = "clean names are returned as they are")
+    public void testCleanNameIsNotCopied() {
+        final String name = "already_clean_Name1";
+        Assert.assertSame(NameSanitizer.sanitizeName(name, false), name);
+        Assert.assertSame(NameSanitizer.sanitizeVarName(name), name);
+    }
+
+    private static List<String> corpus() {
+        final List<String> corpus = new ArrayList<>(CORPUS);
+        final Random random = new Random(20180901L);
+        for (int count = 0; count < 20000; count++) {
+            final StringBuilder name = new StringBuilder();
+            final int length = random.nextInt(12);
+            for (int index = 0; index < length; index++) {
+                name.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            corpus.add(name.toString());
+        }
+        return corpus;
+    }
+
+    // the regex based implementations NameSanitizer replaced, kept as the reference
+
+    private static String legacySanitizeName(String name, boolean allowUnicodeIdentifiers) {
+        name = name.replaceAll("\\[\\]", "");
+        name = name.replaceAll("\\[", "_");
+        name = name.replaceAll("\\]", "");
+        name = name.replaceAll("\\(", "_");
+        name = name.replaceAll("\\)", "");
+        name = name.replaceAll("\\.", "_");
+        name = name.replaceAll("-", "_");
+        name = name.replaceAll(" ", "_");
+        if (allowUnicodeIdentifiers) {
+            name = Pattern.compile("\\W", Pattern.UNICODE_CHARACTER_CLASS).matcher(name).replaceAll("");
+        } else {
+            name = name.replaceAll("\\W", "");
+        }
+        return name;
+    }
+
+    private static String legacySanitizeVarName(String name) {
+        name = name.replaceAll("\\[\\]", "");
+        name = name.replaceAll("\\[", "_")
+                .replaceAll("\\]", "")
+                .replaceAll("\\(", "_")
+                .replaceAll("\\)", "")
+                .replaceAll("\\.", "_")
+                .replaceAll("-", "_")
+                .replaceAll(" ", "_");
+        return name.replaceAll("\\W-[\\$]", "");
+    }
+}
@@ -0,0 +1,79 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenOperation;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class OperationIdIndexTest {
+
+    private static final List<String> IDS = Arrays.asList("getPet", "getPet_0", "getPet_1", "getPet_0_0", "addPet", "addPet_1");
+
+    @Test(description = "unique names match the scan of the whole group")
+    public void testUniqueName() {
+        final Random random = new Random(20181005L);
+        for (int run = 0; run < 200; run++) {
+            final List<CodegenOperation> operations = new ArrayList<>();
+            final OperationIdIndex index = new OperationIdIndex(operations);
+            for (int count = 0; count < 100; count++) {
+                final String operationId = IDS.get(random.nextInt(IDS.size()));
+                final String uniqueName = index.uniqueName(operationId);
+                Assert.assertEquals(uniqueName, legacyUniqueName(operationId, operations), "unique name of " + operationId);
+                // groups may also contain duplicates, e.g. added by generators grouping by path
+                final CodegenOperation operation = operation(random.nextInt(5) == 0 ? operationId : uniqueName);
+                operations.add(operation);
+                index.add(operation);
+                Assert.assertTrue(index.isIndexOf(operations));
+            }
+        }
+    }
+
+    @Test(description = "the names of an existing group are indexed")
+    public void testExistingGroup() {
+        final List<CodegenOperation> operations = new ArrayList<>(Arrays.asList(
+                operation("getPet_0"), operation("getPet"), operation("getPet_0")));
+        final OperationIdIndex index = new OperationIdIndex(operations);
+        Assert.assertEquals(index.uniqueName("getPet"), legacyUniqueName("getPet", operations));
+        Assert.assertEquals(index.uniqueName("addPet"), "addPet");
+    }
+
+    @Test(description = "changes made without the index are detected")
+    public void testChangedGroup() {
+        final List<CodegenOperation> operations = new ArrayList<>();
+        final OperationIdIndex index = new OperationIdIndex(operations);
+        final CodegenOperation operation = operation("getPet");
+        operations.add(operation);
+        index.add(operation);
+
+        operations.add(operation("getPet"));
+        Assert.assertFalse(index.isIndexOf(operations));
+        Assert.assertFalse(index.isIndexOf(new ArrayList<>(operations)));
+
+        operations.remove(1);
+        operation.operationId = "addPet";
+        Assert.assertNull(index.uniqueName("getPet"));
+    }
+
+    private static CodegenOperation operation(String operationId) {
+        final CodegenOperation operation = new CodegenOperation();
+        operation.operationId = operationId;
+        return operation;
+    }
+
+    // the scan OperationIdIndex replaced in DefaultCodegenConfig.addOperationToGroup
+    private static String legacyUniqueName(String operationId, List<CodegenOperation> opList) {
+        String uniqueName = operationId;
+        int counter = 0;
+        for (CodegenOperation op : opList) {
+            if (uniqueName.equals(op.operationId)) {
+                uniqueName = operationId + "_" + counter;
+                counter++;
+            }
+        }
+        return uniqueName;
+    }
+}
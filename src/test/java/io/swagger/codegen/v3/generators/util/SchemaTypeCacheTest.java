@@ -0,0 +1,132 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.generators.java.JavaClientCodegen;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class SchemaTypeCacheTest {
+
+    @Test(description = "resolutions are memoized per schema object, not per equal schema")
+    public void testIdentity() {
+        final SchemaTypeCache cache = new SchemaTypeCache();
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Schema, String> type = schema -> {
+            calls.incrementAndGet();
+            return schema.getType();
+        };
+        final Schema first = new StringSchema();
+        final Schema second = new StringSchema();
+
+        Assert.assertEquals(cache.get(SchemaTypeCache.Resolution.SCHEMA_TYPE, first, type), "string");
+        Assert.assertEquals(cache.get(SchemaTypeCache.Resolution.SCHEMA_TYPE, first, type), "string");
+        Assert.assertEquals(cache.get(SchemaTypeCache.Resolution.SCHEMA_TYPE, second, type), "string");
+        Assert.assertEquals(cache.get(SchemaTypeCache.Resolution.TYPE_DECLARATION, first, type), "string");
+
+        Assert.assertEquals(calls.get(), 3);
+        Assert.assertEquals(cache.getHits(), 1);
+        Assert.assertEquals(cache.getMisses(), 3);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test(description = "null results are memoized, null schemas are not")
+    public void testNull() {
+        final SchemaTypeCache cache = new SchemaTypeCache();
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Schema, String> none = schema -> {
+            calls.incrementAndGet();
+            return null;
+        };
+        final Schema schema = new Schema();
+
+        Assert.assertNull(cache.get(SchemaTypeCache.Resolution.DEFAULT_VALUE, schema, none));
+        Assert.assertNull(cache.get(SchemaTypeCache.Resolution.DEFAULT_VALUE, schema, none));
+        Assert.assertNull(cache.get(SchemaTypeCache.Resolution.DEFAULT_VALUE, null, none));
+        Assert.assertNull(cache.get(SchemaTypeCache.Resolution.DEFAULT_VALUE, null, none));
+        Assert.assertEquals(calls.get(), 3);
+    }
+
+    @Test(description = "clearing and disabling the cache")
+    public void testClearAndDisable() {
+        final SchemaTypeCache cache = new SchemaTypeCache();
+        final AtomicInteger calls = new AtomicInteger();
+        final Function<Schema, String> type = schema -> {
+            calls.incrementAndGet();
+            return schema.getType();
+        };
+        final Schema schema = new StringSchema();
+
+        cache.get(SchemaTypeCache.Resolution.SCHEMA_TYPE, schema, type);
+        cache.clear();
+        cache.get(SchemaTypeCache.Resolution.SCHEMA_TYPE, schema, type);
+        Assert.assertEquals(calls.get(), 2);
+
+        cache.setEnabled(false);
+        cache.get(SchemaTypeCache.Resolution.SCHEMA_TYPE, schema, type);
+        cache.get(SchemaTypeCache.Resolution.SCHEMA_TYPE, schema, type);
+        Assert.assertEquals(calls.get(), 4);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test(description = "threads resolving the same schemas get the same results")
+    public void testConcurrentLookups() throws Exception {
+        final SchemaTypeCache cache = new SchemaTypeCache();
+        final List<Schema> schemas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            schemas.add(new StringSchema().format("f" + i));
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int round = 0; round < 100; round++) {
+                        for (Schema schema : schemas) {
+                            if (!schema.getFormat().equals(cache.get(SchemaTypeCache.Resolution.SCHEMA_TYPE, schema, Schema::getFormat))) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                Assert.assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(cache.size(), 100);
+        Assert.assertEquals(cache.getHits() + cache.getMisses(), 40000);
+    }
+
+    @Test(description = "nested arrays are resolved once per level")
+    public void testNestedArrays() {
+        final AtomicInteger calls = new AtomicInteger();
+        final JavaClientCodegen codegen = new JavaClientCodegen() {
+            @Override
+            public String getTypeDeclaration(Schema propertySchema) {
+                calls.incrementAndGet();
+                return super.getTypeDeclaration(propertySchema);
+            }
+        };
+        Schema schema = new StringSchema();
+        for (int i = 0; i < 5; i++) {
+            schema = new ArraySchema().items(schema);
+        }
+
+        Assert.assertEquals(codegen.fromProperty("matrix", schema).datatype,
+                "List<List<List<List<List<String>>>>>");
+        Assert.assertEquals(calls.get(), 6);
+    }
+}
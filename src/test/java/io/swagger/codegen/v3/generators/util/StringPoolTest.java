@@ -0,0 +1,40 @@
+package io.swagger.codegen.v3.generators.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class StringPoolTest {
+
+    @Test(description = "equal strings share the first instance")
+    public void testPool() {
+        final StringPool pool = new StringPool();
+        final String first = new String("List<String>");
+        final String second = new String("List<String>");
+
+        Assert.assertSame(pool.get(first), first);
+        Assert.assertSame(pool.get(second), first);
+        Assert.assertSame(pool.get(first), first);
+        Assert.assertNull(pool.get(null));
+
+        Assert.assertEquals(pool.size(), 1);
+        Assert.assertEquals(pool.getDuplicates(), 1);
+        // 24 bytes of String, 16 + 12 bytes of array aligned to 32
+        Assert.assertEquals(pool.getSavedBytes(), 56);
+    }
+
+    @Test(description = "clearing and disabling the pool")
+    public void testClearAndDisable() {
+        final StringPool pool = new StringPool();
+        final String first = new String("getName");
+        final String second = new String("getName");
+
+        pool.get(first);
+        pool.clear();
+        Assert.assertSame(pool.get(second), second);
+        Assert.assertEquals(pool.getDuplicates(), 0);
+
+        pool.setEnabled(false);
+        Assert.assertSame(pool.get(first), first);
+        Assert.assertEquals(pool.size(), 0);
+    }
+}
@@ -0,0 +1,77 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.generators.util.TextEscaper.UnsafeCharacters;
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Random;
+
+public class TextEscaperTest {
+
+    private static final String[] SAMPLES = {
+        "",
+        "plain text",
+        "tab\tnew line\ncarriage return\r\n",
+        "quotes \" and 'single' quotes",
+        "backslash \\ and \\\\ two",
+        "path\\/with\\\\/slashes\\\\\\/",
+        "trailing backslash \\",
+        "unicode \\u0041 escape and octal \\101",
+        "multi-byte éè 中文 😀 and \u0001 control \b\f",
+        "/* comment */ and /*/ and */* and **// and //**",
+        "*\\/ hidden comment end"
+    };
+
+    private static final char[] ALPHABET = {'a', ' ', '\\', '/', '*', '"', '\'', '\t', '\n', '\r', 'u', '0', '7', 'é'};
+
+    @Test(description = "escaping gives the same output as the escapeJava/unescapeJava round trip")
+    public void testSamples() {
+        for (String sample : SAMPLES) {
+            for (UnsafeCharacters unsafeCharacters : UnsafeCharacters.values()) {
+                Assert.assertEquals(TextEscaper.escapeText(sample, unsafeCharacters), legacyEscapeText(sample, unsafeCharacters), sample);
+            }
+        }
+    }
+
+    @Test(description = "escaping gives the same output as the round trip for random text")
+    public void testRandom() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10000; i++) {
+            final char[] text = new char[random.nextInt(12)];
+            for (int j = 0; j < text.length; j++) {
+                text[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+            }
+            final String sample = new String(text);
+            for (UnsafeCharacters unsafeCharacters : UnsafeCharacters.values()) {
+                Assert.assertEquals(TextEscaper.escapeText(sample, unsafeCharacters), legacyEscapeText(sample, unsafeCharacters), sample);
+            }
+        }
+    }
+
+    @Test(description = "unsafe characters alone")
+    public void testEscapeUnsafeCharacters() {
+        Assert.assertEquals(TextEscaper.escapeUnsafeCharacters("/* a */", UnsafeCharacters.COMMENT_DELIMITERS), "/_* a *_/");
+        Assert.assertEquals(TextEscaper.escapeUnsafeCharacters("/* a */", UnsafeCharacters.COMMENT_END), "/* a ");
+        Assert.assertEquals(TextEscaper.escapeUnsafeCharacters("/* a */", UnsafeCharacters.NONE), "/* a */");
+        Assert.assertNull(TextEscaper.escapeUnsafeCharacters(null, UnsafeCharacters.COMMENT_DELIMITERS));
+        Assert.assertNull(TextEscaper.escapeText(null, UnsafeCharacters.COMMENT_DELIMITERS));
+    }
+
+    private static String legacyEscapeText(String input, UnsafeCharacters unsafeCharacters) {
+        final String escaped = StringEscapeUtils.unescapeJava(
+                StringEscapeUtils.escapeJava(input)
+                        .replace("\\/", "/"))
+                .replaceAll("[\\t\\n\\r]", " ")
+                .replace("\\", "\\\\")
+                .replace("\"", "\\\"");
+        switch (unsafeCharacters) {
+            case COMMENT_DELIMITERS:
+                return escaped.replace("*/", "*_/").replace("/*", "/_*");
+            case COMMENT_END:
+                return escaped.replace("*/", "");
+            default:
+                return escaped;
+        }
+    }
+}
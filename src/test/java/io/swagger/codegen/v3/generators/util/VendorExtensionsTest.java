@@ -0,0 +1,93 @@
+package io.swagger.codegen.v3.generators.util;
+
+import io.swagger.codegen.v3.CodegenConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class VendorExtensionsTest {
+
+    private static final List<String> NAMES = Arrays.asList(CodegenConstants.IS_ENUM_EXT_NAME,
+            CodegenConstants.HAS_MORE_EXT_NAME, CodegenConstants.IS_STRING_EXT_NAME, "x-custom-flag");
+
+    @Test(description = "well known flags are indexed, other extensions aren't")
+    public void testFlags() {
+        Assert.assertTrue(VendorExtensions.flag(CodegenConstants.IS_ENUM_EXT_NAME).getIndex() >= 0);
+        Assert.assertSame(VendorExtensions.flag(CodegenConstants.IS_ENUM_EXT_NAME), VendorExtensions.flag("x-is-enum"));
+        Assert.assertEquals(VendorExtensions.flag("x-custom-flag").getIndex(), -1);
+    }
+
+    @Test(description = "flags follow every change of the map")
+    public void testFlagsFollowChanges() {
+        final VendorExtensions extensions = new VendorExtensions();
+        extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.TRUE);
+        extensions.put(CodegenConstants.HAS_MORE_EXT_NAME, "true");
+        extensions.put("x-custom-flag", "TRUE");
+        assertFlags(extensions);
+
+        extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, Boolean.FALSE);
+        extensions.merge(CodegenConstants.HAS_MORE_EXT_NAME, "false", (previous, value) -> value);
+        assertFlags(extensions);
+
+        extensions.computeIfAbsent(CodegenConstants.IS_STRING_EXT_NAME, name -> true);
+        extensions.replaceAll((name, value) -> Boolean.TRUE);
+        assertFlags(extensions);
+
+        for (Map.Entry<String, Object> entry : extensions.entrySet()) {
+            entry.setValue(Boolean.FALSE);
+        }
+        assertFlags(extensions);
+
+        extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, true);
+        extensions.keySet().remove(CodegenConstants.IS_STRING_EXT_NAME);
+        for (Iterator<String> names = extensions.keySet().iterator(); names.hasNext(); ) {
+            if (names.next().equals(CodegenConstants.IS_ENUM_EXT_NAME)) {
+                names.remove();
+            }
+        }
+        assertFlags(extensions);
+
+        extensions.putAll(new HashMap<>(extensions));
+        extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, true);
+        final VendorExtensions clone = (VendorExtensions) extensions.clone();
+        extensions.clear();
+        assertFlags(extensions);
+        assertFlags(clone);
+        Assert.assertTrue(clone.getBooleanValue(CodegenConstants.IS_ENUM_EXT_NAME));
+    }
+
+    @Test(description = "values other than booleans and strings are resolved on every lookup")
+    public void testObjectValues() {
+        final VendorExtensions extensions = new VendorExtensions();
+        final StringBuilder value = new StringBuilder("false");
+        extensions.put(CodegenConstants.IS_ENUM_EXT_NAME, value);
+        Assert.assertFalse(extensions.getBooleanValue(CodegenConstants.IS_ENUM_EXT_NAME));
+        value.replace(0, value.length(), "true");
+        Assert.assertTrue(extensions.getBooleanValue(CodegenConstants.IS_ENUM_EXT_NAME));
+    }
+
+    @Test(description = "the map is a regular map otherwise")
+    public void testMap() {
+        final Map<String, Object> map = new HashMap<>();
+        map.put("x-custom", Arrays.asList("a", "b"));
+        map.put(CodegenConstants.IS_ENUM_EXT_NAME, true);
+        final VendorExtensions extensions = new VendorExtensions(map);
+        Assert.assertEquals(extensions, map);
+        Assert.assertEquals(map, extensions);
+        Assert.assertEquals(extensions.hashCode(), map.hashCode());
+        Assert.assertEquals(extensions.toString(), map.toString());
+        Assert.assertEquals(new HashMap<>(extensions), map);
+    }
+
+    private static void assertFlags(VendorExtensions extensions) {
+        for (String name : NAMES) {
+            final Object value = extensions.get(name);
+            Assert.assertEquals(extensions.getBooleanValue(name), value != null && Boolean.parseBoolean(value.toString()), name);
+        }
+    }
+}